@@ -0,0 +1,79 @@
+package io.github.finoid.bank.domain;
+
+import io.github.finoid.bank.domain.benchmarks.AccountDataset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the checksum algorithms of {@link MathUtils} over the digits of valid accounts from every bank.
+ * <p>
+ * {@link MathUtils} is package-private, so this benchmark lives in its package. The benchmark module is not a named
+ * module, which lets it share the package with the core module on the class path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MathUtilsBenchmark {
+    private static final int DATASET_SIZE = 4096;
+
+    private String[] accountDigits = new String[0];
+    private long[] accountNumbers = new long[0];
+    private String[] clearingAndAccountDigits = new String[0];
+
+    @Setup
+    public void setup() {
+        final List<BankAccountNumber> accounts = AccountDataset.validAccounts(DATASET_SIZE, 42);
+
+        accountDigits = new String[DATASET_SIZE];
+        accountNumbers = new long[DATASET_SIZE];
+        clearingAndAccountDigits = new String[DATASET_SIZE];
+
+        for (int i = 0; i < DATASET_SIZE; i++) {
+            final BankAccountNumber account = accounts.get(i);
+
+            accountDigits[i] = account.getAccountNumber().getNumber();
+            accountNumbers[i] = Long.parseLong(accountDigits[i]);
+            clearingAndAccountDigits[i] = account.getClearingNumber().getClearingNumber() + accountDigits[i];
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DATASET_SIZE)
+    public void isMod10String(final Blackhole blackhole) {
+        for (final String digits : accountDigits) {
+            blackhole.consume(MathUtils.isMod10(digits));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DATASET_SIZE)
+    public void isMod10Long(final Blackhole blackhole) {
+        for (final long number : accountNumbers) {
+            blackhole.consume(MathUtils.isMod10(number));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DATASET_SIZE)
+    public void isMod11String(final Blackhole blackhole) {
+        for (final String digits : clearingAndAccountDigits) {
+            blackhole.consume(MathUtils.isMod11(digits));
+        }
+    }
+}
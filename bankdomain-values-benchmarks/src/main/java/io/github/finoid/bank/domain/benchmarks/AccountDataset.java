@@ -0,0 +1,179 @@
+package io.github.finoid.bank.domain.benchmarks;
+
+import io.github.finoid.bank.domain.BankAccountFormatter;
+import io.github.finoid.bank.domain.BankAccountNumber;
+import io.github.finoid.bank.domain.BankAccountSubType;
+import io.github.finoid.bank.domain.BankAccountType;
+import io.github.finoid.bank.domain.BankType;
+import io.github.finoid.bank.domain.IntRange;
+import io.github.finoid.bank.domain.IntRanges;
+import io.github.finoid.generated.bank.domain.Bank;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic benchmark datasets of bank account numbers, drawn evenly from every generated {@link Bank}.
+ * <p>
+ * Each account is built from a clearing number within the bank's ranges and random account digits, after which the
+ * check digit (and sort digit for the 8-series) is searched for so the account passes validation.
+ */
+public final class AccountDataset {
+    private static final int MAX_ATTEMPTS_PER_BANK = 100;
+    private static final String UNKNOWN_CLEARING_NUMBER = "1000";
+
+    private AccountDataset() {
+    }
+
+    /**
+     * Creates valid bank account numbers, with every bank equally represented, in random order.
+     *
+     * @param size the number of accounts
+     * @param seed the random seed
+     * @return the valid bank account numbers
+     */
+    public static List<BankAccountNumber> validAccounts(final int size, final long seed) {
+        final Random random = new Random(seed);
+        final List<BankClearingNumbers> banks = clearingNumbersPerBank();
+        final List<BankAccountNumber> accounts = new ArrayList<>(size);
+
+        for (int i = 0; accounts.size() < size; i++) {
+            final BankClearingNumbers bank = banks.get(i % banks.size());
+
+            for (int attempt = 0; attempt < MAX_ATTEMPTS_PER_BANK; attempt++) {
+                @Nullable
+                final BankAccountNumber account = bank.randomAccount(random);
+
+                if (account != null) {
+                    accounts.add(account);
+                    break;
+                }
+            }
+        }
+
+        Collections.shuffle(accounts, random);
+
+        return accounts;
+    }
+
+    /**
+     * Creates raw inputs as they would arrive from users, half plain digits and half in the {@link BankAccountFormatter.Format#PRETTY} format, of which the given
+     * share is invalid. Invalid inputs are spread over checksum failures, unknown clearing numbers, too short inputs
+     * and text without digits.
+     *
+     * @param size           the number of inputs
+     * @param invalidPercent the share of invalid inputs, between 0 and 100
+     * @param seed           the random seed
+     * @return the raw inputs
+     */
+    public static String[] rawInputs(final int size, final int invalidPercent, final long seed) {
+        final Random random = new Random(seed);
+        final List<BankAccountNumber> accounts = validAccounts(size, seed);
+        final String[] inputs = new String[size];
+
+        for (int i = 0; i < size; i++) {
+            final BankAccountNumber account = accounts.get(i);
+            final String plain = digitsOf(account);
+
+            if (random.nextInt(100) < invalidPercent) {
+                inputs[i] = invalidInput(plain, random);
+            } else {
+                inputs[i] = random.nextBoolean() ? plain : account.toFormatted(BankAccountFormatter.Format.PRETTY);
+            }
+        }
+
+        return inputs;
+    }
+
+    /**
+     * Returns the clearing number, including any sort digit, followed by the account number, without separators.
+     *
+     * @param account the bank account number
+     * @return the digits of the bank account number
+     */
+    public static String digitsOf(final BankAccountNumber account) {
+        return account.getClearingNumber().toInt() + account.getAccountNumber().getNumber();
+    }
+
+    private static String invalidInput(final String plain, final Random random) {
+        return switch (random.nextInt(4)) {
+            case 0 -> UNKNOWN_CLEARING_NUMBER + plain.substring(4);
+            case 1 -> plain.substring(0, 4);
+            case 2 -> "not an account";
+            default -> {
+                // Any change of the check digit fails both mod10 and mod11
+                final int checkDigit = plain.charAt(plain.length() - 1) - '0';
+                yield plain.substring(0, plain.length() - 1) + (checkDigit + 1) % 10;
+            }
+        };
+    }
+
+    private static List<BankClearingNumbers> clearingNumbersPerBank() {
+        final List<BankClearingNumbers> banks = new ArrayList<>();
+
+        for (final Bank bank : Bank.values()) {
+            final List<ClearingNumberOfType> clearingNumbers = new ArrayList<>();
+
+            for (final BankType type : bank.getTypes()) {
+                for (final IntRanges ranges : type.getCheckNumberRanges()) {
+                    for (final IntRange range : ranges.getRanges()) {
+                        for (int clearing = range.getStart(); clearing <= range.getEnd(); clearing++) {
+                            clearingNumbers.add(new ClearingNumberOfType(clearing, type));
+                        }
+                    }
+                }
+            }
+
+            if (!clearingNumbers.isEmpty()) {
+                banks.add(new BankClearingNumbers(clearingNumbers));
+            }
+        }
+
+        return banks;
+    }
+
+    private record ClearingNumberOfType(int clearingNumber, BankType type) {
+        /**
+         * The number of account digits the checksum of the type covers, including the check digit.
+         */
+        int accountLength() {
+            if (type.getType() == BankAccountType.ONE) {
+                return 7;
+            }
+
+            return type.getSubType() == BankAccountSubType.TWO ? 9 : 10;
+        }
+    }
+
+    private record BankClearingNumbers(List<ClearingNumberOfType> clearingNumbers) {
+        @Nullable
+        BankAccountNumber randomAccount(final Random random) {
+            final ClearingNumberOfType clearing = clearingNumbers.get(random.nextInt(clearingNumbers.size()));
+            final boolean hasSortingDigit = clearing.clearingNumber() / 1000 == 8;
+
+            final StringBuilder digits = new StringBuilder();
+            for (int i = 0; i < clearing.accountLength() - 1; i++) {
+                digits.append(random.nextInt(10));
+            }
+            final String accountPrefix = digits.toString();
+
+            for (int sortingDigit = 0; sortingDigit <= (hasSortingDigit ? 9 : 0); sortingDigit++) {
+                final String clearingPart = hasSortingDigit ? clearing.clearingNumber() + String.valueOf(sortingDigit)
+                    : String.valueOf(clearing.clearingNumber());
+
+                for (int checkDigit = 0; checkDigit <= 9; checkDigit++) {
+                    final String candidate = clearingPart + accountPrefix + checkDigit;
+
+                    if (BankAccountNumber.isValid(candidate)) {
+                        return BankAccountNumber.ofString(candidate);
+                    }
+                }
+            }
+
+            return null;
+        }
+    }
+}
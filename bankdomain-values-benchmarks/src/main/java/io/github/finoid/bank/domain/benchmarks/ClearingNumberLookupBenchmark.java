@@ -0,0 +1,131 @@
+package io.github.finoid.bank.domain.benchmarks;
+
+import io.github.finoid.bank.domain.BankAndType;
+import io.github.finoid.bank.domain.BankType;
+import io.github.finoid.bank.domain.ClearingNumber;
+import io.github.finoid.bank.domain.IntRange;
+import io.github.finoid.bank.domain.IntRanges;
+import io.github.finoid.generated.bank.domain.Bank;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the generated dense clearing number table behind {@link BankAndType#findByClearingNumber(ClearingNumber)}
+ * with the nested scan over {@link Bank#values()} it replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ClearingNumberLookupBenchmark {
+    private static final int DATASET_SIZE = 4096;
+
+    private ClearingNumber[] clearingNumbers = new ClearingNumber[0];
+    private LegacyBankType[][] legacyBanks = new LegacyBankType[0][];
+
+    @Setup
+    public void setup() {
+        final List<Integer> known = new ArrayList<>();
+        final Bank[] banks = Bank.values();
+        legacyBanks = new LegacyBankType[banks.length][];
+
+        for (int i = 0; i < banks.length; i++) {
+            final List<LegacyBankType> legacyTypes = new ArrayList<>();
+
+            for (final BankType type : banks[i].getTypes()) {
+                final Set<Set<IntRange>> legacyRanges = new LinkedHashSet<>();
+
+                for (final IntRanges ranges : type.getCheckNumberRanges()) {
+                    legacyRanges.add(ranges.getRanges());
+
+                    for (final IntRange range : ranges.getRanges()) {
+                        for (int clearing = range.getStart(); clearing <= range.getEnd(); clearing++) {
+                            known.add(clearing);
+                        }
+                    }
+                }
+
+                legacyTypes.add(new LegacyBankType(banks[i], type, legacyRanges));
+            }
+
+            legacyBanks[i] = legacyTypes.toArray(new LegacyBankType[0]);
+        }
+
+        final Random random = new Random(42);
+        clearingNumbers = new ClearingNumber[DATASET_SIZE];
+        for (int i = 0; i < DATASET_SIZE; i++) {
+            clearingNumbers[i] = ClearingNumber.ofNumber(known.get(random.nextInt(known.size())));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DATASET_SIZE)
+    public void denseTable(final Blackhole blackhole) {
+        for (final ClearingNumber clearingNumber : clearingNumbers) {
+            blackhole.consume(BankAndType.findByClearingNumber(clearingNumber));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DATASET_SIZE)
+    public void nestedScan(final Blackhole blackhole) {
+        for (final ClearingNumber clearingNumber : clearingNumbers) {
+            blackhole.consume(nestedScan(clearingNumber));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DATASET_SIZE)
+    public void bankOfClearingNumber(final Blackhole blackhole) {
+        for (final ClearingNumber clearingNumber : clearingNumbers) {
+            blackhole.consume(Bank.ofClearingNumber(clearingNumber));
+        }
+    }
+
+    /**
+     * The former {@link BankAndType#findByClearingNumber(ClearingNumber)} implementation, kept as the baseline. The
+     * range checks are those of the former {@code BankType} and {@code IntRanges}, nested streams over sets of ranges.
+     */
+    private Optional<BankAndType> nestedScan(final ClearingNumber clearingNumber) {
+        for (final LegacyBankType[] types : legacyBanks) {
+            for (final LegacyBankType type : types) {
+                if (type.isWithinRange(clearingNumber.getClearingNumber())) {
+                    return Optional.of(new BankAndType(type.bank(), type.type()));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * A bank type with its clearing number ranges held as sets, as the former {@code BankType} and {@code IntRanges}
+     * held them.
+     */
+    private record LegacyBankType(Bank bank, BankType type, Set<Set<IntRange>> checkNumberRanges) {
+        boolean isWithinRange(final int number) {
+            return checkNumberRanges.stream()
+                .anyMatch(ranges -> ranges.stream()
+                    .anyMatch(range -> range.isWithinRange(number)));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.finoid.bank.domain.benchmarks;
+
+import io.github.finoid.bank.domain.BankAccountFormatter;
+import io.github.finoid.bank.domain.BankAccountNumber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link BankAccountFormatter#format(BankAccountNumber, BankAccountFormatter.Format)} over valid accounts
+ * from every bank, in each {@link BankAccountFormatter.Format}, into new strings and into a reused buffer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FormatBenchmark {
+    private static final int DATASET_SIZE = 4096;
+
+    @Param
+    private BankAccountFormatter.Format format = BankAccountFormatter.Format.DEFAULT;
+
+    private BankAccountNumber[] accounts = new BankAccountNumber[0];
+    private final char[] buffer = new char[64];
+
+    @Setup
+    public void setup() {
+        accounts = AccountDataset.validAccounts(DATASET_SIZE, 42).toArray(BankAccountNumber[]::new);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DATASET_SIZE)
+    public void format(final Blackhole blackhole) {
+        for (final BankAccountNumber account : accounts) {
+            blackhole.consume(BankAccountFormatter.format(account, format));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DATASET_SIZE)
+    public void formatToCharArray(final Blackhole blackhole) {
+        for (final BankAccountNumber account : accounts) {
+            blackhole.consume(BankAccountFormatter.formatTo(account, format, buffer, 0));
+        }
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    @OperationsPerInvocation(DATASET_SIZE)
+    public void formatAllThreads(final Blackhole blackhole) {
+        format(blackhole);
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.finoid.bank.domain.benchmarks;
+
+import io.github.finoid.bank.domain.BankAccountNumber;
+import io.github.finoid.bank.domain.Ibans;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link BankAccountNumber#toIban()} over valid accounts from every bank, into new strings and into a reused
+ * buffer, against the check digits of the same BBANs computed with {@link BigInteger}, and parsing the IBANs back with
+ * {@link BankAccountNumber#ofIban(CharSequence)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class IbanBenchmark {
+    private static final int DATASET_SIZE = 4096;
+    private static final BigInteger NINETY_SEVEN = BigInteger.valueOf(97);
+
+    private BankAccountNumber[] accounts = new BankAccountNumber[0];
+    private String[] bbans = new String[0];
+    private String[] ibans = new String[0];
+    private final char[] buffer = new char[Ibans.LENGTH];
+
+    @Setup
+    public void setup() {
+        accounts = AccountDataset.validAccounts(DATASET_SIZE, 42).toArray(BankAccountNumber[]::new);
+        bbans = new String[accounts.length];
+        ibans = new String[accounts.length];
+
+        for (int i = 0; i < accounts.length; i++) {
+            ibans[i] = accounts[i].toIban();
+            bbans[i] = ibans[i].substring(4);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DATASET_SIZE)
+    public void toIban(final Blackhole blackhole) {
+        for (final BankAccountNumber account : accounts) {
+            blackhole.consume(account.toIban());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DATASET_SIZE)
+    public void writeIbanToCharArray(final Blackhole blackhole) {
+        for (final BankAccountNumber account : accounts) {
+            Ibans.writeIban(account, buffer, 0);
+            blackhole.consume(buffer);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DATASET_SIZE)
+    public void ofIban(final Blackhole blackhole) {
+        for (final String iban : ibans) {
+            blackhole.consume(BankAccountNumber.ofIban(iban));
+        }
+    }
+
+    /**
+     * The textbook check digits of a precomputed BBAN, rearranged with {@code SE00} into a string and reduced with
+     * {@code BigInteger}.
+     */
+    @Benchmark
+    @OperationsPerInvocation(DATASET_SIZE)
+    public void checkDigitsWithBigInteger(final Blackhole blackhole) {
+        for (final String bban : bbans) {
+            final int checkDigits = 98 - new BigInteger(bban + "281400").mod(NINETY_SEVEN).intValue();
+
+            blackhole.consume("SE" + (checkDigits < 10 ? "0" : "") + checkDigits + bban);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package io.github.finoid.bank.domain.benchmarks;
+
+import io.github.finoid.bank.domain.BankAccountFormatter;
+import io.github.finoid.bank.domain.BankAccountNumber;
+import io.github.finoid.bank.domain.IllegalNumberBankDomainException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the factories of {@link BankAccountNumber} over valid accounts from every bank.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ParseBenchmark {
+    private static final int DATASET_SIZE = 4096;
+
+    private String[] plainInputs = new String[0];
+    private String[] prettyInputs = new String[0];
+    private long[] numbers = new long[0];
+    private int[] clearingNumbers = new int[0];
+    private int[] accountNumbers = new int[0];
+
+    @Setup
+    public void setup() {
+        final List<BankAccountNumber> accounts = AccountDataset.validAccounts(DATASET_SIZE, 42);
+
+        plainInputs = new String[DATASET_SIZE];
+        prettyInputs = new String[DATASET_SIZE];
+        numbers = new long[DATASET_SIZE];
+        clearingNumbers = new int[DATASET_SIZE];
+        accountNumbers = new int[DATASET_SIZE];
+
+        for (int i = 0; i < DATASET_SIZE; i++) {
+            final BankAccountNumber account = accounts.get(i);
+
+            plainInputs[i] = AccountDataset.digitsOf(account);
+            prettyInputs[i] = account.toFormatted(BankAccountFormatter.Format.PRETTY);
+            numbers[i] = Long.parseLong(plainInputs[i]);
+        }
+
+        // Only accounts that fit an int, and stay valid without their leading zeros, can be passed as numbers
+        final List<BankAccountNumber> intAccounts = accounts.stream()
+            .filter(ParseBenchmark::isValidAsInts)
+            .toList();
+
+        for (int i = 0; i < DATASET_SIZE; i++) {
+            final BankAccountNumber account = intAccounts.get(i % intAccounts.size());
+
+            clearingNumbers[i] = account.getClearingNumber().toInt();
+            accountNumbers[i] = Integer.parseInt(account.getAccountNumber().getNumber());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DATASET_SIZE)
+    public void ofStringPlain(final Blackhole blackhole) {
+        for (final String input : plainInputs) {
+            blackhole.consume(BankAccountNumber.ofString(input));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DATASET_SIZE)
+    public void ofStringPretty(final Blackhole blackhole) {
+        for (final String input : prettyInputs) {
+            blackhole.consume(BankAccountNumber.ofString(input));
+        }
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    @OperationsPerInvocation(DATASET_SIZE)
+    public void ofStringPrettyAllThreads(final Blackhole blackhole) {
+        ofStringPretty(blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DATASET_SIZE)
+    public void ofNumber(final Blackhole blackhole) {
+        for (final long number : numbers) {
+            blackhole.consume(BankAccountNumber.ofNumber(number));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DATASET_SIZE)
+    public void ofClearingAndAccountNumber(final Blackhole blackhole) {
+        for (int i = 0; i < DATASET_SIZE; i++) {
+            blackhole.consume(BankAccountNumber.ofClearingAndAccountNumber(clearingNumbers[i], accountNumbers[i]));
+        }
+    }
+
+    private static boolean isValidAsInts(final BankAccountNumber account) {
+        final long accountNumber = Long.parseLong(account.getAccountNumber().getNumber());
+
+        if (accountNumber > Integer.MAX_VALUE) {
+            return false;
+        }
+
+        try {
+            BankAccountNumber.ofClearingAndAccountNumber(account.getClearingNumber().toInt(), (int) accountNumber);
+            return true;
+        } catch (final IllegalNumberBankDomainException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.finoid.bank.domain.benchmarks;
+
+import io.github.finoid.bank.domain.BankAccountNumber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to the first {@link BankAccountNumber#ofString(String)} in a fresh JVM, which includes loading and
+ * initializing the clearing number table. Every fork measures a single call, so the score is the cold start cost.
+ * <p>
+ * Compares the binary table resource generated by the Maven plugin, the default, with building the table from the
+ * constants of the generated {@code Bank} enum.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class StartupBenchmark {
+    private static final String ACCOUNT = "8129-9,043 386 711-6";
+
+    @Benchmark
+    @Fork(20)
+    public BankAccountNumber binaryTable() {
+        return BankAccountNumber.ofString(ACCOUNT);
+    }
+
+    @Benchmark
+    @Fork(value = 20, jvmArgsAppend = "-Dio.github.finoid.bank.domain.clearingTable=enum")
+    public BankAccountNumber enumTable() {
+        return BankAccountNumber.ofString(ACCOUNT);
+    }
+}
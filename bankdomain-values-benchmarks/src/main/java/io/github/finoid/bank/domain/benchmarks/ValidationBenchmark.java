@@ -0,0 +1,89 @@
+package io.github.finoid.bank.domain.benchmarks;
+
+import io.github.finoid.bank.domain.BankAccountNumber;
+import io.github.finoid.bank.domain.BankAccountNumberCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link BankAccountNumber#isValid(String)} and {@link BankAccountNumber#tryParse(CharSequence)} over raw
+ * inputs from every bank, with a varying share of invalid inputs, and {@link BankAccountNumberCache#tryParse(CharSequence)}
+ * with every input already cached.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ValidationBenchmark {
+    private static final int DATASET_SIZE = 4096;
+
+    @Param({"0", "10", "50"})
+    private int invalidPercent;
+
+    private String[] inputs = new String[0];
+    private BankAccountNumberCache cache = BankAccountNumberCache.ofMaximumSize(DATASET_SIZE);
+
+    @Setup
+    public void setup() {
+        inputs = AccountDataset.rawInputs(DATASET_SIZE, invalidPercent, 42);
+        cache = BankAccountNumberCache.ofMaximumSize(DATASET_SIZE);
+
+        for (final String input : inputs) {
+            cache.tryParse(input);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DATASET_SIZE)
+    public void isValid(final Blackhole blackhole) {
+        for (final String input : inputs) {
+            blackhole.consume(BankAccountNumber.isValid(input));
+        }
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    @OperationsPerInvocation(DATASET_SIZE)
+    public void isValidAllThreads(final Blackhole blackhole) {
+        isValid(blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DATASET_SIZE)
+    public void tryParse(final Blackhole blackhole) {
+        for (final String input : inputs) {
+            blackhole.consume(BankAccountNumber.tryParse(input));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DATASET_SIZE)
+    public void tryParseCached(final Blackhole blackhole) {
+        for (final String input : inputs) {
+            blackhole.consume(cache.tryParse(input));
+        }
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    @OperationsPerInvocation(DATASET_SIZE)
+    public void tryParseCachedAllThreads(final Blackhole blackhole) {
+        tryParseCached(blackhole);
+    }
+}
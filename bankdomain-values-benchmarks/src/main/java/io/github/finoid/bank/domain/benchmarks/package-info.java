@@ -0,0 +1,4 @@
+@NullMarked
+package io.github.finoid.bank.domain.benchmarks;
+
+import org.jspecify.annotations.NullMarked;
\ No newline at end of file
@@ -1,6 +1,7 @@
 package io.github.finoid.bank.domain;
 
 import lombok.Value;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Value object representing a Swedish bank account number without clearing number.
@@ -39,9 +40,61 @@ public class AccountNumber {
         return new AccountNumber(input);
     }
 
+    /**
+     * Validates an account number without throwing.
+     *
+     * @param length the number of account number digits
+     * @return the reason the number is invalid, or {@code null} if it is valid
+     */
+    @Nullable
+    static ParseFailureReason failureReasonOf(final int length) {
+        if (length < 2) { // TODO (nw) use the validation information from the bank type?
+            return ParseFailureReason.ACCOUNT_NUMBER_TOO_SHORT;
+        }
+
+        return null;
+    }
+
+    /**
+     * Creates an {@code AccountNumber} from accumulated digits, keeping any leading zeros.
+     *
+     * @param digits the account digits as a number
+     * @param length the number of digits, including leading zeros
+     * @return a new {@code AccountNumber} instance
+     * @throws IllegalNumberBankDomainException if the number is invalid
+     */
+    static AccountNumber ofDigits(final long digits, final int length) {
+        final char[] chars = new char[length];
+
+        long remaining = digits;
+        for (int i = length - 1; i >= 0; i--) {
+            chars[i] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+
+        return new AccountNumber(new String(chars));
+    }
+
+    /**
+     * Returns the account digits as a number. Leading zeros are not retained.
+     *
+     * @return the account digits
+     */
+    long toDigits() {
+        long digits = 0;
+
+        for (int i = 0; i < number.length(); i++) {
+            digits = digits * 10 + (number.charAt(i) - '0');
+        }
+
+        return digits;
+    }
+
     private void validateSelf() {
-        if (number.length() < 2) { // TODO (nw) use the validation information from the bank type?
-            throw new IllegalNumberBankDomainException("Account number must be at least 2 digits long");
+        final ParseFailureReason failureReason = failureReasonOf(number.length());
+
+        if (failureReason != null) {
+            throw new IllegalNumberBankDomainException(failureReason.getDescription());
         }
     }
 
@@ -3,12 +3,26 @@ package io.github.finoid.bank.domain;
 import io.github.finoid.generated.bank.domain.Bank;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.jspecify.annotations.Nullable;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class BankAccountFormatter {
+    private static final FillPlan SWEDBANK_SORTED_PLAN = FillPlan.compile("CCCC-C,AAA AAA AAA-A", false);
+    private static final Map<Bank, FillPlan> PRETTY_PLANS = prettyPlans();
+
+    /**
+     * {@link Format#DEFAULT} plans per account length, compiled on first use.
+     */
+    private static final @Nullable FillPlan[] DEFAULT_PLANS = new FillPlan[32];
+
+    private static final ThreadLocal<char[]> SCRATCH = ThreadLocal.withInitial(() -> new char[64]);
+
     /**
      * Formats a bank account number based on bank name, type, and desired format style.
      *
@@ -17,96 +31,183 @@ public class BankAccountFormatter {
      * @return formatted string
      */
     public static String format(final BankAccountNumber bankAccountNumber, final Format format) {
-        final String clearingNumber = String.valueOf(bankAccountNumber.getClearingNumber().toInt());
-        final String accountNumber = bankAccountNumber.getAccountNumber().toString();
+        final long startTime = BankDomainMetricsRegistry.startTime();
 
-        final BankType bankType = bankAccountNumber.getBankAndType()
-            .getBankType();
+        final FillPlan plan = planOf(bankAccountNumber, format);
+        final char[] formatted = new char[plan.lengthOf(bankAccountNumber)];
 
-        final Bank bank = bankAccountNumber.getBankAndType()
-            .getBank();
+        plan.write(bankAccountNumber, formatted, 0);
+        recordFormatted(bankAccountNumber, format, formatted.length, startTime);
 
-        final BankAccountType type = bankType.getType();
+        return new String(formatted);
+    }
 
-        if (format == Format.PRETTY) {
-            return switch (bank) {
-                case NORDEA, NORDEA_PLUSGIROT -> formatter(clearingNumber, accountNumber, "CCCC,AAAAAA-AAAA", false);
-                case HANDELSBANKEN -> formatter(clearingNumber, accountNumber, "CCCC,AAA AAA AAA", false);
-                case SWEDBANK -> {
-                    if (bankAccountNumber.getClearingNumber().hasSortingNumber()) {
-                        yield formatter(clearingNumber, accountNumber, "CCCC-C,AAA AAA AAA-A", false);
-                    }
-
-                    yield formatter(clearingNumber, accountNumber, "CCCC,AA-AAAAA", true);
-                }
-                default -> formatter(clearingNumber, accountNumber, "CCCC,AA AAAA AAAA", false);
-            };
+    /**
+     * Formats a bank account number into the given {@link Appendable}, such as a {@link StringBuilder} or a
+     * {@link java.io.Writer}, without building an intermediate {@code String}.
+     *
+     * @param bankAccountNumber a Swedish bank account number with clearing number.
+     * @param format            the desired format style, either {@link Format#PRETTY} or {@link Format#DEFAULT}.
+     * @param destination       the destination to append to
+     * @throws IOException if appending to the destination fails
+     */
+    public static void formatTo(final BankAccountNumber bankAccountNumber, final Format format, final Appendable destination)
+        throws IOException {
+        final long startTime = BankDomainMetricsRegistry.startTime();
+
+        final FillPlan plan = planOf(bankAccountNumber, format);
+        final int length = plan.lengthOf(bankAccountNumber);
+        final char[] scratch = scratchOf(length);
+
+        plan.write(bankAccountNumber, scratch, 0);
+
+        if (destination instanceof StringBuilder builder) {
+            builder.append(scratch, 0, length);
+        } else {
+            for (int i = 0; i < length; i++) {
+                destination.append(scratch[i]);
+            }
         }
 
-        final int length = type == BankAccountType.TWO ? bankType.getAccountMaxLength() : 7;
-        final String mask = "CCCCC" + "A".repeat(length);
+        recordFormatted(bankAccountNumber, format, length, startTime);
+    }
 
-        return formatter(clearingNumber, accountNumber, mask, true);
+    /**
+     * Formats a bank account number into a caller-owned {@code char[]}.
+     *
+     * @param bankAccountNumber a Swedish bank account number with clearing number.
+     * @param format            the desired format style, either {@link Format#PRETTY} or {@link Format#DEFAULT}.
+     * @param destination       the buffer to write to
+     * @param offset            the index to write the first character to
+     * @return the number of characters written
+     * @throws IndexOutOfBoundsException if the formatted account does not fit in {@code destination} from {@code offset}
+     * @see #formattedLength(BankAccountNumber, Format)
+     */
+    public static int formatTo(final BankAccountNumber bankAccountNumber, final Format format, final char[] destination, final int offset) {
+        final long startTime = BankDomainMetricsRegistry.startTime();
+
+        final FillPlan plan = planOf(bankAccountNumber, format);
+        final int length = plan.lengthOf(bankAccountNumber);
+
+        Objects.checkFromIndexSize(offset, length, destination.length);
+        plan.write(bankAccountNumber, destination, offset);
+        recordFormatted(bankAccountNumber, format, length, startTime);
+
+        return length;
     }
 
     /**
-     * Applies a format mask to the given sorting code and account number.
-     * 'C' is used as a placeholder for clearing number, 'A' for account number digits.
+     * Formats a bank account number into a caller-owned {@link CharBuffer}, at its position. The position is advanced
+     * past the written characters.
      *
-     * @param clearingNumber the sorting code (typically 4–5 digits)
-     * @param accountNumber  the account number
-     * @param mask           the format mask (e.g., "CCCC-AA-AAAAA")
-     * @param pad            whether to pad missing digits with zeros (applies to account number only)
-     * @return formatted account string
+     * @param bankAccountNumber a Swedish bank account number with clearing number.
+     * @param format            the desired format style, either {@link Format#PRETTY} or {@link Format#DEFAULT}.
+     * @param destination       the buffer to write to
+     * @throws java.nio.BufferOverflowException if the buffer has less remaining space than the formatted account
+     * @throws java.nio.ReadOnlyBufferException if the buffer is read-only
      */
-    private static String formatter(String clearingNumber, String accountNumber, String mask, boolean pad) {
-        final int lastS = mask.lastIndexOf('C');
-        final String sortingCodeMask = lastS >= 0 ? mask.substring(0, lastS + 1) : "";
-        final String accountNumberMask = lastS >= 0 ? mask.substring(lastS + 1) : mask;
-
-        final Deque<Character> sortingCodeChars = toDeque(clearingNumber);
-        final Deque<Character> accountNumberChars = toDeque(accountNumber);
-
-        final StringBuilder sortingCodeResult = new StringBuilder();
-        final StringBuilder accountNumberResult = new StringBuilder();
-
-        // Fill sorting code left to right
-        for (int i = 0; i < sortingCodeMask.length(); i++) {
-            char c = sortingCodeMask.charAt(i);
-            if (c == 'C') {
-                sortingCodeResult.append(safePoll(sortingCodeChars));
-            } else {
-                sortingCodeResult.append(c);
-            }
+    public static void formatTo(final BankAccountNumber bankAccountNumber, final Format format, final CharBuffer destination) {
+        final long startTime = BankDomainMetricsRegistry.startTime();
+
+        final FillPlan plan = planOf(bankAccountNumber, format);
+        final int length = plan.lengthOf(bankAccountNumber);
+
+        if (destination.hasArray() && destination.remaining() >= length) {
+            plan.write(bankAccountNumber, destination.array(), destination.arrayOffset() + destination.position());
+            destination.position(destination.position() + length);
+        } else {
+            final char[] scratch = scratchOf(length);
+            plan.write(bankAccountNumber, scratch, 0);
+            destination.put(scratch, 0, length);
         }
 
-        // Fill account number right to left
-        for (int i = accountNumberMask.length() - 1; i >= 0; i--) {
-            char maskChar = accountNumberMask.charAt(i);
-
-            if (maskChar == 'A') {
-                char digit = accountNumberChars.isEmpty()
-                    ? (pad ? '0' : ' ')
-                    : accountNumberChars.pollLast();
-                accountNumberResult.insert(0, digit);
-            } else {
-                accountNumberResult.insert(0, maskChar);
-            }
+        recordFormatted(bankAccountNumber, format, length, startTime);
+    }
 
-            if (i == accountNumberMask.indexOf('A') && !accountNumberChars.isEmpty()) {
-                while (!accountNumberChars.isEmpty()) {
-                    accountNumberResult.insert(0, accountNumberChars.pollLast());
-                }
-            }
+    /**
+     * Returns the number of characters the bank account number is formatted to.
+     *
+     * @param bankAccountNumber a Swedish bank account number with clearing number.
+     * @param format            the desired format style, either {@link Format#PRETTY} or {@link Format#DEFAULT}.
+     * @return the length of the formatted account
+     */
+    public static int formattedLength(final BankAccountNumber bankAccountNumber, final Format format) {
+        return planOf(bankAccountNumber, format).lengthOf(bankAccountNumber);
+    }
+
+    private static void recordFormatted(final BankAccountNumber bankAccountNumber, final Format format, final int length,
+                                        final long startTime) {
+        final BankDomainMetrics metrics = BankDomainMetricsRegistry.current;
+        if (metrics != null) {
+            metrics.onFormatted(format, bankAccountNumber.getBankAndType(), length, BankDomainMetricsRegistry.elapsedSince(startTime));
+        }
+    }
+
+    private static FillPlan planOf(final BankAccountNumber bankAccountNumber, final Format format) {
+        final BankType bankType = bankAccountNumber.getBankAndType()
+            .getBankType();
 
-            if (accountNumberChars.isEmpty() && !pad) {
-                String prefix = accountNumberMask.substring(0, accountNumberMask.indexOf('A'));
-                accountNumberResult.insert(0, prefix);
-                break;
+        final Bank bank = bankAccountNumber.getBankAndType()
+            .getBank();
+
+        if (format == Format.PRETTY) {
+            if (bank == Bank.SWEDBANK && bankAccountNumber.getClearingNumber().hasSortingNumber()) {
+                return SWEDBANK_SORTED_PLAN;
             }
+
+            return Objects.requireNonNull(PRETTY_PLANS.get(bank));
+        }
+
+        final int length = bankType.getType() == BankAccountType.TWO ? bankType.getAccountMaxLength() : 7;
+
+        return defaultPlanOf(length);
+    }
+
+    private static FillPlan defaultPlanOf(final int length) {
+        if (length >= DEFAULT_PLANS.length) {
+            return FillPlan.compile("CCCCC" + "A".repeat(length), true);
+        }
+
+        @Nullable
+        FillPlan plan = DEFAULT_PLANS[length];
+
+        if (plan == null) {
+            plan = FillPlan.compile("CCCCC" + "A".repeat(length), true);
+            DEFAULT_PLANS[length] = plan;
         }
 
-        return sortingCodeResult.append(accountNumberResult).toString();
+        return plan;
+    }
+
+    private static Map<Bank, FillPlan> prettyPlans() {
+        final FillPlan nordea = FillPlan.compile("CCCC,AAAAAA-AAAA", false);
+        final FillPlan handelsbanken = FillPlan.compile("CCCC,AAA AAA AAA", false);
+        final FillPlan swedbank = FillPlan.compile("CCCC,AA-AAAAA", true);
+        final FillPlan other = FillPlan.compile("CCCC,AA AAAA AAAA", false);
+
+        final Map<Bank, FillPlan> plans = new EnumMap<>(Bank.class);
+
+        for (final Bank bank : Bank.values()) {
+            plans.put(bank, switch (bank) {
+                case NORDEA, NORDEA_PLUSGIROT -> nordea;
+                case HANDELSBANKEN -> handelsbanken;
+                case SWEDBANK -> swedbank;
+                default -> other;
+            });
+        }
+
+        return plans;
+    }
+
+    private static char[] scratchOf(final int length) {
+        char[] scratch = SCRATCH.get();
+
+        if (scratch.length < length) {
+            scratch = new char[length];
+            SCRATCH.set(scratch);
+        }
+
+        return scratch;
     }
 
     public enum Format {
@@ -114,18 +215,109 @@ public class BankAccountFormatter {
         DEFAULT
     }
 
-    private static Deque<Character> toDeque(final String input) {
-        final Deque<Character> deque = new ArrayDeque<>();
+    /**
+     * A format mask compiled once into the positions of its clearing and account digits.
+     * <p>
+     * In the mask, 'C' is used as a placeholder for clearing number digits and 'A' for account number digits. The
+     * clearing number is filled left to right, up to and including the last 'C', with a space for every missing digit.
+     * The account number is filled right to left into the rest of the mask: digits beyond the mask are inserted before
+     * its first 'A', and missing digits are either padded with zeros or, without padding, the unused part of the mask
+     * is left out.
+     */
+    private static final class FillPlan {
+        private final char[] clearingMask;
+        private final char[] accountPrefix;
+        private final char[] accountBody;
+        private final int[] accountSlots;
+        private final boolean pad;
 
-        for (int i = 0; i < input.length(); i++) {
-            final char c = input.charAt(i);
-            deque.add(c);
+        private FillPlan(final char[] clearingMask, final char[] accountPrefix, final char[] accountBody, final int[] accountSlots,
+                         final boolean pad) {
+            this.clearingMask = clearingMask;
+            this.accountPrefix = accountPrefix;
+            this.accountBody = accountBody;
+            this.accountSlots = accountSlots;
+            this.pad = pad;
         }
 
-        return deque;
-    }
+        /**
+         * Compiles a format mask.
+         *
+         * @param mask the format mask (e.g., "CCCC-AA-AAAAA")
+         * @param pad  whether to pad missing digits with zeros (applies to account number only)
+         * @return the compiled fill plan
+         */
+        static FillPlan compile(final String mask, final boolean pad) {
+            final int lastClearing = mask.lastIndexOf('C');
+            final String accountMask = mask.substring(lastClearing + 1);
+            final int firstAccount = Math.max(accountMask.indexOf('A'), 0);
+            final String accountBody = accountMask.substring(firstAccount);
+
+            final int[] accountSlots = new int[(int) accountBody.chars().filter(c -> c == 'A').count()];
+            for (int i = 0, slot = 0; i < accountBody.length(); i++) {
+                if (accountBody.charAt(i) == 'A') {
+                    accountSlots[slot++] = i;
+                }
+            }
+
+            return new FillPlan(mask.substring(0, lastClearing + 1).toCharArray(), accountMask.substring(0, firstAccount).toCharArray(),
+                accountBody.toCharArray(), accountSlots, pad);
+        }
+
+        int lengthOf(final BankAccountNumber bankAccountNumber) {
+            final int accountLength = bankAccountNumber.getAccountNumber().getNumber().length();
 
-    private static char safePoll(final Deque<Character> deque) {
-        return deque.isEmpty() ? ' ' : deque.poll();
+            return clearingMask.length + accountPrefix.length + accountBody.length - bodyStartOf(accountLength)
+                   + Math.max(accountLength - accountSlots.length, 0);
+        }
+
+        void write(final BankAccountNumber bankAccountNumber, final char[] destination, final int offset) {
+            final String clearing = bankAccountNumber.getClearingNumber().toString();
+            final String account = bankAccountNumber.getAccountNumber().getNumber();
+
+            int position = offset;
+
+            int clearingIndex = 0;
+            for (final char maskChar : clearingMask) {
+                if (maskChar != 'C') {
+                    destination[position++] = maskChar;
+                } else {
+                    destination[position++] = clearingIndex < clearing.length() ? clearing.charAt(clearingIndex++) : ' ';
+                }
+            }
+
+            for (final char maskChar : accountPrefix) {
+                destination[position++] = maskChar;
+            }
+
+            int accountIndex = 0;
+            while (accountIndex < account.length() - accountSlots.length) {
+                destination[position++] = account.charAt(accountIndex++);
+            }
+
+            int zeros = pad ? Math.max(accountSlots.length - account.length(), 0) : 0;
+            for (int i = bodyStartOf(account.length()); i < accountBody.length; i++) {
+                if (accountBody[i] != 'A') {
+                    destination[position++] = accountBody[i];
+                } else if (zeros > 0) {
+                    destination[position++] = '0';
+                    zeros--;
+                } else {
+                    destination[position++] = account.charAt(accountIndex++);
+                }
+            }
+        }
+
+        /**
+         * Returns the index of the first character of the account body that is written: the whole body when padding or
+         * when the account fills every slot, otherwise from the slot of the first account digit.
+         */
+        private int bodyStartOf(final int accountLength) {
+            if (pad || accountLength >= accountSlots.length) {
+                return 0;
+            }
+
+            return accountSlots[accountSlots.length - accountLength];
+        }
     }
-}
\ No newline at end of file
+}
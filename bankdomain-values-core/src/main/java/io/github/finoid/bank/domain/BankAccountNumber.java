@@ -1,9 +1,10 @@
 package io.github.finoid.bank.domain;
 
 import lombok.Value;
-import org.apache.commons.lang3.StringUtils;
+import org.jspecify.annotations.Nullable;
 
-import java.util.regex.Pattern;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 /**
  * Value object representing a Swedish bank account number with clearing number.
@@ -25,23 +26,88 @@ public class BankAccountNumber {
         this.clearingNumber = clearingNumber;
         this.accountNumber = accountNumber;
         this.bankAndType = bankAndType;
-
-        validateSelf();
     }
 
     /**
      * Returns {@code true} if the given input is a valid bank account number.
      *
-     * @param accountNumber the input to validate
-     * @return {@code true} if the input is valid; {@code false} otherwise
+     * @param accountNumber the input to validate, may be {@code null}
+     * @return {@code true} if the input is valid; {@code false} otherwise, including for {@code null}
      */
-    public static boolean isValid(final String accountNumber) {
-        try {
-            ofString(accountNumber);
-            return true;
-        } catch (final Exception e) {
-            return false;
-        }
+    public static boolean isValid(final @Nullable String accountNumber) {
+        return accountNumber != null && tryParse(accountNumber).isValid();
+    }
+
+    /**
+     * Parses a {@code BankAccountNumber} from a {@code CharSequence} without throwing.
+     * <p>
+     * Rejected inputs are reported through {@link ParseResult#optionalFailureReason()}, without building an exception
+     * or formatting a message, which makes this the preferred entry point when a share of the inputs is expected to be invalid.
+     *
+     * @param input character sequence that may include spaces, hyphens, etc.
+     * @return a {@link ParseResult} holding either the bank account number or the reason it was rejected
+     */
+    public static ParseResult tryParse(final CharSequence input) {
+        return Factory.tryFromCharSequence(input);
+    }
+
+    /**
+     * Parses a {@code BankAccountNumber} from a slice of a {@code char[]} without throwing.
+     * <p>
+     * Intended for parsers that keep records in reusable buffers; the slice is read in place and never copied.
+     *
+     * @param input  the buffer holding the account number, which may include spaces, hyphens, etc.
+     * @param offset the index of the first character of the account number
+     * @param length the number of characters of the account number
+     * @return a {@link ParseResult} holding either the bank account number or the reason it was rejected
+     * @throws IndexOutOfBoundsException if the slice is out of the bounds of {@code input}
+     */
+    public static ParseResult tryParse(final char[] input, final int offset, final int length) {
+        return Factory.tryFromChars(input, offset, length);
+    }
+
+    /**
+     * Parses a {@code BankAccountNumber} from a slice of ASCII (or UTF-8) encoded bytes without throwing.
+     * <p>
+     * The slice is read with absolute gets, so the position and limit of the buffer are left untouched. Intended for
+     * memory-mapped files, where the bytes are never decoded into a {@code String}.
+     *
+     * @param input  the buffer holding the account number, which may include spaces, hyphens, etc.
+     * @param offset the index of the first byte of the account number
+     * @param length the number of bytes of the account number
+     * @return a {@link ParseResult} holding either the bank account number or the reason it was rejected
+     * @throws IndexOutOfBoundsException if the slice is out of the bounds of {@code input}
+     */
+    public static ParseResult tryParse(final ByteBuffer input, final int offset, final int length) {
+        return Factory.tryFromBytes(input, offset, length);
+    }
+
+    /**
+     * Parses a {@code BankAccountNumber} from a Swedish IBAN without throwing.
+     * <p>
+     * The check digits are verified, and the account part is converted back with the {@link IbanMethod} of the bank
+     * types of the IBAN ID. Accounts shorter than the length their IBAN method pads to are returned padded with leading
+     * zeros. The IBAN of an {@link IbanMethod#TWO} bank type holds no clearing number, so the account gets the lowest
+     * clearing number of its bank type.
+     *
+     * @param iban the IBAN, in electronic format or in print format with spaces
+     * @return a {@link ParseResult} holding either the bank account number or the reason it was rejected
+     * @see #toIban()
+     */
+    public static ParseResult tryParseIban(final CharSequence iban) {
+        return Factory.tryFromIban(iban);
+    }
+
+    /**
+     * Creates a {@code BankAccountNumber} from a Swedish IBAN.
+     *
+     * @param iban the IBAN, in electronic format or in print format with spaces
+     * @return a new {@code BankAccountNumber} instance
+     * @throws IllegalNumberBankDomainException if the IBAN is invalid, or not the IBAN of a valid bank account number
+     * @see #tryParseIban(CharSequence)
+     */
+    public static BankAccountNumber ofIban(final CharSequence iban) {
+        return Factory.tryFromIban(iban).orElseThrow(iban);
     }
 
     /**
@@ -63,7 +129,32 @@ public class BankAccountNumber {
      * @throws IllegalNumberBankDomainException if the input is invalid
      */
     public static BankAccountNumber ofString(final String input) {
-        return Factory.fromString(input);
+        return Factory.fromCharSequence(input);
+    }
+
+    /**
+     * Creates a {@code BankAccountNumber} from a {@code CharSequence}, such as a {@link StringBuilder} or a {@link java.nio.CharBuffer}.
+     *
+     * @param input character sequence that may include spaces, hyphens, etc.
+     * @return a new {@code BankAccountNumber} instance
+     * @throws IllegalNumberBankDomainException if the input is invalid
+     */
+    public static BankAccountNumber ofCharSequence(final CharSequence input) {
+        return Factory.fromCharSequence(input);
+    }
+
+    /**
+     * Creates a {@code BankAccountNumber} from a slice of a {@code char[]}.
+     *
+     * @param input  the buffer holding the account number, which may include spaces, hyphens, etc.
+     * @param offset the index of the first character of the account number
+     * @param length the number of characters of the account number
+     * @return a new {@code BankAccountNumber} instance
+     * @throws IllegalNumberBankDomainException if the input is invalid
+     * @throws IndexOutOfBoundsException        if the slice is out of the bounds of {@code input}
+     */
+    public static BankAccountNumber ofChars(final char[] input, final int offset, final int length) {
+        return Factory.fromChars(input, offset, length);
     }
 
     /**
@@ -78,6 +169,75 @@ public class BankAccountNumber {
         return Factory.fromNumbers(clearing, account);
     }
 
+    /**
+     * Validates numeric clearing and account parts without creating any objects, applying the same rules as
+     * {@link #ofClearingAndAccountNumber(int, int)}.
+     *
+     * @param clearing 4- or 5-digit clearing number
+     * @param account  non-negative account number (should not contain the clearing number part)
+     * @return the reason the parts are invalid, or {@code null} if they form a valid bank account number
+     */
+    @Nullable
+    static ParseFailureReason failureReasonOf(final int clearing, final long account) {
+        return Factory.failureReasonOf(clearing, account, MathUtils.digitCountOf(account));
+    }
+
+    /**
+     * Validates numeric clearing and account parts like {@link #failureReasonOf(int, long)}, with the checksums of the
+     * account already computed for many accounts at once.
+     *
+     * @param clearing        4- or 5-digit clearing number
+     * @param account         non-negative account number (should not contain the clearing number part)
+     * @param accountMod11Sum the {@link MathUtils#mod11Sum(long, int) mod11 sum} of the account, or {@link ChecksumKernel#NOT_COMPUTED}
+     * @param accountLuhnSum  the {@link MathUtils#luhnSum(long) Luhn sum} of the account, or {@link ChecksumKernel#NOT_COMPUTED}
+     * @return the reason the parts are invalid, or {@code null} if they form a valid bank account number
+     */
+    @Nullable
+    static ParseFailureReason failureReasonOf(final int clearing, final long account, final int accountMod11Sum, final int accountLuhnSum) {
+        return Factory.failureReasonOf(ClearingTable.current(), clearing, account, MathUtils.digitCountOf(account), accountMod11Sum,
+            accountLuhnSum);
+    }
+
+    /**
+     * Creates a {@code BankAccountNumber} from its packed {@code long} representation.
+     *
+     * @param packed a value previously returned by {@link #toPackedLong()}
+     * @return a new {@code BankAccountNumber} instance
+     * @throws IllegalNumberBankDomainException if the value is not a valid packed bank account number
+     * @see BankAccountNumberCodec
+     */
+    public static BankAccountNumber ofPackedLong(final long packed) {
+        return Factory.fromPackedLong(packed);
+    }
+
+    /**
+     * Returns the canonical packed {@code long} representation of this account number.
+     * <p>
+     * Packed values can be stored, sorted and compared as primitives and inflated with {@link #ofPackedLong(long)}.
+     * The representation is partial: it is only defined for account numbers of at most
+     * {@link BankAccountNumberCodec#MAX_ACCOUNT_LENGTH} account digits, while parsing accepts up to 18. Use
+     * {@link BankAccountNumberCodec#comparator()} to order account numbers that may be longer.
+     *
+     * @return the packed representation
+     * @throws IllegalNumberBankDomainException if the account number has more than {@link BankAccountNumberCodec#MAX_ACCOUNT_LENGTH} digits
+     * @see BankAccountNumberCodec
+     */
+    public long toPackedLong() {
+        return BankAccountNumberCodec.pack(clearingNumber.getClearingNumber(), BankAccountNumberCodec.sortingDigitOf(clearingNumber),
+            accountNumber.toDigits(), accountNumber.getNumber().length());
+    }
+
+    /**
+     * Returns the IBAN of this account number, converted with the {@link IbanMethod} of its bank type.
+     *
+     * @return the IBAN, in electronic format without spaces
+     * @throws BankDomainException if the bank type has no IBAN conversion, or the account does not fit the IBAN
+     * @see Ibans
+     */
+    public String toIban() {
+        return Ibans.toIban(this);
+    }
+
     /**
      * Returns a formatted string representation of the account number.
      * Format: {@code <clearingNumber>-<zero-padded accountNumber>}.
@@ -88,43 +248,222 @@ public class BankAccountNumber {
         return BankAccountFormatter.format(this, format);
     }
 
-    private void validateSelf() {
-        Validator.validate(clearingNumber, accountNumber, bankAndType);
-    }
-
     private static class Factory {
-        private static final Pattern NON_DIGITS_PATTERN = Pattern.compile("\\D");
+        /**
+         * The maximum number of account digits that fit in a {@code long}.
+         */
+        private static final int MAX_ACCOUNT_LENGTH = 18;
+
+        private static final String COUNTRY_CODE = "SE";
+
+        /**
+         * The number of digits of a Swedish IBAN: two check digits, the 3-digit IBAN ID and the 17-digit account part.
+         */
+        private static final int IBAN_DIGIT_COUNT = 22;
 
         private Factory() {
         }
 
         /**
-         * Creates a {@link BankAccountNumber} from a formatted or unformatted string.
+         * Creates a {@link BankAccountNumber} from a formatted or unformatted character sequence.
+         *
+         * @param rawInput account number characters containing digits, spaces, dashes, etc.
+         * @return a valid {@link BankAccountNumber}
+         * @throws IllegalNumberBankDomainException if the input is invalid
+         */
+        public static BankAccountNumber fromCharSequence(final CharSequence rawInput) {
+            return tryFromCharSequence(rawInput).orElseThrow(rawInput);
+        }
+
+        /**
+         * Creates a {@link BankAccountNumber} from a formatted or unformatted slice of a {@code char[]}.
          *
-         * @param rawInput account number string containing digits, spaces, dashes, etc.
+         * @param rawInput the buffer holding account number characters containing digits, spaces, dashes, etc.
+         * @param offset   the index of the first character
+         * @param length   the number of characters
          * @return a valid {@link BankAccountNumber}
          * @throws IllegalNumberBankDomainException if the input is invalid
          */
-        public static BankAccountNumber fromString(String rawInput) {
-            final String digitsOnly = NON_DIGITS_PATTERN.matcher(rawInput).replaceAll("");
+        public static BankAccountNumber fromChars(final char[] rawInput, final int offset, final int length) {
+            final ParseResult result = tryFromChars(rawInput, offset, length);
+
+            if (!result.isValid()) {
+                return result.orElseThrow(new String(rawInput, offset, length));
+            }
+
+            return result.orElseThrow();
+        }
+
+        /**
+         * Parses a {@link BankAccountNumber} from a formatted or unformatted character sequence, without throwing.
+         * <p>
+         * Separators are skipped and the clearing and account digits are accumulated in a single pass,
+         * without creating any intermediate strings.
+         *
+         * @param rawInput account number characters containing digits, spaces, dashes, etc.
+         * @return the parse result
+         */
+        public static ParseResult tryFromCharSequence(final CharSequence rawInput) {
+            final long startTime = BankDomainMetricsRegistry.startTime();
+            final DigitAccumulator digits = new DigitAccumulator();
+
+            for (int i = 0; i < rawInput.length(); i++) {
+                digits.accept(rawInput.charAt(i));
+            }
+
+            return digits.toResult(rawInput.length(), startTime);
+        }
+
+        /**
+         * Parses a {@link BankAccountNumber} from a formatted or unformatted slice of ASCII (or UTF-8) encoded bytes,
+         * without throwing. The bytes are read with absolute gets, leaving the position and limit of the buffer untouched.
+         *
+         * @param rawInput the buffer holding account number bytes containing digits, spaces, dashes, etc.
+         * @param offset   the index of the first byte
+         * @param length   the number of bytes
+         * @return the parse result
+         * @see #tryFromCharSequence(CharSequence)
+         */
+        public static ParseResult tryFromBytes(final ByteBuffer rawInput, final int offset, final int length) {
+            Objects.checkFromIndexSize(offset, length, rawInput.limit());
+
+            final long startTime = BankDomainMetricsRegistry.startTime();
+            final DigitAccumulator digits = new DigitAccumulator();
+
+            for (int i = offset; i < offset + length; i++) {
+                digits.accept(rawInput.get(i));
+            }
+
+            return digits.toResult(length, startTime);
+        }
+
+        /**
+         * Parses a {@link BankAccountNumber} from a formatted or unformatted slice of a {@code char[]}, without throwing.
+         *
+         * @param rawInput the buffer holding account number characters containing digits, spaces, dashes, etc.
+         * @param offset   the index of the first character
+         * @param length   the number of characters
+         * @return the parse result
+         * @see #tryFromCharSequence(CharSequence)
+         */
+        public static ParseResult tryFromChars(final char[] rawInput, final int offset, final int length) {
+            Objects.checkFromIndexSize(offset, length, rawInput.length);
+
+            final long startTime = BankDomainMetricsRegistry.startTime();
+            final DigitAccumulator digits = new DigitAccumulator();
 
-            if (digitsOnly.length() < 5) {
-                throw new IllegalNumberBankDomainException("Account number is too short: " + rawInput);
+            for (int i = offset; i < offset + length; i++) {
+                digits.accept(rawInput[i]);
+            }
+
+            return digits.toResult(length, startTime);
+        }
+
+        /**
+         * Parses a {@link BankAccountNumber} from a Swedish IBAN, without throwing.
+         * <p>
+         * The check digits, IBAN ID and 17-digit account part are accumulated in a single pass, skipping spaces, and
+         * the check digits are verified with the chunked mod-97 reduction of {@link Ibans}. The bank types of the IBAN
+         * ID are looked up in the installed {@link ClearingTable}, and the account part is converted back with the
+         * {@link IbanMethod} of each until one yields a valid account of that bank type.
+         *
+         * @param rawInput the IBAN, in electronic or print format
+         * @return the parse result
+         */
+        public static ParseResult tryFromIban(final CharSequence rawInput) {
+            final long startTime = BankDomainMetricsRegistry.startTime();
+            final int inputLength = rawInput.length();
+
+            int index = 0;
+            int letterCount = 0;
+            int digitCount = 0;
+            int checkDigits = 0;
+            int ibanId = 0;
+            long accountPart = 0;
+
+            while (index < inputLength) {
+                final char c = rawInput.charAt(index++);
+
+                if (c == ' ') {
+                    continue;
+                }
+
+                if (letterCount < 2) {
+                    if (Character.toUpperCase(c) != COUNTRY_CODE.charAt(letterCount)) {
+                        return rejected(ParseFailureReason.INVALID_IBAN, -1, inputLength, startTime);
+                    }
+
+                    letterCount++;
+                    continue;
+                }
+
+                final int digit = c - '0';
+
+                if (digit < 0 || digit > 9 || digitCount == IBAN_DIGIT_COUNT) {
+                    return rejected(ParseFailureReason.INVALID_IBAN, -1, inputLength, startTime);
+                }
+
+                if (digitCount < 2) {
+                    checkDigits = checkDigits * 10 + digit;
+                } else if (digitCount < 5) {
+                    ibanId = ibanId * 10 + digit;
+                } else {
+                    accountPart = accountPart * 10 + digit;
+                }
+
+                digitCount++;
             }
 
-            int clearingLength = digitsOnly.startsWith("8") ? 5 : 4;
+            if (digitCount != IBAN_DIGIT_COUNT) {
+                return rejected(ParseFailureReason.INVALID_IBAN, -1, inputLength, startTime);
+            }
 
-            if (digitsOnly.length() <= clearingLength) {
-                throw new IllegalNumberBankDomainException("Missing account number after clearing number: " + rawInput);
+            if (Ibans.checkDigitsOf(ibanId, accountPart) != checkDigits) {
+                return rejected(ParseFailureReason.IBAN_CHECK_DIGITS_FAILURE, -1, inputLength, startTime);
             }
 
-            final ClearingNumber clearingNumber = ClearingNumber.ofString(digitsOnly.substring(0, clearingLength));
-            final AccountNumber accountNumber = AccountNumber.ofString(digitsOnly.substring(clearingLength));
+            return tryFromIbanParts(ibanId, accountPart, inputLength, startTime);
+        }
 
-            final BankAndType bankAndType = BankAndType.findByClearingNumber(clearingNumber)
-                .orElseThrow(() -> new IllegalNumberBankDomainException("Unknown clearing number: " + clearingNumber));
+        /**
+         * Converts the account part of a verified IBAN back with the {@link IbanMethod} of every bank type of its IBAN ID,
+         * in table order, returning the first valid account of the bank type it was converted for.
+         */
+        private static ParseResult tryFromIbanParts(final int ibanId, final long accountPart, final int inputLength, final long startTime) {
+            final ClearingTable clearingTable = ClearingTable.current();
+            final ClearingTable.IbanRoute[] routes = clearingTable.ibanRoutesOf(ibanId);
+
+            ParseFailureReason failureReason = ParseFailureReason.UNKNOWN_IBAN_ID;
+            int failedClearing = -1;
+
+            for (final ClearingTable.IbanRoute route : routes) {
+                final BankType bankType = route.bankAndType().getBankType();
+                final int accountLength = Ibans.accountLengthOf(bankType, accountPart);
+                final int clearing = Ibans.clearingNumberOf(Objects.requireNonNull(bankType.getIbanMethod()), accountPart, accountLength,
+                    route.firstClearingNumber());
+                final long account = accountPart % MathUtils.powerOfTen(accountLength);
+
+                // The digits in front of the account must be a clearing number of the bank type the IBAN ID converts to
+                if (clearingTable.bankAndTypeOf(clearing >= 10_000 ? clearing / 10 : clearing) != route.bankAndType()) {
+                    if (failureReason == ParseFailureReason.UNKNOWN_IBAN_ID) {
+                        failureReason = ParseFailureReason.UNKNOWN_CLEARING_NUMBER;
+                    }
+
+                    continue;
+                }
+
+                @Nullable
+                final ParseFailureReason routeFailure = failureReasonOf(clearingTable, clearing, account, accountLength);
+
+                if (routeFailure == null) {
+                    return accepted(route.bankAndType(), clearing, account, accountLength, inputLength, startTime);
+                }
+
+                failureReason = routeFailure;
+                failedClearing = clearing;
+            }
 
-            return new BankAccountNumber(clearingNumber, accountNumber, bankAndType);
+            return rejected(failureReason, failedClearing, inputLength, startTime);
         }
 
         /**
@@ -135,16 +474,16 @@ public class BankAccountNumber {
          * @return a valid {@link BankAccountNumber}
          * @throws IllegalNumberBankDomainException if the combination is invalid
          */
-        public static BankAccountNumber fromNumbers(int clearing, int account) {
-            final ClearingNumber clearingNumber = ClearingNumber.ofNumber(clearing);
-            final AccountNumber accountNumber = AccountNumber.ofNumber(account);
+        public static BankAccountNumber fromNumbers(final int clearing, final int account) {
+            if (account < 0) {
+                throw new IllegalNumberBankDomainException("Account number must not be negative: " + account);
+            }
 
-            final BankAndType bankAndType = BankAndType.findByClearingNumber(clearingNumber)
-                .orElseThrow(() -> new IllegalNumberBankDomainException(
-                    "Could not resolve bank for clearing number: " + clearing
-                ));
+            final long startTime = BankDomainMetricsRegistry.startTime();
+            final int accountLength = MathUtils.digitCountOf(account);
 
-            return new BankAccountNumber(clearingNumber, accountNumber, bankAndType);
+            return tryFromParts(clearing, account, accountLength, MathUtils.digitCountOf(clearing) + accountLength, startTime)
+                .orElseThrow(clearing + ", " + account);
         }
 
         /**
@@ -154,62 +493,282 @@ public class BankAccountNumber {
          * @return a valid {@link BankAccountNumber}
          * @throws IllegalNumberBankDomainException if the input is invalid
          */
-        public static BankAccountNumber fromLong(long fullNumber) {
-            return fromString(Long.toString(fullNumber));
+        public static BankAccountNumber fromLong(final long fullNumber) {
+            if (fullNumber < 0) {
+                return fromCharSequence(Long.toString(fullNumber));
+            }
+
+            final long startTime = BankDomainMetricsRegistry.startTime();
+            final int digitCount = MathUtils.digitCountOf(fullNumber);
+            final int clearingLength = fullNumber / MathUtils.powerOfTen(digitCount - 1) == 8 ? 5 : 4;
+            final int accountLength = Math.max(digitCount - clearingLength, 0);
+
+            final int clearing = (int) (fullNumber / MathUtils.powerOfTen(accountLength));
+            final long account = fullNumber % MathUtils.powerOfTen(accountLength);
+
+            return tryFromDigits(digitCount, clearingLength, clearing, account, digitCount, startTime)
+                .orElseThrow(Long.toString(fullNumber));
+        }
+
+        /**
+         * Creates a {@link BankAccountNumber} from its packed {@code long} representation.
+         *
+         * @param packed the packed representation
+         * @return a valid {@link BankAccountNumber}
+         * @throws IllegalNumberBankDomainException if the value is invalid
+         */
+        public static BankAccountNumber fromPackedLong(final long packed) {
+            if (!BankAccountNumberCodec.isWellFormed(packed)) {
+                throw new IllegalNumberBankDomainException("Invalid packed bank account number: " + packed);
+            }
+
+            final long startTime = BankDomainMetricsRegistry.startTime();
+            final int clearing = BankAccountNumberCodec.clearingOf(packed);
+            final int accountLength = BankAccountNumberCodec.accountLengthOf(packed);
+
+            return tryFromParts(clearing, BankAccountNumberCodec.accountOf(packed), accountLength,
+                MathUtils.digitCountOf(clearing) + accountLength, startTime)
+                .orElseThrow(Long.toString(packed));
+        }
+
+        private static ParseResult tryFromDigits(final int digitCount, final int clearingLength, final int clearing, final long account,
+                                                 final int inputLength, final long startTime) {
+            if (digitCount < 5) {
+                return rejected(ParseFailureReason.TOO_SHORT, -1, inputLength, startTime);
+            }
+
+            final int accountLength = digitCount - clearingLength;
+
+            if (accountLength <= 0) {
+                return rejected(ParseFailureReason.MISSING_ACCOUNT_NUMBER, -1, inputLength, startTime);
+            }
+
+            if (accountLength > MAX_ACCOUNT_LENGTH) {
+                return rejected(ParseFailureReason.ACCOUNT_NUMBER_TOO_LONG, -1, inputLength, startTime);
+            }
+
+            return tryFromParts(clearing, account, accountLength, inputLength, startTime);
+        }
+
+        /**
+         * Accumulates the clearing and account digits of a formatted or unformatted account number one character at a
+         * time, skipping anything that is not a digit. A leading 8 marks a 5-digit clearing number, and account digits
+         * beyond {@link #MAX_ACCOUNT_LENGTH} are counted but not accumulated. Shared by the {@code CharSequence},
+         * {@code char[]} and {@code ByteBuffer} parsers; it never escapes them, so the JIT keeps its fields in registers.
+         */
+        private static final class DigitAccumulator {
+            private int digitCount;
+            private int clearingLength = 4;
+            private int clearing;
+            private long account;
+
+            private void accept(final int character) {
+                final int digit = character - '0';
+
+                if (digit < 0 || digit > 9) {
+                    return;
+                }
+
+                if (digitCount == 0 && digit == 8) {
+                    clearingLength = 5;
+                }
+
+                if (digitCount < clearingLength) {
+                    clearing = clearing * 10 + digit;
+                } else if (digitCount - clearingLength < MAX_ACCOUNT_LENGTH) {
+                    account = account * 10 + digit;
+                }
+
+                digitCount++;
+            }
+
+            private ParseResult toResult(final int inputLength, final long startTime) {
+                return tryFromDigits(digitCount, clearingLength, clearing, account, inputLength, startTime);
+            }
+        }
+
+        private static ParseResult tryFromParts(final int clearing, final long account, final int accountLength, final int inputLength,
+                                                final long startTime) {
+            // Resolve and validate against a single snapshot, even if another table is installed concurrently
+            final ClearingTable clearingTable = ClearingTable.current();
+
+            final ParseFailureReason failureReason = failureReasonOf(clearingTable, clearing, account, accountLength);
+            if (failureReason != null) {
+                return rejected(failureReason, clearing, inputLength, startTime);
+            }
+
+            return accepted(Objects.requireNonNull(clearingTable.bankAndTypeOf(clearing >= 10_000 ? clearing / 10 : clearing)), clearing, account,
+                accountLength, inputLength, startTime);
+        }
+
+        /**
+         * Creates the valid result of parts that passed every check, reporting it to the installed metrics.
+         */
+        private static ParseResult accepted(final BankAndType bankAndType, final int clearing, final long account, final int accountLength,
+                                            final int inputLength, final long startTime) {
+            final ParseResult result = ParseResult.success(new BankAccountNumber(ClearingNumber.ofNumber(clearing),
+                AccountNumber.ofDigits(account, accountLength), bankAndType));
+
+            final BankDomainMetrics metrics = BankDomainMetricsRegistry.current;
+            if (metrics != null) {
+                metrics.onParsed(bankAndType, inputLength, BankDomainMetricsRegistry.elapsedSince(startTime));
+            }
+
+            return result;
+        }
+
+        /**
+         * Returns the shared failure of the given reason, reporting it to the installed metrics. The bank of the clearing
+         * number is only resolved for the metrics, and only if any are installed.
+         */
+        private static ParseResult rejected(final ParseFailureReason failureReason, final int clearing, final int inputLength,
+                                            final long startTime) {
+            final BankDomainMetrics metrics = BankDomainMetricsRegistry.current;
+            if (metrics != null) {
+                metrics.onRejected(failureReason, ClearingTable.current().bankAndTypeOf(clearing >= 10_000 ? clearing / 10 : clearing), inputLength,
+                    BankDomainMetricsRegistry.elapsedSince(startTime));
+            }
+
+            return ParseResult.failure(failureReason);
+        }
+
+        /**
+         * Runs every check of {@link #tryFromParts(int, long, int, int, long)} on the digits alone, without creating any objects.
+         *
+         * @return the failure reason, or {@code null} if the parts form a valid bank account number
+         */
+        @Nullable
+        public static ParseFailureReason failureReasonOf(final int clearing, final long account, final int accountLength) {
+            return failureReasonOf(ClearingTable.current(), clearing, account, accountLength);
+        }
+
+        @Nullable
+        private static ParseFailureReason failureReasonOf(final ClearingTable clearingTable, final int clearing, final long account,
+                                                          final int accountLength) {
+            return failureReasonOf(clearingTable, clearing, account, accountLength, ChecksumKernel.NOT_COMPUTED, ChecksumKernel.NOT_COMPUTED);
+        }
+
+        @Nullable
+        private static ParseFailureReason failureReasonOf(final ClearingTable clearingTable, final int clearing, final long account,
+                                                          final int accountLength, final int accountMod11Sum, final int accountLuhnSum) {
+            final ParseFailureReason clearingFailure = ClearingNumber.failureReasonOf(clearing);
+            if (clearingFailure != null) {
+                return clearingFailure;
+            }
+
+            final ParseFailureReason accountFailure = AccountNumber.failureReasonOf(accountLength);
+            if (accountFailure != null) {
+                return accountFailure;
+            }
+
+            // The parsers never accumulate more digits, and the checksum kernels only sum 18 digits
+            if (accountLength > MAX_ACCOUNT_LENGTH) {
+                return ParseFailureReason.ACCOUNT_NUMBER_TOO_LONG;
+            }
+
+            final int clearingNumber = clearing >= 10_000 ? clearing / 10 : clearing;
+
+            @Nullable final BankAndType bankAndType = clearingTable.bankAndTypeOf(clearingNumber);
+            if (bankAndType == null) {
+                return ParseFailureReason.UNKNOWN_CLEARING_NUMBER;
+            }
+
+            return Validator.failureReasonOf(clearingNumber, account, accountLength, bankAndType, accountMod11Sum, accountLuhnSum);
         }
     }
 
     private static class Validator {
+        /**
+         * The account length Type 1 checksums pad to, the clearing number digits follow at this position.
+         */
+        private static final int TYPE_ONE_ACCOUNT_LENGTH = 7;
+
+        /**
+         * Mod11 contributions of the clearing number for 1:1 (its last three digits) and 1:2 (all four digits),
+         * indexed by the 4-digit clearing number, for accounts of at most {@link #TYPE_ONE_ACCOUNT_LENGTH} digits.
+         */
+        private static final int[] ONE_ONE_CLEARING_SUMS = clearingSums(1000);
+        private static final int[] ONE_TWO_CLEARING_SUMS = clearingSums(10_000);
+
         private Validator() {
         }
 
+        /**
+         * Runs the checksum rule of the resolved bank type, on the digits alone.
+         *
+         * @param clearingNumber  the 4-digit clearing number, without sorting digit
+         * @param account         the account digits
+         * @param accountLength   the number of account digits, including leading zeros
+         * @param bankAndType     the resolved bank type
+         * @param accountMod11Sum the mod11 sum of the account, or {@link ChecksumKernel#NOT_COMPUTED}
+         * @param accountLuhnSum  the Luhn sum of the account, or {@link ChecksumKernel#NOT_COMPUTED}
+         * @return the failure reason, or {@code null} if the account passes the checksum of its bank type
+         */
+        @Nullable
         @SuppressWarnings("OperatorPrecedence")
-        public static void validate(final ClearingNumber clearingNumber, final AccountNumber accountNumber, final BankAndType bankAndType) {
+        public static ParseFailureReason failureReasonOf(final int clearingNumber, final long account, final int accountLength,
+                                                         final BankAndType bankAndType, final int accountMod11Sum, final int accountLuhnSum) {
             final BankAccountType bankAccountType = bankAndType.getBankType().getType();
             final BankAccountSubType bankAccountSubType = bankAndType.getBankType().getSubType();
 
-            // 1:1
+            // 1:1, the clearing number without its first digit, followed by the account padded to 7 digits
             if (bankAndType.isOfType(BankAccountType.ONE, BankAccountSubType.ONE)) {
-                final String toBeValidated = clearingNumber.toFormatted().substring(1) + StringUtils.leftPad(accountNumber.toString(), 7, '0');
-                assertMod11(toBeValidated);
+                return mod11(mod11SumOf(account, accountMod11Sum) + clearingSum(ONE_ONE_CLEARING_SUMS, clearingNumber % 1000, accountLength));
             }
 
-            // 1:2
+            // 1:2, the clearing number followed by the account padded to 7 digits
             if (bankAndType.isOfType(BankAccountType.ONE, BankAccountSubType.TWO)) {
-                final String toBeValidated = clearingNumber + StringUtils.leftPad(accountNumber.toString(), 7, '0');
-                assertMod11(toBeValidated);
+                return mod11(mod11SumOf(account, accountMod11Sum) + clearingSum(ONE_TWO_CLEARING_SUMS, clearingNumber, accountLength));
             }
 
-            // 2:2
-            if (bankAccountType == BankAccountType.TWO && bankAccountSubType == BankAccountSubType.TWO) {
-                final String toBeValidated = StringUtils.leftPad(accountNumber.toString(), 9, '0');
-                assertMod11(toBeValidated);
+            // 2:2, 2:4, leading zeros do not change the checksum
+            if (bankAccountType == BankAccountType.TWO && bankAccountSubType == BankAccountSubType.TWO
+                || bankAccountType == BankAccountType.TWO && bankAccountSubType == BankAccountSubType.FOUR) {
+                return mod11(mod11SumOf(account, accountMod11Sum));
             }
 
             // 2:1, 2:3
             if (bankAccountType == BankAccountType.TWO && bankAccountSubType == BankAccountSubType.ONE
                 || bankAccountType == BankAccountType.TWO && bankAccountSubType == BankAccountSubType.THREE) {
-                final String toBeValidated = StringUtils.leftPad(accountNumber.toString(), 10, '0');
-                assertMod10(toBeValidated);
+                return MathUtils.isMod10Sum(luhnSumOf(account, accountLuhnSum)) ? null : ParseFailureReason.MOD10_FAILURE;
             }
 
-            // 2:4
-            if (bankAccountType == BankAccountType.TWO && bankAccountSubType == BankAccountSubType.FOUR) {
-                final String toBeValidated = StringUtils.leftPad(accountNumber.toString(), 10, '0');
-                assertMod11(toBeValidated);
-            }
+            return null;
         }
 
-        private static void assertMod10(final String toBeValidated) {
-            if (!MathUtils.isMod10(toBeValidated)) {
-                throw new IllegalNumberBankDomainException("Invalid clearing and/or account number. Mod10 check failed: " + toBeValidated);
+        /**
+         * Returns the mod11 contribution of the clearing digits, which follow the account. Accounts longer than the
+         * padded length push the clearing digits further left, outside of the precomputed table.
+         */
+        private static int clearingSum(final int[] clearingSums, final int clearingDigits, final int accountLength) {
+            if (accountLength <= TYPE_ONE_ACCOUNT_LENGTH) {
+                return clearingSums[clearingDigits];
             }
+
+            return MathUtils.mod11Sum(clearingDigits, accountLength);
+        }
+
+        private static int mod11SumOf(final long account, final int accountMod11Sum) {
+            return accountMod11Sum == ChecksumKernel.NOT_COMPUTED ? MathUtils.mod11Sum(account, 0) : accountMod11Sum;
         }
 
-        private static void assertMod11(final String toBeValidated) {
-            if (!MathUtils.isMod11(toBeValidated)) {
-                throw new IllegalNumberBankDomainException("Invalid clearing and/or account number. Mod11 check failed: " + toBeValidated);
+        private static int luhnSumOf(final long account, final int accountLuhnSum) {
+            return accountLuhnSum == ChecksumKernel.NOT_COMPUTED ? MathUtils.luhnSum(account) : accountLuhnSum;
+        }
+
+        @Nullable
+        private static ParseFailureReason mod11(final int sum) {
+            return sum % 11 == 0 ? null : ParseFailureReason.MOD11_FAILURE;
+        }
+
+        private static int[] clearingSums(final int size) {
+            final int[] sums = new int[size];
+
+            for (int digits = 0; digits < size; digits++) {
+                sums[digits] = MathUtils.mod11Sum(digits, TYPE_ONE_ACCOUNT_LENGTH);
             }
+
+            return sums;
         }
     }
 }
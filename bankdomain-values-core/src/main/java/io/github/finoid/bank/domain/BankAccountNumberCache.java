@@ -0,0 +1,350 @@
+package io.github.finoid.bank.domain;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A size-bounded, thread-safe cache of parse results keyed on the raw input, for workloads where the same inputs are
+ * parsed over and over.
+ * <p>
+ * Both valid and rejected inputs are cached, the latter as their shared {@link ParseFailureReason} result, so a
+ * repeated invalid input is as cheap as a repeated valid one. Lookups are lock-free. Insertions lock one of several
+ * segments, and once the cache is full, evict from that segment with the CLOCK policy: every entry has a reference bit
+ * that a hit sets, and the clock hand evicts the first entry whose bit is clear, clearing the bits it passes. An entry
+ * that is never hit again is evicted before entries that are, so a burst of one-off inputs does not flush the
+ * recurring ones.
+ * <p>
+ * Entries remember the {@link ClearingTable} they were parsed against, and are parsed again after a different table
+ * is {@link ClearingTable#install(ClearingTable) installed}. Hits do not reach the installed {@link BankDomainMetrics},
+ * which only see the inputs that are actually parsed.
+ * <pre>{@code
+ * BankAccountNumberCache cache = BankAccountNumberCache.ofMaximumSize(500_000);
+ * ParseResult result = cache.tryParse(input);
+ * }</pre>
+ */
+public final class BankAccountNumberCache {
+    /**
+     * The maximum number of segments, each with its own eviction lock.
+     */
+    private static final int MAX_SEGMENTS = 64;
+
+    /**
+     * The initial clock length of a segment, and the minimum maximum size per segment, so small caches are not split
+     * into tiny segments.
+     */
+    private static final int MIN_SEGMENT_SIZE = 16;
+
+    private final int maximumSize;
+    private final ConcurrentHashMap<String, Entry> entries;
+    private final Segment[] segments;
+
+    /**
+     * The number of cached entries, reserved before an entry is added so the maximum size is never exceeded.
+     */
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private BankAccountNumberCache(final int maximumSize) {
+        this.maximumSize = maximumSize;
+        this.entries = new ConcurrentHashMap<>(Math.min(maximumSize, 1 << 16));
+
+        final int segmentCount = Integer.highestOneBit(Math.clamp(maximumSize / MIN_SEGMENT_SIZE, 1, MAX_SEGMENTS));
+        this.segments = new Segment[segmentCount];
+
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    /**
+     * Creates an empty cache holding at most the given number of inputs.
+     *
+     * @param maximumSize the maximum number of cached inputs
+     * @return the cache
+     * @throws IllegalArgumentException if the maximum size is not positive
+     */
+    public static BankAccountNumberCache ofMaximumSize(final int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be greater than 0, but was " + maximumSize);
+        }
+
+        return new BankAccountNumberCache(maximumSize);
+    }
+
+    /**
+     * Parses the input like {@link BankAccountNumber#tryParse(CharSequence)}, returning the cached result if the same
+     * input was parsed before.
+     * <p>
+     * Inputs are cached by their {@link CharSequence#toString() string} form, so mutable sequences such as a
+     * {@link StringBuilder} can be reused by the caller.
+     *
+     * @param input character sequence that may include spaces, hyphens, etc.
+     * @return a {@link ParseResult} holding either the bank account number or the reason it was rejected
+     */
+    public ParseResult tryParse(final CharSequence input) {
+        final String key = input.toString();
+        final ClearingTable table = ClearingTable.current();
+
+        @Nullable
+        final Entry entry = entries.get(key);
+
+        if (entry != null && entry.table == table) {
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+
+            hits.increment();
+
+            return entry.result;
+        }
+
+        misses.increment();
+
+        final ParseResult result = BankAccountNumber.tryParse(key);
+
+        // A table swapped during the parse may or may not have been used, so the result is not cached
+        if (ClearingTable.current() == table) {
+            segmentOf(key).put(key, new Entry(key, result, table));
+        }
+
+        return result;
+    }
+
+    /**
+     * Creates a {@code BankAccountNumber} like {@link BankAccountNumber#ofString(String)}, returning the cached result
+     * if the same input was parsed before.
+     *
+     * @param input string that may include spaces, hyphens, etc.
+     * @return the bank account number
+     * @throws IllegalNumberBankDomainException if the input is invalid
+     */
+    public BankAccountNumber ofString(final String input) {
+        return tryParse(input).orElseThrow(input);
+    }
+
+    /**
+     * Returns {@code true} if the given input is a valid bank account number, returning the cached result if the same
+     * input was parsed before.
+     *
+     * @param input the input to validate
+     * @return {@code true} if the input is valid; {@code false} otherwise
+     */
+    public boolean isValid(final String input) {
+        return tryParse(input).isValid();
+    }
+
+    /**
+     * Returns the number of cached inputs.
+     *
+     * @return the number of cached inputs, at most {@link #getMaximumSize()}
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Returns the maximum number of cached inputs.
+     *
+     * @return the maximum size
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Returns a snapshot of the hit, miss and eviction counts since the cache was created or last
+     * {@link #clear() cleared}.
+     *
+     * @return the statistics
+     */
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), size());
+    }
+
+    /**
+     * Removes every cached input and resets the statistics.
+     */
+    public void clear() {
+        for (final Segment segment : segments) {
+            segment.clear();
+        }
+
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    private Segment segmentOf(final String key) {
+        final int hash = key.hashCode();
+
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    /**
+     * A snapshot of the statistics of a {@link BankAccountNumberCache}.
+     */
+    @Value
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Stats {
+        /**
+         * The number of lookups answered from the cache.
+         */
+        long hitCount;
+
+        /**
+         * The number of lookups that parsed the input.
+         */
+        long missCount;
+
+        /**
+         * The number of inputs evicted to make room for new ones.
+         */
+        long evictionCount;
+
+        /**
+         * The number of cached inputs.
+         */
+        int size;
+
+        /**
+         * Returns the share of lookups answered from the cache.
+         *
+         * @return the hit rate between {@code 0} and {@code 1}, or {@code 0} if nothing was looked up
+         */
+        public double hitRate() {
+            final long lookups = hitCount + missCount;
+
+            return lookups == 0 ? 0 : (double) hitCount / lookups;
+        }
+    }
+
+    private static final class Entry {
+        private final String key;
+        private final ParseResult result;
+        private final ClearingTable table;
+
+        /**
+         * Set by hits and cleared by the clock hand. Races only cost an entry an extra pass of the hand.
+         */
+        private volatile boolean referenced;
+
+        /**
+         * The position of the entry in the clock of its segment, guarded by the segment lock.
+         */
+        private int slot;
+
+        private Entry(final String key, final ParseResult result, final ClearingTable table) {
+            this.key = key;
+            this.result = result;
+            this.table = table;
+        }
+    }
+
+    /**
+     * A share of the cached entries, with its own clock. Every key maps to one segment, so all writes of a key are
+     * serialized by the lock of its segment. The clock grows until the cache is full, whichever segments the entries
+     * hash to.
+     */
+    private final class Segment {
+        private final ReentrantLock lock = new ReentrantLock();
+        private @Nullable Entry[] clock = new Entry[MIN_SEGMENT_SIZE];
+        private int length;
+        private int hand;
+
+        private void put(final String key, final Entry entry) {
+            lock.lock();
+            try {
+                @Nullable
+                final Entry existing = entries.get(key);
+
+                if (existing != null) {
+                    // Replace an entry of another table, but keep one another thread just added
+                    if (existing.table != entry.table) {
+                        entry.slot = existing.slot;
+                        clock[entry.slot] = entry;
+                        entries.put(key, entry);
+                    }
+
+                    return;
+                }
+
+                if (size.incrementAndGet() <= maximumSize) {
+                    if (length == clock.length) {
+                        clock = Arrays.copyOf(clock, length * 2);
+                    }
+
+                    entry.slot = length++;
+                } else {
+                    size.decrementAndGet();
+
+                    // The cache is full with entries of other segments
+                    if (length == 0) {
+                        return;
+                    }
+
+                    entry.slot = evict();
+                }
+
+                clock[entry.slot] = entry;
+                entries.put(key, entry);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Advances the hand to the first entry that was not hit since the hand last passed it, and evicts it.
+         *
+         * @return the freed slot
+         */
+        @SuppressWarnings("NullAway")
+        private int evict() {
+            while (true) {
+                final Entry candidate = clock[hand];
+                final int slot = hand;
+
+                hand = (hand + 1) % length;
+
+                if (candidate.referenced) {
+                    candidate.referenced = false;
+                } else {
+                    entries.remove(candidate.key, candidate);
+                    evictions.increment();
+
+                    return slot;
+                }
+            }
+        }
+
+        private void clear() {
+            lock.lock();
+            try {
+                for (int i = 0; i < length; i++) {
+                    @Nullable
+                    final Entry entry = clock[i];
+
+                    if (entry != null) {
+                        entries.remove(entry.key, entry);
+                    }
+                }
+
+                size.addAndGet(-length);
+                clock = new Entry[MIN_SEGMENT_SIZE];
+                length = 0;
+                hand = 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
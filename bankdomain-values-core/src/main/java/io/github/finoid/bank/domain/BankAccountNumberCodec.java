@@ -0,0 +1,207 @@
+package io.github.finoid.bank.domain;
+
+import lombok.experimental.UtilityClass;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+
+/**
+ * Binary codec for {@link BankAccountNumber}, based on its canonical packed {@code long} representation.
+ * <p>
+ * Only account numbers of at most {@link #MAX_ACCOUNT_LENGTH} account digits can be packed, which covers every account
+ * format in use. The parsers accept up to 18 account digits, and longer accounts are rejected when written.
+ * <p>
+ * The packed value is laid out, from the most to the least significant bit, as:
+ * <ul>
+ *     <li>1 bit – always zero, so packed values are never negative</li>
+ *     <li>14 bits – the 4-digit clearing number</li>
+ *     <li>4 bits – the sorting digit plus one, or zero if the clearing number has no sorting digit</li>
+ *     <li>5 bits – the number of account digits, including leading zeros</li>
+ *     <li>40 bits – the account digits as a number</li>
+ * </ul>
+ * Natural {@code long} order of packed values therefore orders accounts by clearing number, sorting digit,
+ * account length and account digits. Within a clearing number, accounts are ordered by length first, so the order is
+ * not numeric: {@code 99} sorts before {@code 005}, and leading zeros count. The order is stable and cheap to compare,
+ * which is what grouping and deduplication need, but it is not the order of the formatted account numbers. The bank
+ * and type are not stored, they are resolved again when inflated.
+ */
+@UtilityClass
+public class BankAccountNumberCodec {
+    /**
+     * The number of bytes of an encoded bank account number.
+     */
+    public static final int BYTES = Long.BYTES;
+
+    /**
+     * The maximum number of account digits that can be packed.
+     */
+    public static final int MAX_ACCOUNT_LENGTH = 12;
+
+    private static final int ACCOUNT_BITS = 40;
+    private static final int ACCOUNT_LENGTH_BITS = 5;
+    private static final int SORTING_DIGIT_BITS = 4;
+    private static final int CLEARING_BITS = 14;
+
+    private static final int ACCOUNT_LENGTH_SHIFT = ACCOUNT_BITS;
+    private static final int SORTING_DIGIT_SHIFT = ACCOUNT_LENGTH_SHIFT + ACCOUNT_LENGTH_BITS;
+    private static final int CLEARING_SHIFT = SORTING_DIGIT_SHIFT + SORTING_DIGIT_BITS;
+
+    private static final long ACCOUNT_MASK = (1L << ACCOUNT_BITS) - 1;
+    private static final long ACCOUNT_LENGTH_MASK = (1L << ACCOUNT_LENGTH_BITS) - 1;
+    private static final long SORTING_DIGIT_MASK = (1L << SORTING_DIGIT_BITS) - 1;
+    private static final long CLEARING_MASK = (1L << CLEARING_BITS) - 1;
+
+    private static final Comparator<BankAccountNumber> PACKED_ORDER = BankAccountNumberCodec::compare;
+
+    /**
+     * Returns a comparator that orders bank account numbers like their packed representation, that is by clearing
+     * number, sorting digit, account length and then account digits.
+     * <p>
+     * The comparator compares these fields directly, so it also orders account numbers with more than
+     * {@link #MAX_ACCOUNT_LENGTH} digits, which cannot be packed.
+     *
+     * @return the comparator
+     */
+    public static Comparator<BankAccountNumber> comparator() {
+        return PACKED_ORDER;
+    }
+
+    /**
+     * Writes the packed representation of a bank account number at the current position of the buffer.
+     *
+     * @param buffer            the target buffer, with at least {@link #BYTES} bytes remaining
+     * @param bankAccountNumber the bank account number
+     * @throws IllegalNumberBankDomainException   if the account number has more than {@link #MAX_ACCOUNT_LENGTH} digits
+     * @throws java.nio.BufferOverflowException if fewer than {@link #BYTES} bytes remain
+     */
+    public static void write(final ByteBuffer buffer, final BankAccountNumber bankAccountNumber) {
+        buffer.putLong(bankAccountNumber.toPackedLong());
+    }
+
+    /**
+     * Reads a bank account number from the current position of the buffer.
+     *
+     * @param buffer the source buffer, with at least {@link #BYTES} bytes remaining
+     * @return the bank account number
+     * @throws IllegalNumberBankDomainException    if the bytes are not a valid packed bank account number
+     * @throws java.nio.BufferUnderflowException if fewer than {@link #BYTES} bytes remain
+     */
+    public static BankAccountNumber read(final ByteBuffer buffer) {
+        return BankAccountNumber.ofPackedLong(buffer.getLong());
+    }
+
+    /**
+     * Writes the packed representation of a bank account number to the output.
+     *
+     * @param output            the target output
+     * @param bankAccountNumber the bank account number
+     * @throws IOException                      if writing fails
+     * @throws IllegalNumberBankDomainException if the account number has more than {@link #MAX_ACCOUNT_LENGTH} digits
+     */
+    public static void write(final DataOutput output, final BankAccountNumber bankAccountNumber) throws IOException {
+        output.writeLong(bankAccountNumber.toPackedLong());
+    }
+
+    /**
+     * Reads a bank account number from the input.
+     *
+     * @param input the source input
+     * @return the bank account number
+     * @throws IOException                      if reading fails
+     * @throws IllegalNumberBankDomainException if the bytes are not a valid packed bank account number
+     */
+    public static BankAccountNumber read(final DataInput input) throws IOException {
+        return BankAccountNumber.ofPackedLong(input.readLong());
+    }
+
+    /**
+     * Packs the parts of a bank account number.
+     *
+     * @param clearingNumber the 4-digit clearing number
+     * @param sortingDigit   the sorting digit, or {@code -1} if absent
+     * @param account        the account digits as a number
+     * @param accountLength  the number of account digits, including leading zeros
+     * @return the packed representation
+     * @throws IllegalNumberBankDomainException if the account has more than {@link #MAX_ACCOUNT_LENGTH} digits
+     */
+    static long pack(final int clearingNumber, final int sortingDigit, final long account, final int accountLength) {
+        if (accountLength > MAX_ACCOUNT_LENGTH) {
+            throw new IllegalNumberBankDomainException("Account number is too long to be packed. Max digits: " + MAX_ACCOUNT_LENGTH);
+        }
+
+        return (long) clearingNumber << CLEARING_SHIFT
+               | (long) (sortingDigit + 1) << SORTING_DIGIT_SHIFT
+               | (long) accountLength << ACCOUNT_LENGTH_SHIFT
+               | account;
+    }
+
+    private static int compare(final BankAccountNumber first, final BankAccountNumber second) {
+        final int clearingOrder = Integer.compare(first.getClearingNumber().getClearingNumber(), second.getClearingNumber().getClearingNumber());
+        if (clearingOrder != 0) {
+            return clearingOrder;
+        }
+
+        final int sortingDigitOrder = Integer.compare(sortingDigitOf(first.getClearingNumber()), sortingDigitOf(second.getClearingNumber()));
+        if (sortingDigitOrder != 0) {
+            return sortingDigitOrder;
+        }
+
+        final int lengthOrder = Integer.compare(first.getAccountNumber().getNumber().length(), second.getAccountNumber().getNumber().length());
+        if (lengthOrder != 0) {
+            return lengthOrder;
+        }
+
+        return Long.compare(first.getAccountNumber().toDigits(), second.getAccountNumber().toDigits());
+    }
+
+    /**
+     * Returns the sorting digit of the clearing number, or {@code -1} if it has none.
+     *
+     * @param clearingNumber the clearing number
+     * @return the sorting digit, or {@code -1}
+     */
+    static int sortingDigitOf(final ClearingNumber clearingNumber) {
+        return clearingNumber.hasSortingNumber() ? clearingNumber.toInt() % 10 : -1;
+    }
+
+    /**
+     * Returns {@code true} if every field of the packed value is within its range.
+     *
+     * @param packed the packed representation
+     * @return {@code true} if well-formed; {@code false} otherwise
+     */
+    static boolean isWellFormed(final long packed) {
+        final long sortingDigit = (packed >>> SORTING_DIGIT_SHIFT) & SORTING_DIGIT_MASK;
+        final int accountLength = accountLengthOf(packed);
+
+        return packed >= 0
+               && ((packed >>> CLEARING_SHIFT) & CLEARING_MASK) <= 9999
+               && sortingDigit <= 10
+               && accountLength <= MAX_ACCOUNT_LENGTH
+               && accountOf(packed) < MathUtils.powerOfTen(accountLength);
+    }
+
+    /**
+     * Returns the clearing number of the packed value, including the sorting digit if present.
+     *
+     * @param packed the packed representation
+     * @return a 4- or 5-digit clearing number
+     */
+    static int clearingOf(final long packed) {
+        final int clearingNumber = (int) ((packed >>> CLEARING_SHIFT) & CLEARING_MASK);
+        final int sortingDigit = (int) ((packed >>> SORTING_DIGIT_SHIFT) & SORTING_DIGIT_MASK) - 1;
+
+        return sortingDigit < 0 ? clearingNumber : clearingNumber * 10 + sortingDigit;
+    }
+
+    static int accountLengthOf(final long packed) {
+        return (int) ((packed >>> ACCOUNT_LENGTH_SHIFT) & ACCOUNT_LENGTH_MASK);
+    }
+
+    static long accountOf(final long packed) {
+        return packed & ACCOUNT_MASK;
+    }
+}
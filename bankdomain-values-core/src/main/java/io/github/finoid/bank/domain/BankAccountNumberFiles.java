@@ -0,0 +1,429 @@
+package io.github.finoid.bank.domain;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.experimental.UtilityClass;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Bulk validation of files holding one bank account number per line, either alone or as a column of a simple
+ * delimited file without quoting.
+ * <p>
+ * The file is memory-mapped in chunks that end at line boundaries, and the chunks are validated in parallel on a
+ * {@link ForkJoinPool}. Account numbers are parsed straight from the mapped bytes with
+ * {@link BankAccountNumber#tryParse(ByteBuffer, int, int)}; lines are never decoded into strings. Blank lines, empty
+ * or holding only ASCII whitespace, are skipped.
+ */
+@UtilityClass
+public class BankAccountNumberFiles {
+    /**
+     * The nominal size of a chunk. A chunk is extended to the end of the line it would otherwise split.
+     */
+    static final int DEFAULT_CHUNK_SIZE = 32 * 1024 * 1024;
+
+    private static final int BOUNDARY_SCAN_SIZE = 8192;
+    private static final byte[] VALID_STATUS = "VALID".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[][] FAILURE_STATUSES = failureStatuses();
+
+    /**
+     * Receives the result of every account number in a file.
+     * <p>
+     * Results are delivered from the threads of the pool, concurrently and in no particular order, so implementations
+     * must be thread-safe.
+     */
+    @FunctionalInterface
+    public interface ResultListener {
+        /**
+         * Called once per non-blank line.
+         *
+         * @param lineOffset the byte offset of the start of the line in the file
+         * @param result     the result of parsing the account number of the line
+         */
+        void onResult(long lineOffset, ParseResult result);
+    }
+
+    /**
+     * Where the account number is found on each line.
+     */
+    @Value
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class FileLayout {
+        private static final FileLayout LINES = new FileLayout((byte) '\n', 0, false);
+
+        /**
+         * The column delimiter, a newline if every line is a single account number.
+         */
+        byte delimiter;
+
+        /**
+         * The zero-based column holding the account number.
+         */
+        int column;
+
+        /**
+         * Whether the first line is a header, and skipped.
+         */
+        boolean header;
+
+        /**
+         * Returns the layout of a file with one account number per line.
+         *
+         * @return the layout
+         */
+        public static FileLayout lines() {
+            return LINES;
+        }
+
+        /**
+         * Returns the layout of a delimited file with the account number in the given column.
+         *
+         * @param delimiter the ASCII column delimiter
+         * @param column    the zero-based column holding the account number
+         * @param header    whether the first line is a header, and skipped
+         * @return the layout
+         * @throws IllegalArgumentException if the delimiter is not an ASCII character or the column is negative
+         */
+        public static FileLayout delimited(final char delimiter, final int column, final boolean header) {
+            if (delimiter > 127 || delimiter == '\n' || delimiter == '\r') {
+                throw new IllegalArgumentException("Delimiter must be an ASCII character other than a line break: " + (int) delimiter);
+            }
+
+            if (column < 0) {
+                throw new IllegalArgumentException("Column must not be negative: " + column);
+            }
+
+            return new FileLayout((byte) delimiter, column, header);
+        }
+    }
+
+    /**
+     * Validates every account number of the file on the common {@link ForkJoinPool}, passing each result to the listener.
+     *
+     * @param file     the file to validate
+     * @param layout   where the account number is found on each line
+     * @param listener receives the result of every non-blank line, from several threads
+     * @throws IOException if the file cannot be read
+     */
+    public static void validate(final Path file, final FileLayout layout, final ResultListener listener) throws IOException {
+        validate(file, layout, listener, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Validates every account number of the file on the given {@link ForkJoinPool}, passing each result to the listener.
+     *
+     * @param file     the file to validate
+     * @param layout   where the account number is found on each line
+     * @param listener receives the result of every non-blank line, from several threads
+     * @param pool     the pool to validate on
+     * @throws IOException if the file cannot be read
+     */
+    public static void validate(final Path file, final FileLayout layout, final ResultListener listener, final ForkJoinPool pool)
+        throws IOException {
+        validate(file, layout, listener, pool, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Validates every account number of the file on the common {@link ForkJoinPool}, and writes a results file.
+     * <p>
+     * The results file holds one line per non-blank input line, in input order: the account number field as found in
+     * the input, a semicolon, and either {@code VALID} or the name of the {@link ParseFailureReason}.
+     *
+     * @param file    the file to validate
+     * @param layout  where the account number is found on each line
+     * @param results the results file, replaced if it exists
+     * @throws IOException if the file cannot be read, or the results file cannot be written
+     */
+    public static void validateToFile(final Path file, final FileLayout layout, final Path results) throws IOException {
+        validateToFile(file, layout, results, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Validates every account number of the file on the given {@link ForkJoinPool}, and writes a results file.
+     *
+     * @param file    the file to validate
+     * @param layout  where the account number is found on each line
+     * @param results the results file, replaced if it exists
+     * @param pool    the pool to validate on
+     * @throws IOException if the file cannot be read, or the results file cannot be written
+     * @see #validateToFile(Path, FileLayout, Path)
+     */
+    public static void validateToFile(final Path file, final FileLayout layout, final Path results, final ForkJoinPool pool)
+        throws IOException {
+        validateToFile(file, layout, results, pool, DEFAULT_CHUNK_SIZE);
+    }
+
+    static void validate(final Path file, final FileLayout layout, final ResultListener listener, final ForkJoinPool pool,
+                         final int chunkSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final List<Chunk> chunks = chunksOf(channel, chunkSize);
+
+            runInOrder(chunks, pool, chunk -> {
+                forEachRecord(channel, chunk, layout, (buffer, lineStart, fieldStart, fieldEnd, result) ->
+                    listener.onResult(chunk.start() + lineStart, result));
+                return new byte[0];
+            }, ignored -> {
+            });
+        }
+    }
+
+    static void validateToFile(final Path file, final FileLayout layout, final Path results, final ForkJoinPool pool,
+                               final int chunkSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+             FileChannel output = FileChannel.open(results, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                 StandardOpenOption.WRITE)) {
+            final List<Chunk> chunks = chunksOf(channel, chunkSize);
+
+            runInOrder(chunks, pool, chunk -> {
+                final ResultLines lines = new ResultLines((int) Math.min(chunk.length() + chunk.length() / 2, Integer.MAX_VALUE - 8));
+
+                forEachRecord(channel, chunk, layout, (buffer, lineStart, fieldStart, fieldEnd, result) ->
+                    lines.append(buffer, fieldStart, fieldEnd, statusOf(result)));
+
+                return lines.toByteArray();
+            }, bytes -> {
+                final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                while (buffer.hasRemaining()) {
+                    output.write(buffer);
+                }
+            });
+        }
+    }
+
+    /**
+     * A region of the file, starting at the start of a line and ending after a line break or at the end of the file.
+     */
+    record Chunk(long start, long length, boolean first) {
+    }
+
+    @FunctionalInterface
+    private interface ChunkTask {
+        byte[] run(Chunk chunk) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface ChunkSink {
+        void accept(byte[] output) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface RecordVisitor {
+        void visit(MappedByteBuffer buffer, int lineStart, int fieldStart, int fieldEnd, ParseResult result);
+    }
+
+    /**
+     * The results file lines of a chunk, unsynchronized since a chunk is written by a single thread.
+     */
+    private static final class ResultLines {
+        private byte[] bytes;
+        private int size;
+
+        ResultLines(final int capacity) {
+            this.bytes = new byte[Math.max(capacity, 16)];
+        }
+
+        void append(final ByteBuffer buffer, final int fieldStart, final int fieldEnd, final byte[] status) {
+            final int fieldLength = fieldEnd - fieldStart;
+            final int lineLength = fieldLength + status.length + 2;
+
+            if (size + lineLength > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + lineLength));
+            }
+
+            buffer.get(fieldStart, bytes, size, fieldLength);
+            size += fieldLength;
+            bytes[size++] = ';';
+            System.arraycopy(status, 0, bytes, size, status.length);
+            size += status.length;
+            bytes[size++] = '\n';
+        }
+
+        byte[] toByteArray() {
+            return bytes.length == size ? bytes : Arrays.copyOf(bytes, size);
+        }
+    }
+
+    static List<Chunk> chunksOf(final FileChannel channel, final int chunkSize) throws IOException {
+        final long size = channel.size();
+        final List<Chunk> chunks = new ArrayList<>();
+
+        long start = 0;
+        while (start < size) {
+            final long end = start + chunkSize >= size ? size : nextLineStart(channel, start + chunkSize, size);
+
+            if (end - start > Integer.MAX_VALUE) {
+                throw new IOException("Line starting before offset " + end + " is too long to be mapped");
+            }
+
+            chunks.add(new Chunk(start, end - start, start == 0));
+            start = end;
+        }
+
+        return chunks;
+    }
+
+    private static long nextLineStart(final FileChannel channel, final long from, final long size) throws IOException {
+        final ByteBuffer scan = ByteBuffer.allocate(BOUNDARY_SCAN_SIZE);
+
+        long position = from;
+        while (position < size) {
+            scan.clear();
+            final int read = channel.read(scan, position);
+
+            if (read <= 0) {
+                break;
+            }
+
+            for (int i = 0; i < read; i++) {
+                if (scan.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+
+            position += read;
+        }
+
+        return size;
+    }
+
+    /**
+     * Runs the task of every chunk on the pool, with a bounded number of chunks in flight, and passes their output to
+     * the sink in chunk order.
+     */
+    private static void runInOrder(final List<Chunk> chunks, final ForkJoinPool pool, final ChunkTask task, final ChunkSink sink)
+        throws IOException {
+        final int window = Math.max(pool.getParallelism() * 2, 2);
+        final Deque<ForkJoinTask<byte[]>> inFlight = new ArrayDeque<>();
+
+        int next = 0;
+        try {
+            while (next < chunks.size() || !inFlight.isEmpty()) {
+                while (next < chunks.size() && inFlight.size() < window) {
+                    final Chunk chunk = chunks.get(next++);
+                    final Callable<byte[]> callable = () -> task.run(chunk);
+
+                    inFlight.add(pool.submit(callable));
+                }
+
+                sink.accept(inFlight.remove().join());
+            }
+        } catch (final RuntimeException e) {
+            inFlight.forEach(inFlightTask -> inFlightTask.cancel(true));
+            throw ioExceptionOf(e);
+        }
+    }
+
+    private static void forEachRecord(final FileChannel channel, final Chunk chunk, final FileLayout layout, final RecordVisitor visitor) {
+        final MappedByteBuffer buffer;
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, chunk.start(), chunk.length());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        final int limit = buffer.limit();
+        boolean skip = chunk.first() && layout.isHeader();
+        int lineStart = 0;
+
+        for (int i = 0; i <= limit; i++) {
+            if (i < limit && buffer.get(i) != '\n') {
+                continue;
+            }
+
+            final int lineEnd = i > lineStart && buffer.get(i - 1) == '\r' ? i - 1 : i;
+
+            if (skip) {
+                skip = false;
+            } else if (!isBlank(buffer, lineStart, lineEnd)) {
+                visitField(buffer, lineStart, lineEnd, layout, visitor);
+            }
+
+            lineStart = i + 1;
+        }
+    }
+
+    /**
+     * Returns {@code true} if the line is empty or holds only ASCII whitespace, as {@link String#isBlank()} decides for
+     * ASCII text. Bytes of multibyte UTF-8 characters are never whitespace by this rule.
+     */
+    private static boolean isBlank(final MappedByteBuffer buffer, final int lineStart, final int lineEnd) {
+        for (int i = lineStart; i < lineEnd; i++) {
+            final byte value = buffer.get(i);
+
+            if (value < 0 || !Character.isWhitespace(value)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static void visitField(final MappedByteBuffer buffer, final int lineStart, final int lineEnd, final FileLayout layout,
+                                   final RecordVisitor visitor) {
+        int fieldStart = lineStart;
+        int column = 0;
+
+        for (int i = lineStart; i <= lineEnd; i++) {
+            if (i < lineEnd && buffer.get(i) != layout.getDelimiter()) {
+                continue;
+            }
+
+            if (column == layout.getColumn()) {
+                visitor.visit(buffer, lineStart, fieldStart, i, BankAccountNumber.tryParse(buffer, fieldStart, i - fieldStart));
+                return;
+            }
+
+            column++;
+            fieldStart = i + 1;
+        }
+
+        // The line has fewer columns than the layout, reported as an empty account number
+        visitor.visit(buffer, lineStart, lineEnd, lineEnd, BankAccountNumber.tryParse(buffer, lineEnd, 0));
+    }
+
+    @SuppressWarnings("EnumOrdinal")
+    private static byte[] statusOf(final ParseResult result) {
+        if (result.isValid()) {
+            return VALID_STATUS;
+        }
+
+        return FAILURE_STATUSES[result.optionalFailureReason().orElseThrow().ordinal()];
+    }
+
+    private static IOException ioExceptionOf(final RuntimeException exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException ioException) {
+                return ioException;
+            }
+        }
+
+        throw exception;
+    }
+
+    private static byte[][] failureStatuses() {
+        final ParseFailureReason[] reasons = ParseFailureReason.values();
+        final byte[][] statuses = new byte[reasons.length][];
+
+        for (int i = 0; i < reasons.length; i++) {
+            statuses[i] = reasons[i].name().getBytes(StandardCharsets.US_ASCII);
+        }
+
+        return statuses;
+    }
+}
@@ -0,0 +1,266 @@
+package io.github.finoid.bank.domain;
+
+import lombok.experimental.UtilityClass;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Bulk operations over many raw bank account number inputs.
+ * <p>
+ * Inputs are split across a {@link ForkJoinPool} and parsed with {@link BankAccountNumber#tryParse(CharSequence)},
+ * so rejected inputs never pay for an exception. Each worker thread collects its chunks into a scratch buffer that is
+ * reused between chunks, and only the exact-sized outcome of each chunk is retained.
+ * <p>
+ * Inputs already held as primitive columns are validated with {@link #validityMask(int[], long[])}, which creates no
+ * objects per account.
+ */
+@UtilityClass
+public class BankAccountNumbers {
+    /**
+     * Inputs at or below this size are validated by a single worker instead of being split further.
+     */
+    private static final int CHUNK_SIZE = 4096;
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private static final ChecksumKernel CHECKSUM_KERNEL = ChecksumKernel.load();
+
+    /**
+     * Validates every input of the list on the common {@link ForkJoinPool}.
+     *
+     * @param inputs the raw inputs, which may include spaces, hyphens, etc.
+     * @return the valid bank account numbers, the positions of the rejected inputs and the failure counts per reason
+     */
+    public static BulkValidationResult validateAll(final List<? extends CharSequence> inputs) {
+        return validateAll(inputs.spliterator(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Validates every input of the list on the given {@link ForkJoinPool}.
+     *
+     * @param inputs the raw inputs, which may include spaces, hyphens, etc.
+     * @param pool   the pool to validate on
+     * @return the valid bank account numbers, the positions of the rejected inputs and the failure counts per reason
+     */
+    public static BulkValidationResult validateAll(final List<? extends CharSequence> inputs, final ForkJoinPool pool) {
+        return validateAll(inputs.spliterator(), pool);
+    }
+
+    /**
+     * Validates every input of the spliterator on the common {@link ForkJoinPool}.
+     *
+     * @param inputs the raw inputs, which may include spaces, hyphens, etc.
+     * @return the valid bank account numbers, the positions of the rejected inputs and the failure counts per reason
+     * @see #validateAll(Spliterator, ForkJoinPool)
+     */
+    public static BulkValidationResult validateAll(final Spliterator<? extends CharSequence> inputs) {
+        return validateAll(inputs, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Validates every input of the spliterator on the given {@link ForkJoinPool}.
+     * <p>
+     * The spliterator is split with {@link Spliterator#trySplit()} until its parts are small enough to be validated by
+     * a single worker. Positions are counted in encounter order, so they only refer back to the input if the spliterator
+     * is {@link Spliterator#ORDERED}.
+     *
+     * @param inputs the raw inputs, which may include spaces, hyphens, etc.
+     * @param pool   the pool to validate on
+     * @return the valid bank account numbers, the positions of the rejected inputs and the failure counts per reason
+     */
+    public static BulkValidationResult validateAll(final Spliterator<? extends CharSequence> inputs, final ForkJoinPool pool) {
+        return BulkValidationResult.ofChunks(pool.invoke(new ValidationTask(inputs)));
+    }
+
+    /**
+     * Validates accounts held as two columns, a clearing number and an account number per row.
+     *
+     * @param clearingNumbers the 4- or 5-digit clearing numbers
+     * @param accountNumbers  the account numbers, without the clearing number part
+     * @return a bit set with the bit of every valid row set
+     * @throws IllegalArgumentException if the columns differ in length
+     * @see #validityMask(int[], long[])
+     */
+    public static BitSet validateColumns(final int[] clearingNumbers, final long[] accountNumbers) {
+        return BitSet.valueOf(validityMask(clearingNumbers, accountNumbers));
+    }
+
+    /**
+     * Validates accounts held as two columns, a clearing number and an account number per row, applying the same rules
+     * as {@link BankAccountNumber#ofClearingAndAccountNumber(int, int)}.
+     * <p>
+     * Rows are validated 64 at a time into one mask word, without creating any objects per row. If
+     * {@code jdk.incubator.vector} is resolved (run with {@code --add-modules jdk.incubator.vector}), the mod10 and
+     * mod11 digit sums of the 64 accounts are computed first, several lanes at a time with the Vector API, otherwise
+     * each row computes the one sum its checksum rule needs. The clearing number lookup and checksum rule of each row
+     * then run as in {@link BankAccountNumber#ofClearingAndAccountNumber(int, int)}. Leading zeros cannot be expressed in a numeric
+     * account column, so accounts are validated by their numeric value.
+     *
+     * @param clearingNumbers the 4- or 5-digit clearing numbers
+     * @param accountNumbers  the account numbers, without the clearing number part
+     * @return the validity mask, with bit {@code i % 64} of word {@code i / 64} set if row {@code i} is valid, in the
+     *     layout of {@link BitSet#toLongArray()}
+     * @throws IllegalArgumentException if the columns differ in length
+     */
+    public static long[] validityMask(final int[] clearingNumbers, final long[] accountNumbers) {
+        if (clearingNumbers.length != accountNumbers.length) {
+            throw new IllegalArgumentException("Columns must be of equal length. Clearing numbers: " + clearingNumbers.length
+                                               + ", account numbers: " + accountNumbers.length);
+        }
+
+        return validityMask(clearingNumbers, accountNumbers, CHECKSUM_KERNEL);
+    }
+
+    /**
+     * Validates account columns of equal length like {@link #validityMask(int[], long[])}, with the given checksum kernel.
+     */
+    static long[] validityMask(final int[] clearingNumbers, final long[] accountNumbers, final ChecksumKernel checksumKernel) {
+        final long[] mask = new long[(clearingNumbers.length + Long.SIZE - 1) / Long.SIZE];
+        final long[] mod11Sums = new long[Long.SIZE];
+        final long[] luhnSums = new long[Long.SIZE];
+
+        for (int word = 0; word < mask.length; word++) {
+            final int from = word * Long.SIZE;
+            final int to = Math.min(from + Long.SIZE, clearingNumbers.length);
+
+            checksumKernel.sums(accountNumbers, from, to, mod11Sums, luhnSums);
+
+            long bits = 0;
+            for (int row = from; row < to; row++) {
+                final int index = row - from;
+                final boolean valid = accountNumbers[row] >= 0
+                                      && BankAccountNumber.failureReasonOf(clearingNumbers[row], accountNumbers[row], (int) mod11Sums[index],
+                                                                           (int) luhnSums[index]) == null;
+
+                bits |= (valid ? 1L : 0L) << index;
+            }
+
+            mask[word] = bits;
+        }
+
+        return mask;
+    }
+
+    /**
+     * Converts every bank account number of the list into its IBAN, like {@link BankAccountNumber#toIban()}.
+     * <p>
+     * The IBANs are written into one reused buffer, so only the returned strings are created.
+     *
+     * @param bankAccountNumbers the bank account numbers
+     * @return the IBANs, in the order of the bank account numbers
+     * @throws BankDomainException if a bank type has no IBAN conversion, or an account does not fit the IBAN
+     */
+    public static List<String> toIbans(final List<? extends BankAccountNumber> bankAccountNumbers) {
+        final char[] iban = new char[Ibans.LENGTH];
+        final String[] ibans = new String[bankAccountNumbers.size()];
+
+        for (int i = 0; i < ibans.length; i++) {
+            Ibans.writeIban(bankAccountNumbers.get(i), iban, 0);
+            ibans[i] = new String(iban);
+        }
+
+        return Collections.unmodifiableList(Arrays.asList(ibans));
+    }
+
+    /**
+     * The exact-sized outcome of a single chunk. Failure positions are relative to the start of the chunk.
+     */
+    record Chunk(int size, BankAccountNumber[] validAccounts, int[] failurePositions, byte[] failureReasons) {
+    }
+
+    private static class ValidationTask extends RecursiveTask<List<Chunk>> {
+        private final Spliterator<? extends CharSequence> inputs;
+
+        ValidationTask(final Spliterator<? extends CharSequence> inputs) {
+            this.inputs = inputs;
+        }
+
+        @Override
+        protected List<Chunk> compute() {
+            @Nullable
+            final Spliterator<? extends CharSequence> prefix = inputs.estimateSize() > CHUNK_SIZE ? inputs.trySplit() : null;
+
+            if (prefix == null) {
+                final List<Chunk> chunks = new ArrayList<>(1);
+                chunks.add(SCRATCH.get().validate(inputs));
+                return chunks;
+            }
+
+            final ValidationTask prefixTask = new ValidationTask(prefix);
+            prefixTask.fork();
+
+            final List<Chunk> suffixChunks = new ValidationTask(inputs).compute();
+            final List<Chunk> chunks = prefixTask.join();
+
+            chunks.addAll(suffixChunks);
+            return chunks;
+        }
+    }
+
+    /**
+     * Per-worker buffers, reused for every chunk the worker validates. A buffer grows while a chunk is validated, and
+     * is reallocated back to {@link #CHUNK_SIZE} afterwards.
+     */
+    private static class Scratch {
+        private BankAccountNumber[] validAccounts = new BankAccountNumber[CHUNK_SIZE];
+        private int[] failurePositions = new int[CHUNK_SIZE];
+        private byte[] failureReasons = new byte[CHUNK_SIZE];
+        private int size;
+        private int validCount;
+        private int failureCount;
+
+        @SuppressWarnings("EnumOrdinal")
+        Chunk validate(final Spliterator<? extends CharSequence> inputs) {
+            size = 0;
+            validCount = 0;
+            failureCount = 0;
+
+            inputs.forEachRemaining(input -> {
+                final ParseResult result = BankAccountNumber.tryParse(input);
+
+                if (result.isValid()) {
+                    if (validCount == validAccounts.length) {
+                        validAccounts = Arrays.copyOf(validAccounts, validCount * 2);
+                    }
+                    validAccounts[validCount++] = result.orElseThrow();
+                } else {
+                    if (failureCount == failurePositions.length) {
+                        failurePositions = Arrays.copyOf(failurePositions, failureCount * 2);
+                        failureReasons = Arrays.copyOf(failureReasons, failureCount * 2);
+                    }
+                    failurePositions[failureCount] = size;
+                    failureReasons[failureCount] = (byte) result.optionalFailureReason().orElseThrow().ordinal();
+                    failureCount++;
+                }
+
+                size++;
+            });
+
+            final Chunk chunk = new Chunk(size, Arrays.copyOf(validAccounts, validCount), Arrays.copyOf(failurePositions, failureCount),
+                Arrays.copyOf(failureReasons, failureCount));
+
+            // Release the references to the accounts, the scratch outlives the chunk. Buffers grown by an input that
+            // was not split are dropped, so a pool worker never keeps arrays of the size of the largest input
+            if (validAccounts.length > CHUNK_SIZE) {
+                validAccounts = new BankAccountNumber[CHUNK_SIZE];
+            } else {
+                Arrays.fill(validAccounts, 0, validCount, null);
+            }
+
+            if (failurePositions.length > CHUNK_SIZE) {
+                failurePositions = new int[CHUNK_SIZE];
+                failureReasons = new byte[CHUNK_SIZE];
+            }
+
+            return chunk;
+        }
+    }
+}
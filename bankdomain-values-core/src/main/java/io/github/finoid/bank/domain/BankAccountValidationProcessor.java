@@ -0,0 +1,286 @@
+package io.github.finoid.bank.domain;
+
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A {@link Flow.Processor} that validates raw bank account number inputs as a stage of a reactive pipeline.
+ * <p>
+ * Inputs are parsed with {@link BankAccountNumber#tryParse(CharSequence)} on the given {@link Executor}, and every
+ * input is emitted as a {@link Result}, in input order. Rejected inputs are emitted too, so the stage never fails on
+ * bad data.
+ * <p>
+ * Demand is honoured in both directions: results are only emitted as far as the subscriber has requested, and inputs
+ * are requested from upstream in batches of {@code batchSize}, with at most two batches buffered. Each time the
+ * processor is scheduled on the executor it validates and emits as many inputs as demand allows, which amortizes the
+ * scheduling over the batch.
+ * <p>
+ * The processor accepts a single subscriber and a single upstream subscription. An upstream error is passed on to the
+ * subscriber at once, and the inputs still buffered are discarded.
+ */
+public class BankAccountValidationProcessor implements Flow.Processor<CharSequence, BankAccountValidationProcessor.Result> {
+    private final Executor executor;
+    private final int batchSize;
+    private final ArrayBlockingQueue<CharSequence> inputs;
+
+    private final AtomicReference<Flow.@Nullable Subscription> upstream = new AtomicReference<>();
+    private final AtomicReference<@Nullable Throwable> error = new AtomicReference<>();
+    private final AtomicLong demand = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicInteger subscribers = new AtomicInteger();
+
+    private volatile Flow.@Nullable Subscriber<? super Result> downstream;
+
+    private volatile boolean done;
+    private volatile boolean cancelled;
+
+    /**
+     * Inputs emitted since upstream was last requested more. Only accessed by the drain loop.
+     */
+    private int consumed;
+
+    /**
+     * Creates a processor that validates on the common {@link ForkJoinPool}, in batches of
+     * {@link Flow#defaultBufferSize()} inputs.
+     */
+    public BankAccountValidationProcessor() {
+        this(ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+    }
+
+    /**
+     * Creates a processor that validates on the given executor.
+     *
+     * @param executor  the executor to validate and emit results on
+     * @param batchSize the number of inputs requested from upstream at a time
+     * @throws IllegalArgumentException if the batch size is not positive
+     */
+    public BankAccountValidationProcessor(final Executor executor, final int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.batchSize = batchSize;
+        this.inputs = new ArrayBlockingQueue<>(batchSize * 2);
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super Result> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+
+        if (subscribers.getAndIncrement() != 0) {
+            subscriber.onSubscribe(new RejectedSubscription());
+            subscriber.onError(new IllegalStateException("BankAccountValidationProcessor only supports a single subscriber"));
+            return;
+        }
+
+        subscriber.onSubscribe(new DownstreamSubscription());
+        downstream = subscriber;
+        drain();
+    }
+
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription, "subscription");
+
+        if (!upstream.compareAndSet(null, subscription)) {
+            subscription.cancel();
+            return;
+        }
+
+        if (cancelled) {
+            subscription.cancel();
+            return;
+        }
+
+        subscription.request(inputs.remainingCapacity());
+    }
+
+    @Override
+    public void onNext(final CharSequence item) {
+        Objects.requireNonNull(item, "item");
+
+        if (done || cancelled) {
+            return;
+        }
+
+        if (!inputs.offer(item)) {
+            cancelUpstream();
+            terminate(new IllegalStateException("Upstream emitted more inputs than requested"));
+            return;
+        }
+
+        drain();
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+        terminate(Objects.requireNonNull(throwable, "throwable"));
+    }
+
+    @Override
+    public void onComplete() {
+        done = true;
+        drain();
+    }
+
+    private void terminate(final Throwable throwable) {
+        if (error.compareAndSet(null, throwable)) {
+            done = true;
+            drain();
+        }
+    }
+
+    private void cancelUpstream() {
+        final Flow.@Nullable Subscription subscription = upstream.get();
+
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+
+        try {
+            executor.execute(this::drainLoop);
+        } catch (final RejectedExecutionException e) {
+            cancelled = true;
+            cancelUpstream();
+            inputs.clear();
+
+            final Flow.@Nullable Subscriber<? super Result> subscriber = downstream;
+            if (subscriber != null) {
+                subscriber.onError(e);
+            }
+        }
+    }
+
+    /**
+     * Emits results while there is demand and buffered input, and delivers the terminal signal once the buffer is
+     * drained. Runs on the executor, never on more than one thread at a time.
+     */
+    private void drainLoop() {
+        int missed = 1;
+
+        do {
+            final Flow.@Nullable Subscriber<? super Result> subscriber = downstream;
+
+            if (cancelled) {
+                inputs.clear();
+            } else if (subscriber != null) {
+                emit(subscriber);
+            }
+
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void emit(final Flow.Subscriber<? super Result> subscriber) {
+        final long requested = demand.get();
+        long emitted = 0;
+
+        while (emitted != requested && !cancelled && error.get() == null) {
+            final CharSequence input = inputs.poll();
+
+            if (input == null) {
+                break;
+            }
+
+            subscriber.onNext(new Result(input, BankAccountNumber.tryParse(input)));
+            emitted++;
+
+            if (++consumed == batchSize) {
+                consumed = 0;
+                Objects.requireNonNull(upstream.get()).request(batchSize);
+            }
+        }
+
+        if (emitted != 0 && requested != Long.MAX_VALUE) {
+            demand.addAndGet(-emitted);
+        }
+
+        if (cancelled || !done) {
+            return;
+        }
+
+        @Nullable
+        final Throwable throwable = error.get();
+
+        if (throwable != null) {
+            cancelled = true;
+            inputs.clear();
+            subscriber.onError(throwable);
+        } else if (inputs.isEmpty()) {
+            cancelled = true;
+            subscriber.onComplete();
+        }
+    }
+
+    /**
+     * A raw input and the outcome of validating it.
+     */
+    @Value
+    public static class Result {
+        CharSequence input;
+        ParseResult parseResult;
+
+        /**
+         * Returns {@code true} if the input is a valid bank account number.
+         *
+         * @return {@code true} if valid; {@code false} otherwise
+         */
+        public boolean isValid() {
+            return parseResult.isValid();
+        }
+    }
+
+    private final class DownstreamSubscription implements Flow.Subscription {
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                cancelUpstream();
+                terminate(new IllegalArgumentException("Requested a non-positive number of results: " + n));
+                return;
+            }
+
+            demand.accumulateAndGet(n, (current, added) -> {
+                final long sum = current + added;
+                return sum < 0 ? Long.MAX_VALUE : sum;
+            });
+
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            cancelUpstream();
+            drain();
+        }
+    }
+
+    private static final class RejectedSubscription implements Flow.Subscription {
+        @Override
+        public void request(final long n) {
+            // Already terminated
+        }
+
+        @Override
+        public void cancel() {
+            // Already terminated
+        }
+    }
+}
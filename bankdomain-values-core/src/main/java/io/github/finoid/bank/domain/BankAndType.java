@@ -1,18 +1,68 @@
 package io.github.finoid.bank.domain;
 
-import lombok.Value;
+import lombok.AccessLevel;
+import lombok.Getter;
 import io.github.finoid.generated.bank.domain.Bank;
+import org.jspecify.annotations.Nullable;
 
+import java.lang.ref.WeakReference;
+import java.util.Map;
 import java.util.Optional;
+import java.util.WeakHashMap;
 
 /**
  * Represents a pairing of a {@link Bank} and its specific {@link BankType} configuration,
  * derived from a clearing number range.
+ * <p>
+ * Instances obtained through {@link #of(Bank, BankType)} or {@link #findByClearingNumber(ClearingNumber)} are interned,
+ * one per bank and bank type. The interned instances are held weakly, so those of a {@link ClearingTable} that was
+ * replaced, for instance by {@link ClearingTableWatcher}, are collected once no table or account refers to them. The
+ * hash code is computed once, since hashing a {@link BankType} walks all its ranges.
  */
-@Value
-public class BankAndType {
-    Bank bank;
-    BankType bankType;
+@Getter
+public final class BankAndType {
+    /**
+     * The interned instances, each weakly referenced as both key and value. Only read and written while a table is
+     * built, never while parsing, so a lock costs nothing on the hot paths.
+     */
+    private static final Map<BankAndType, WeakReference<BankAndType>> INTERNED = new WeakHashMap<>();
+
+    private final Bank bank;
+    private final BankType bankType;
+
+    @Getter(AccessLevel.NONE)
+    private final int hashCode;
+
+    public BankAndType(final Bank bank, final BankType bankType) {
+        this.bank = bank;
+        this.bankType = bankType;
+        this.hashCode = 31 * bank.hashCode() + bankType.hashCode();
+    }
+
+    /**
+     * Returns the interned {@code BankAndType} of the given bank and bank type.
+     *
+     * @param bank     the bank
+     * @param bankType the bank type, one of {@link Bank#getTypes()}
+     * @return the shared {@code BankAndType} instance
+     */
+    public static BankAndType of(final Bank bank, final BankType bankType) {
+        final BankAndType candidate = new BankAndType(bank, bankType);
+
+        synchronized (INTERNED) {
+            final WeakReference<BankAndType> reference = INTERNED.get(candidate);
+            @Nullable
+            final BankAndType interned = reference == null ? null : reference.get();
+
+            if (interned != null) {
+                return interned;
+            }
+
+            INTERNED.put(candidate, new WeakReference<>(candidate));
+
+            return candidate;
+        }
+    }
 
     public boolean isOfType(final BankAccountType bankAccountType, final BankAccountSubType bankAccountSubType) {
         return bankAccountType == bankType.getType()
@@ -21,18 +71,47 @@ public class BankAndType {
 
     /**
      * Attempts to resolve a {@code BankAndType} from the given {@link ClearingNumber}.
+     * <p>
+     * The lookup is a single load from the installed {@link ClearingTable}, by default the dense table generated into
+     * {@link Bank}, and the returned {@code BankAndType} is shared between all clearing numbers of the same bank type.
      *
      * @param clearingNumber the clearing number to match
      * @return an {@code Optional} containing the matching {@code BankAndType}, or empty if none match
      */
     public static Optional<BankAndType> findByClearingNumber(final ClearingNumber clearingNumber) {
-        for (final Bank bank : Bank.values()) {
-            for (final BankType type : bank.getTypes()) {
-                if (type.isWithinRange(clearingNumber.getClearingNumber())) {
-                    return Optional.of(new BankAndType(bank, type));
-                }
-            }
+        final long startTime = BankDomainMetricsRegistry.startTime();
+        @Nullable final BankAndType bankAndType = ClearingTable.current().bankAndTypeOf(clearingNumber.getClearingNumber());
+
+        final BankDomainMetrics metrics = BankDomainMetricsRegistry.current;
+        if (metrics != null) {
+            metrics.onLookup(clearingNumber.getClearingNumber(), bankAndType, BankDomainMetricsRegistry.elapsedSince(startTime));
+        }
+
+        return Optional.ofNullable(bankAndType);
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
         }
-        return Optional.empty();
+
+        if (!(o instanceof BankAndType other)) {
+            return false;
+        }
+
+        return hashCode == other.hashCode
+               && bank == other.bank
+               && (bankType == other.bankType || bankType.equals(other.bankType));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return "BankAndType(bank=" + bank + ", bankType=" + bankType + ")";
     }
 }
@@ -0,0 +1,131 @@
+package io.github.finoid.bank.domain;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Receives events from the hot paths of the library: parsed and rejected inputs, clearing number lookups, and
+ * formatted accounts.
+ * <p>
+ * An implementation is installed with {@link BankDomainMetricsRegistry#install(BankDomainMetrics)}. While none is
+ * installed, every hot path reads a single static field and calls nothing. Callbacks run on the calling thread, in the
+ * middle of parsing and formatting, so implementations must be thread-safe and must not block. The built-in
+ * implementations are {@link DefaultBankDomainMetrics} and {@code io.github.finoid.bank.domain.jfr.JfrBankDomainMetrics}.
+ * <p>
+ * Every method does nothing by default, so an implementation only overrides the events it is interested in. Durations
+ * are only measured while {@link #isTimed()} returns {@code true}, and are {@code 0} otherwise.
+ */
+public interface BankDomainMetrics {
+    /**
+     * Returns whether the library should measure the duration of the operations it reports. Called once per operation,
+     * so implementations can switch timing on and off at runtime.
+     *
+     * @return {@code true} to receive durations; {@code false} by default
+     */
+    default boolean isTimed() {
+        return false;
+    }
+
+    /**
+     * Called when an input has been parsed into a valid {@link BankAccountNumber}, by any factory method.
+     *
+     * @param bankAndType the bank and bank type the account was resolved to
+     * @param inputLength the number of characters of the raw input, or of digits for numeric input
+     * @param nanos       the time spent parsing and validating, in nanoseconds
+     */
+    default void onParsed(final BankAndType bankAndType, final int inputLength, final long nanos) {
+        // No-op by default
+    }
+
+    /**
+     * Called when an input has been rejected, by any factory method.
+     *
+     * @param failureReason the reason the input was rejected
+     * @param bankAndType   the bank and bank type of the clearing number, if it was resolved before the input was rejected
+     * @param inputLength   the number of characters of the raw input, or of digits for numeric input
+     * @param nanos         the time spent parsing and validating, in nanoseconds
+     */
+    default void onRejected(final ParseFailureReason failureReason, @Nullable final BankAndType bankAndType, final int inputLength,
+                            final long nanos) {
+        // No-op by default
+    }
+
+    /**
+     * Called when a clearing number has been looked up outside of parsing, through
+     * {@link BankAndType#findByClearingNumber(ClearingNumber)} or {@code Bank.ofClearingNumber}.
+     *
+     * @param clearingNumber the 4-digit clearing number, without sorting digit
+     * @param bankAndType    the bank and bank type the clearing number was resolved to, or {@code null} if it is unknown
+     * @param nanos          the time spent on the lookup, in nanoseconds
+     */
+    default void onLookup(final int clearingNumber, @Nullable final BankAndType bankAndType, final long nanos) {
+        // No-op by default
+    }
+
+    /**
+     * Called when a bank account number has been formatted, by any {@link BankAccountFormatter} method.
+     *
+     * @param format      the format the account was written in
+     * @param bankAndType the bank and bank type of the account
+     * @param length      the number of characters written
+     * @param nanos       the time spent formatting, in nanoseconds
+     */
+    default void onFormatted(final BankAccountFormatter.Format format, final BankAndType bankAndType, final int length, final long nanos) {
+        // No-op by default
+    }
+
+    /**
+     * Returns metrics that report every event to each of the given metrics, in order. Durations are measured if any of
+     * them is timed.
+     *
+     * @param metrics the metrics to report to
+     * @return the combined metrics
+     */
+    static BankDomainMetrics of(final BankDomainMetrics... metrics) {
+        final List<BankDomainMetrics> all = List.of(metrics);
+
+        return new BankDomainMetrics() {
+            @Override
+            public boolean isTimed() {
+                for (final BankDomainMetrics each : all) {
+                    if (each.isTimed()) {
+                        return true;
+                    }
+                }
+
+                return false;
+            }
+
+            @Override
+            public void onParsed(final BankAndType bankAndType, final int inputLength, final long nanos) {
+                for (final BankDomainMetrics each : all) {
+                    each.onParsed(bankAndType, inputLength, nanos);
+                }
+            }
+
+            @Override
+            public void onRejected(final ParseFailureReason failureReason, @Nullable final BankAndType bankAndType, final int inputLength,
+                                   final long nanos) {
+                for (final BankDomainMetrics each : all) {
+                    each.onRejected(failureReason, bankAndType, inputLength, nanos);
+                }
+            }
+
+            @Override
+            public void onLookup(final int clearingNumber, @Nullable final BankAndType bankAndType, final long nanos) {
+                for (final BankDomainMetrics each : all) {
+                    each.onLookup(clearingNumber, bankAndType, nanos);
+                }
+            }
+
+            @Override
+            public void onFormatted(final BankAccountFormatter.Format format, final BankAndType bankAndType, final int length,
+                                    final long nanos) {
+                for (final BankDomainMetrics each : all) {
+                    each.onFormatted(format, bankAndType, length, nanos);
+                }
+            }
+        };
+    }
+}
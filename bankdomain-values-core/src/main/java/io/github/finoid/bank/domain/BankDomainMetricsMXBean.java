@@ -0,0 +1,48 @@
+package io.github.finoid.bank.domain;
+
+import java.util.Map;
+
+/**
+ * The JMX view of {@link DefaultBankDomainMetrics}. Counts are keyed by constant name and only include non-zero counts.
+ */
+public interface BankDomainMetricsMXBean {
+    /**
+     * Returns the number of inputs parsed into a valid bank account number.
+     *
+     * @return the parsed count
+     */
+    long getParsedCount();
+
+    /**
+     * Returns the number of rejected inputs.
+     *
+     * @return the rejected count
+     */
+    long getRejectedCount();
+
+    /**
+     * Returns the number of rejected inputs per {@link ParseFailureReason}.
+     *
+     * @return the rejection counts by reason name
+     */
+    Map<String, Long> getRejectionCounts();
+
+    /**
+     * Returns the number of parsed inputs and clearing number lookups resolved to each bank.
+     *
+     * @return the resolution counts by {@code Bank} constant name
+     */
+    Map<String, Long> getResolutionCounts();
+
+    /**
+     * Returns the number of formatted accounts per {@link BankAccountFormatter.Format}.
+     *
+     * @return the format counts by format name
+     */
+    Map<String, Long> getFormatCounts();
+
+    /**
+     * Resets every count to zero.
+     */
+    void reset();
+}
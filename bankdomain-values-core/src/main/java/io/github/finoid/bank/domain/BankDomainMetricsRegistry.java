@@ -0,0 +1,89 @@
+package io.github.finoid.bank.domain;
+
+import lombok.experimental.UtilityClass;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Optional;
+
+/**
+ * Holds the {@link BankDomainMetrics} the library reports to, if any.
+ * <p>
+ * Metrics are disabled until an implementation is installed, either a custom one through
+ * {@link #install(BankDomainMetrics)} or the built-in {@link DefaultBankDomainMetrics} through {@link #enableDefault()}.
+ */
+@UtilityClass
+public class BankDomainMetricsRegistry {
+    /**
+     * The installed metrics, read once per event by the hot paths. Kept as a plain field rather than behind an accessor
+     * so that, when disabled, an event costs a field load and a null check.
+     */
+    @Nullable
+    static volatile BankDomainMetrics current;
+
+    /**
+     * Installs the metrics to report to, replacing any previously installed metrics.
+     *
+     * @param metrics the metrics to report to
+     */
+    public static void install(final BankDomainMetrics metrics) {
+        current = metrics;
+    }
+
+    /**
+     * Installs a new {@link DefaultBankDomainMetrics} and registers it as a platform MBean under
+     * {@link DefaultBankDomainMetrics#OBJECT_NAME}, replacing any previous registration. On runtimes without the
+     * {@code java.management} module the metrics are installed without being registered.
+     *
+     * @return the installed metrics
+     */
+    public static DefaultBankDomainMetrics enableDefault() {
+        final DefaultBankDomainMetrics metrics = new DefaultBankDomainMetrics();
+
+        if (isJmxAvailable()) {
+            metrics.registerMBean();
+        }
+
+        install(metrics);
+
+        return metrics;
+    }
+
+    /**
+     * Disables metrics. Events are no longer reported to the previously installed metrics, which keep their counts.
+     */
+    public static void uninstall() {
+        current = null;
+    }
+
+    /**
+     * Returns the installed metrics (if any).
+     *
+     * @return an {@code Optional} containing the installed metrics, or empty if metrics are disabled
+     */
+    public static Optional<BankDomainMetrics> installed() {
+        return Optional.ofNullable(current);
+    }
+
+    /**
+     * Returns {@code true} if the {@code java.management} module is resolved, so MBeans can be registered.
+     */
+    static boolean isJmxAvailable() {
+        return ModuleLayer.boot().findModule("java.management").isPresent();
+    }
+
+    /**
+     * Returns the start time of an operation to report, or {@code 0} if no timed metrics are installed.
+     */
+    static long startTime() {
+        final BankDomainMetrics metrics = current;
+
+        return metrics != null && metrics.isTimed() ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Returns the nanoseconds elapsed since the given {@link #startTime()}, or {@code 0} if the operation was not timed.
+     */
+    static long elapsedSince(final long startTime) {
+        return startTime == 0L ? 0L : System.nanoTime() - startTime;
+    }
+}
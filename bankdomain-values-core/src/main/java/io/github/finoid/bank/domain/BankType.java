@@ -1,6 +1,8 @@
 package io.github.finoid.bank.domain;
 
+import lombok.AllArgsConstructor;
 import lombok.Value;
+import org.jspecify.annotations.Nullable;
 
 import java.util.Set;
 
@@ -13,9 +15,11 @@ import java.util.Set;
  *   <li>{@link BankAccountType} – the top-level classification of the account type</li>
  *   <li>{@link BankAccountSubType} – a more specific subtype, used for detailed validation</li>
  *   <li>A set of valid clearing number ranges, used to match accounts to this type</li>
+ *   <li>The IBAN ID and {@link IbanMethod} of the bank, used to convert accounts into IBANs</li>
  * </ul>
  */
 @Value
+@AllArgsConstructor
 public class BankType {
     private static final int DEFAULT_ACCOUNT_LENGTH = 11;
 
@@ -25,6 +29,31 @@ public class BankType {
     int accountMaxLength;
     Set<IntRanges> checkNumberRanges;
 
+    /**
+     * The 3-digit bank identifier of the IBAN, or {@code 0} if unknown.
+     */
+    int ibanId;
+
+    /**
+     * The method converting account numbers into IBANs, or {@code null} if unknown.
+     */
+    @Nullable
+    IbanMethod ibanMethod;
+
+    /**
+     * Creates a {@code BankType} without IBAN conversion, with an IBAN ID of {@code 0} and no {@link IbanMethod}.
+     *
+     * @param type              the main type classification
+     * @param subType           the subtype classification
+     * @param accountMinLength  the account min length
+     * @param accountMaxLength  the account max length
+     * @param checkNumberRanges the clearing number ranges associated with this type
+     */
+    public BankType(final BankAccountType type, final BankAccountSubType subType, final int accountMinLength, final int accountMaxLength,
+                    final Set<IntRanges> checkNumberRanges) {
+        this(type, subType, accountMinLength, accountMaxLength, checkNumberRanges, 0, null);
+    }
+
     /**
      * Creates a {@code BankType} with specified type, subtype, and one or more clearing number ranges.
      *
@@ -34,7 +63,7 @@ public class BankType {
      * @return a new {@code BankType} instance
      */
     public static BankType ofTypesAndRanges(final BankAccountType type, final BankAccountSubType subType, final IntRanges... ranges) {
-        return new BankType(type, subType, DEFAULT_ACCOUNT_LENGTH, DEFAULT_ACCOUNT_LENGTH, Set.of(ranges));
+        return new BankType(type, subType, DEFAULT_ACCOUNT_LENGTH, DEFAULT_ACCOUNT_LENGTH, Set.of(ranges), 0, null);
     }
 
     /**
@@ -49,7 +78,41 @@ public class BankType {
      */
     public static BankType ofTypesAndRanges(final BankAccountType type, final BankAccountSubType subType, final int accountMinLength,
                                             final int accountMaxLength, final IntRanges... ranges) {
-        return new BankType(type, subType, accountMinLength, accountMaxLength, Set.of(ranges));
+        return new BankType(type, subType, accountMinLength, accountMaxLength, Set.of(ranges), 0, null);
+    }
+
+    /**
+     * Creates a {@code BankType} with specified type, subtype, IBAN conversion, and one or more clearing number ranges.
+     *
+     * @param type       the main type classification
+     * @param subType    the subtype classification
+     * @param ibanId     the 3-digit bank identifier of the IBAN
+     * @param ibanMethod the method converting account numbers into IBANs
+     * @param ranges     one or more clearing number ranges associated with this type
+     * @return a new {@code BankType} instance
+     */
+    public static BankType ofTypesIbanAndRanges(final BankAccountType type, final BankAccountSubType subType, final int ibanId,
+                                                final IbanMethod ibanMethod, final IntRanges... ranges) {
+        return new BankType(type, subType, DEFAULT_ACCOUNT_LENGTH, DEFAULT_ACCOUNT_LENGTH, Set.of(ranges), ibanId, ibanMethod);
+    }
+
+    /**
+     * Creates a {@code BankType} with specified type, subtype, account lengths, IBAN conversion, and one or more
+     * clearing number ranges.
+     *
+     * @param type             the main type classification
+     * @param subType          the subtype classification
+     * @param accountMinLength the account min length
+     * @param accountMaxLength the account max length
+     * @param ibanId           the 3-digit bank identifier of the IBAN, or {@code 0} if unknown
+     * @param ibanMethod       the method converting account numbers into IBANs, or {@code null} if unknown
+     * @param ranges           one or more clearing number ranges associated with this type
+     * @return a new {@code BankType} instance
+     */
+    public static BankType ofTypesIbanAndRanges(final BankAccountType type, final BankAccountSubType subType, final int accountMinLength,
+                                                final int accountMaxLength, final int ibanId, final @Nullable IbanMethod ibanMethod,
+                                                final IntRanges... ranges) {
+        return new BankType(type, subType, accountMinLength, accountMaxLength, Set.of(ranges), ibanId, ibanMethod);
     }
 
     /**
@@ -59,8 +122,13 @@ public class BankType {
      * @return {@code true} if the number matches one of the ranges; {@code false} otherwise
      */
     public boolean isWithinRange(final int number) {
-        return checkNumberRanges.stream()
-            .anyMatch(range -> range.isWithinRange(number));
+        for (final IntRanges ranges : checkNumberRanges) {
+            if (ranges.isWithinRange(number)) {
+                return true;
+            }
+        }
+
+        return false;
     }
 
     /**
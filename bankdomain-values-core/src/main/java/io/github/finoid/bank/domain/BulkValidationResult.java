@@ -0,0 +1,173 @@
+package io.github.finoid.bank.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * The outcome of validating a batch of raw inputs with {@link BankAccountNumbers}.
+ * <p>
+ * Valid accounts are kept in input order. Rejected inputs are kept only as their position in the input
+ * and their {@link ParseFailureReason}, in two primitive arrays.
+ */
+public final class BulkValidationResult {
+    private static final ParseFailureReason[] REASONS = ParseFailureReason.values();
+
+    private final int totalCount;
+    private final List<BankAccountNumber> validAccounts;
+    private final int[] failurePositions;
+    private final byte[] failureReasons;
+    private final int[] reasonCounts;
+
+    private BulkValidationResult(final int totalCount, final List<BankAccountNumber> validAccounts, final int[] failurePositions,
+                                 final byte[] failureReasons, final int[] reasonCounts) {
+        this.totalCount = totalCount;
+        this.validAccounts = validAccounts;
+        this.failurePositions = failurePositions;
+        this.failureReasons = failureReasons;
+        this.reasonCounts = reasonCounts;
+    }
+
+    /**
+     * Assembles the result of consecutive chunks, given in input order.
+     *
+     * @param chunks the validated chunks
+     * @return the combined result
+     */
+    static BulkValidationResult ofChunks(final List<BankAccountNumbers.Chunk> chunks) {
+        int totalCount = 0;
+        int validCount = 0;
+        int failureCount = 0;
+
+        for (final BankAccountNumbers.Chunk chunk : chunks) {
+            totalCount += chunk.size();
+            validCount += chunk.validAccounts().length;
+            failureCount += chunk.failurePositions().length;
+        }
+
+        final List<BankAccountNumber> validAccounts = new ArrayList<>(validCount);
+        final int[] failurePositions = new int[failureCount];
+        final byte[] failureReasons = new byte[failureCount];
+        final int[] reasonCounts = new int[REASONS.length];
+
+        int offset = 0;
+        int failureIndex = 0;
+        for (final BankAccountNumbers.Chunk chunk : chunks) {
+            Collections.addAll(validAccounts, chunk.validAccounts());
+
+            for (int i = 0; i < chunk.failurePositions().length; i++) {
+                failurePositions[failureIndex] = offset + chunk.failurePositions()[i];
+                failureReasons[failureIndex] = chunk.failureReasons()[i];
+                reasonCounts[chunk.failureReasons()[i]]++;
+                failureIndex++;
+            }
+
+            offset += chunk.size();
+        }
+
+        return new BulkValidationResult(totalCount, Collections.unmodifiableList(validAccounts), failurePositions, failureReasons,
+            reasonCounts);
+    }
+
+    /**
+     * Returns the number of validated inputs.
+     *
+     * @return the total number of inputs
+     */
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Returns the number of valid inputs.
+     *
+     * @return the number of valid inputs
+     */
+    public int getValidCount() {
+        return validAccounts.size();
+    }
+
+    /**
+     * Returns the number of rejected inputs.
+     *
+     * @return the number of rejected inputs
+     */
+    public int getInvalidCount() {
+        return failurePositions.length;
+    }
+
+    /**
+     * Returns the valid bank account numbers, in input order.
+     *
+     * @return an unmodifiable list of valid bank account numbers
+     */
+    public List<BankAccountNumber> getValidAccounts() {
+        return validAccounts;
+    }
+
+    /**
+     * Returns the zero-based input positions of the rejected inputs, in ascending order.
+     *
+     * @return a stream of input positions
+     */
+    public IntStream failurePositions() {
+        return Arrays.stream(failurePositions);
+    }
+
+    /**
+     * Returns the input position of the {@code index}th rejected input.
+     *
+     * @param index the index of the failure, between zero and {@link #getInvalidCount()}
+     * @return the zero-based input position
+     */
+    public int getFailurePosition(final int index) {
+        return failurePositions[index];
+    }
+
+    /**
+     * Returns the reason the {@code index}th rejected input was rejected.
+     *
+     * @param index the index of the failure, between zero and {@link #getInvalidCount()}
+     * @return the failure reason
+     */
+    public ParseFailureReason getFailureReason(final int index) {
+        return REASONS[failureReasons[index]];
+    }
+
+    /**
+     * Returns the number of inputs rejected for the given reason.
+     *
+     * @param reason the failure reason
+     * @return the number of inputs rejected for the reason
+     */
+    @SuppressWarnings("EnumOrdinal")
+    public int countOf(final ParseFailureReason reason) {
+        return reasonCounts[reason.ordinal()];
+    }
+
+    /**
+     * Returns the number of rejected inputs per failure reason, omitting reasons without failures.
+     *
+     * @return the failure count per reason
+     */
+    public Map<ParseFailureReason, Integer> reasonCounts() {
+        final Map<ParseFailureReason, Integer> counts = new EnumMap<>(ParseFailureReason.class);
+
+        for (final ParseFailureReason reason : REASONS) {
+            if (countOf(reason) > 0) {
+                counts.put(reason, countOf(reason));
+            }
+        }
+
+        return counts;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkValidationResult(totalCount=" + totalCount + ", validCount=" + getValidCount() + ", reasonCounts=" + reasonCounts() + ")";
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.finoid.bank.domain;
+
+import java.util.Arrays;
+
+/**
+ * Computes the checksums of many account numbers at once, for {@link BankAccountNumbers#validityMask(int[], long[])}.
+ * <p>
+ * The checksum rules themselves stay with {@code BankAccountNumber.Validator}, a kernel only supplies the
+ * {@link MathUtils#mod11Sum(long, int) mod11} and {@link MathUtils#luhnSum(long) Luhn} sums of the account digits, which
+ * are the per-digit work of every rule. {@link #load()} picks the {@link VectorChecksumKernel} when the incubating
+ * {@code jdk.incubator.vector} module is resolved, for instance with {@code --add-modules jdk.incubator.vector}, and the
+ * {@link #SCALAR} kernel otherwise, which leaves each row to compute the one sum its rule needs.
+ */
+interface ChecksumKernel {
+    /**
+     * Set to {@code false} to use the {@link #SCALAR} kernel even if {@code jdk.incubator.vector} is resolved.
+     */
+    String VECTOR_PROPERTY = "io.github.finoid.bank.domain.vector";
+
+    /**
+     * Marks a sum that was not computed in advance, and is computed from the account digits when a rule needs it.
+     */
+    int NOT_COMPUTED = -1;
+
+    /**
+     * Computes no sums in advance, every row computes the sum of its rule one account at a time.
+     */
+    ChecksumKernel SCALAR = (accounts, from, to, mod11Sums, luhnSums) -> {
+        Arrays.fill(mod11Sums, 0, to - from, NOT_COMPUTED);
+        Arrays.fill(luhnSums, 0, to - from, NOT_COMPUTED);
+    };
+
+    /**
+     * Writes the mod11 and Luhn sums of the accounts of rows {@code from} to {@code to}, or {@link #NOT_COMPUTED}, at
+     * the index of each row minus {@code from}. The sums of accounts that are negative or longer than 18 digits are
+     * unspecified, such accounts are rejected by their length before their sums are used.
+     *
+     * @param accounts  the account column
+     * @param from      the first row, inclusive
+     * @param to        the last row, exclusive
+     * @param mod11Sums the mod11 sums, with room for {@code to - from} rows
+     * @param luhnSums  the Luhn sums, with room for {@code to - from} rows
+     */
+    void sums(long[] accounts, int from, int to, long[] mod11Sums, long[] luhnSums);
+
+    /**
+     * Returns the {@link VectorChecksumKernel} if {@code jdk.incubator.vector} is resolved and not disabled through
+     * {@link #VECTOR_PROPERTY}, or the {@link #SCALAR} kernel otherwise. The vector kernel is loaded by name, so it is
+     * never linked, and the module never required, on runtimes without it.
+     *
+     * @return the kernel
+     */
+    static ChecksumKernel load() {
+        if ("false".equals(System.getProperty(VECTOR_PROPERTY))) {
+            return SCALAR;
+        }
+
+        try {
+            return (ChecksumKernel) Class.forName("io.github.finoid.bank.domain.VectorChecksumKernel")
+                .getDeclaredConstructor()
+                .newInstance();
+        } catch (final ReflectiveOperationException | LinkageError e) {
+            // jdk.incubator.vector is not resolved
+            return SCALAR;
+        }
+    }
+}
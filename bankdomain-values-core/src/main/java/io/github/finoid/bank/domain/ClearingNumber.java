@@ -1,6 +1,7 @@
 package io.github.finoid.bank.domain;
 
 import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Value;
 import org.jspecify.annotations.Nullable;
@@ -19,31 +20,63 @@ import java.util.Optional;
  */
 @Value
 public class ClearingNumber {
+    private static final int NO_SORTING_NUMBER = -1;
+    private static final int MIN_CLEARING_NUMBER = 1000;
+    private static final int MAX_CLEARING_NUMBER = 9999;
+
+    /**
+     * The valid sorting digit per 4-digit clearing number, the single digit that makes the 5-digit number pass mod10.
+     */
+    private static final byte[] SORTING_NUMBERS = sortingNumbers();
+
+    /**
+     * Canonical instances per 4-digit clearing number, without and with their valid sorting digit. Slots are filled on
+     * first use; a racing thread at worst creates an equal instance that is dropped.
+     */
+    private static final @Nullable ClearingNumber[] CLEARING_NUMBERS = new ClearingNumber[MAX_CLEARING_NUMBER + 1];
+    private static final @Nullable ClearingNumber[] SORTED_CLEARING_NUMBERS = new ClearingNumber[MAX_CLEARING_NUMBER + 1];
+
     /**
      * The main 4-digit clearing number.
      */
     int clearingNumber;
 
     /**
-     * Optional sorting digit (5th digit), only present if the original input is 5 digits.
+     * Optional sorting digit (5th digit), only present if the original input is 5 digits; {@code -1} if absent.
      */
-    @Nullable
     @Getter(AccessLevel.NONE)
-    Integer sortingNumber;
+    int sortingNumber;
+
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    String string;
+
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    String formatted;
 
-    private ClearingNumber(final int clearingNumber, @Nullable final Integer sortingNumber) {
+    private ClearingNumber(final int clearingNumber, final int sortingNumber) {
         this.clearingNumber = clearingNumber;
         this.sortingNumber = sortingNumber;
 
         validateSelf();
+
+        this.string = sortingNumber != NO_SORTING_NUMBER
+            ? String.format("%04d%d", clearingNumber, sortingNumber)
+            : String.format("%04d", clearingNumber);
+        this.formatted = sortingNumber != NO_SORTING_NUMBER
+            ? String.format("%04d-%d", clearingNumber, sortingNumber)
+            : string;
     }
 
     /**
      * Creates a {@code ClearingNumber} from a {@code int} input.
      * If the number is 5 digits, the last digit is treated as the sorting number.
+     * <p>
+     * Valid 4- and 5-digit clearing numbers return a shared instance.
      *
      * @param number a 4- or 5-digit number
-     * @return a new {@code ClearingNumber} instance
+     * @return a {@code ClearingNumber} instance
      * @throws IllegalNumberBankDomainException if the number is invalid
      */
     public static ClearingNumber ofNumber(final int number) {
@@ -54,7 +87,7 @@ public class ClearingNumber {
      * Creates a {@code ClearingNumber} from a {@code int} input.
      *
      * @param input a numeric string
-     * @return a new {@code ClearingNumber} instance
+     * @return a {@code ClearingNumber} instance
      * @throws IllegalNumberBankDomainException if the input is invalid
      */
     public static ClearingNumber ofString(final String input) {
@@ -71,7 +104,7 @@ public class ClearingNumber {
      * @return an {@code Optional} containing the sorting number, or empty if not set
      */
     public Optional<Integer> optionalSortingNumber() {
-        return Optional.ofNullable(sortingNumber);
+        return hasSortingNumber() ? Optional.of(sortingNumber) : Optional.empty();
     }
 
     /**
@@ -80,7 +113,7 @@ public class ClearingNumber {
      * @return an {@code true} if a sorting number is present, @code false} otherwise.
      */
     public boolean hasSortingNumber() {
-        return sortingNumber != null;
+        return sortingNumber != NO_SORTING_NUMBER;
     }
 
     /**
@@ -89,7 +122,7 @@ public class ClearingNumber {
      * @return a combined 4- or 5-digit clearing number
      */
     public int toInt() {
-        if (sortingNumber == null) {
+        if (!hasSortingNumber()) {
             return clearingNumber;
         }
 
@@ -98,36 +131,94 @@ public class ClearingNumber {
 
     @Override
     public String toString() {
-        return sortingNumber != null
-            ? String.format("%04d%d", clearingNumber, sortingNumber)
-            : String.format("%04d", clearingNumber);
+        return string;
     }
 
     public String toFormatted() {
-        return sortingNumber != null
-            ? String.format("%04d-%d", clearingNumber, sortingNumber)
-            : String.format("%04d", clearingNumber);
+        return formatted;
+    }
+
+    /**
+     * Validates a 4- or 5-digit clearing number without throwing.
+     *
+     * @param number a 4- or 5-digit number, where a 5th digit is treated as the sorting number
+     * @return the reason the number is invalid, or {@code null} if it is valid
+     */
+    @Nullable
+    static ParseFailureReason failureReasonOf(final int number) {
+        final int clearingNumber = number >= 10_000 ? number / 10 : number;
+
+        if (clearingNumber < MIN_CLEARING_NUMBER) {
+            return ParseFailureReason.INVALID_CLEARING_NUMBER;
+        }
+
+        // TODO (nw) should include sorting number?
+        if (number > MAX_CLEARING_NUMBER && !isValidSortingNumber(clearingNumber, number % 10)) {
+            return ParseFailureReason.INVALID_SORTING_DIGIT;
+        }
+
+        return null;
+    }
+
+    private static boolean isValidSortingNumber(final int clearingNumber, final int sortingNumber) {
+        if (clearingNumber > MAX_CLEARING_NUMBER) {
+            return MathUtils.isMod10(clearingNumber * 10L + sortingNumber);
+        }
+
+        return SORTING_NUMBERS[clearingNumber] == sortingNumber;
     }
 
     private void validateSelf() {
-        if (clearingNumber < 1000) {
-            throw new IllegalNumberBankDomainException("Clearing number must be at least 4 digits long");
+        final ParseFailureReason failureReason = failureReasonOf(toInt());
+
+        if (failureReason != null) {
+            throw new IllegalNumberBankDomainException(failureReason.getDescription());
         }
+    }
 
-        int clearingNumber = toInt(); // TODO (nw) should include sorting number?
+    private static byte[] sortingNumbers() {
+        final byte[] sortingNumbers = new byte[MAX_CLEARING_NUMBER + 1];
 
-        if (clearingNumber > 9999 && !MathUtils.isMod10(clearingNumber)) {
-            throw new IllegalNumberBankDomainException("Clearing number containing a sort key must be mod10");
+        for (int clearingNumber = MIN_CLEARING_NUMBER; clearingNumber <= MAX_CLEARING_NUMBER; clearingNumber++) {
+            for (int sortingNumber = 0; sortingNumber <= 9; sortingNumber++) {
+                if (MathUtils.isMod10(clearingNumber * 10L + sortingNumber)) {
+                    sortingNumbers[clearingNumber] = (byte) sortingNumber;
+                    break;
+                }
+            }
         }
+
+        return sortingNumbers;
     }
 
     private static class Factory {
         public static ClearingNumber parse(int number) {
+            if (number >= MIN_CLEARING_NUMBER && number <= MAX_CLEARING_NUMBER) {
+                return canonical(CLEARING_NUMBERS, number, NO_SORTING_NUMBER);
+            }
+
+            if (number > MAX_CLEARING_NUMBER && number < 100_000 && isValidSortingNumber(number / 10, number % 10)) {
+                return canonical(SORTED_CLEARING_NUMBERS, number / 10, number % 10);
+            }
+
+            // Invalid, or outside the canonical range; the constructor rejects what is invalid
             if (number >= 10_000) {
                 return new ClearingNumber(number / 10, number % 10);
             }
 
-            return new ClearingNumber(number, null);
+            return new ClearingNumber(number, NO_SORTING_NUMBER);
+        }
+
+        private static ClearingNumber canonical(final @Nullable ClearingNumber[] cache, final int clearingNumber, final int sortingNumber) {
+            @Nullable
+            ClearingNumber canonical = cache[clearingNumber];
+
+            if (canonical == null) {
+                canonical = new ClearingNumber(clearingNumber, sortingNumber);
+                cache[clearingNumber] = canonical;
+            }
+
+            return canonical;
         }
     }
 }
@@ -0,0 +1,585 @@
+package io.github.finoid.bank.domain;
+
+import io.github.finoid.generated.bank.domain.Bank;
+import org.jspecify.annotations.Nullable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * An immutable snapshot of the clearing number table, mapping every 4-digit clearing number to its {@link BankAndType}.
+ * <p>
+ * By default the library uses the table compiled into {@link Bank} from the bundled CSV. A newer table published by
+ * Bankinfrastruktur can be loaded at runtime, in the same semicolon-separated format, and installed without a rebuild:
+ * <pre>{@code
+ * ClearingTable.install(ClearingTable.load(Path.of("clearingnummertabell-for-nedladdning.csv")));
+ * }</pre>
+ * The installed table is held in a single volatile field. Every parse reads it once and resolves and validates against
+ * that snapshot only, so installing a table never blocks readers, and a parse never mixes two tables. To reload the
+ * table whenever the file changes, see {@link ClearingTableWatcher}.
+ * <p>
+ * A runtime table can move clearing numbers between banks and account types, but cannot introduce banks that are not
+ * constants of {@link Bank}. Rows of unknown banks are skipped and reported by {@link #getUnknownBanks()}.
+ */
+public final class ClearingTable {
+    private static final int TABLE_SIZE = 10_000;
+    private static final char DELIMITER = ';';
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private static final BankAccountType[] TYPES = BankAccountType.values();
+    private static final BankAccountSubType[] SUB_TYPES = BankAccountSubType.values();
+    private static final IbanMethod[] IBAN_METHODS = IbanMethod.values();
+
+    /**
+     * Selects how the generated table is loaded: {@code binary} (the default) reads the binary resource generated next
+     * to {@link Bank}, {@code enum} builds it from the {@link Bank} constants. Intended for startup comparisons, the
+     * tables are identical.
+     */
+    static final String SOURCE_PROPERTY = "io.github.finoid.bank.domain.clearingTable";
+
+    private static final String RESOURCE_NAME = "clearing-table.bin";
+    private static final byte[] MAGIC = {'B', 'D', 'C', 'T'};
+    private static final int VERSION = 2;
+    private static final int MAX_GROUPS = 255;
+    private static final int IBAN_ID_COUNT = 1000;
+    private static final IbanRoute[] NO_IBAN_ROUTES = new IbanRoute[0];
+
+    private static final ClearingTable GENERATED = generatedTable();
+
+    /**
+     * The installed table, read once per parse.
+     */
+    private static volatile ClearingTable current = GENERATED;
+
+    /**
+     * The distinct {@link BankAndType}s of the table, from index 1; index 0 is {@code null} for unknown clearing numbers.
+     */
+    private final @Nullable BankAndType[] bankAndTypes;
+
+    /**
+     * The index into {@link #bankAndTypes} of every 4-digit clearing number, as an unsigned byte.
+     */
+    private final byte[] slots;
+
+    private final int size;
+    private final Set<String> unknownBanks;
+
+    /**
+     * The bank types of every 3-digit IBAN ID, in the order of {@link #bankAndTypes}.
+     */
+    private final IbanRoute[][] ibanRoutes;
+
+    private ClearingTable(final @Nullable BankAndType[] bankAndTypes, final byte[] slots, final Set<String> unknownBanks) {
+        int count = 0;
+        final int[] firstClearingNumbers = new int[bankAndTypes.length];
+
+        for (int clearingNumber = 0; clearingNumber < slots.length; clearingNumber++) {
+            final int slot = slots[clearingNumber] & 0xFF;
+
+            if (slot != 0) {
+                count++;
+
+                if (firstClearingNumbers[slot] == 0) {
+                    firstClearingNumbers[slot] = clearingNumber;
+                }
+            }
+        }
+
+        this.bankAndTypes = bankAndTypes;
+        this.slots = slots;
+        this.size = count;
+        this.unknownBanks = unknownBanks;
+        this.ibanRoutes = ibanRoutesOf(bankAndTypes, firstClearingNumbers);
+    }
+
+    /**
+     * Returns the installed table.
+     *
+     * @return the installed table, {@link #generated()} unless another table has been installed
+     */
+    public static ClearingTable current() {
+        return current;
+    }
+
+    /**
+     * Returns the table compiled into {@link Bank}.
+     *
+     * @return the generated table
+     */
+    public static ClearingTable generated() {
+        return GENERATED;
+    }
+
+    /**
+     * Installs the table every subsequent parse and lookup resolves clearing numbers against. Parses already in progress
+     * complete against the table they started with.
+     *
+     * @param table the table to install
+     */
+    public static void install(final ClearingTable table) {
+        current = table;
+    }
+
+    /**
+     * Reinstalls the table compiled into {@link Bank}.
+     */
+    public static void reset() {
+        current = GENERATED;
+    }
+
+    /**
+     * Loads a table from a clearing number CSV file, in the format published by Bankinfrastruktur.
+     *
+     * @param file the CSV file, UTF-8 encoded
+     * @return the loaded table, not yet installed
+     * @throws IOException          if the file cannot be read
+     * @throws BankDomainException if a row is malformed, or the file contains no clearing numbers of known banks
+     */
+    public static ClearingTable load(final Path file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return parse(reader);
+        }
+    }
+
+    /**
+     * Loads a table from a clearing number CSV stream, in the format published by Bankinfrastruktur. The stream is not
+     * closed.
+     *
+     * @param inputStream the CSV stream, UTF-8 encoded
+     * @return the loaded table, not yet installed
+     * @throws IOException          if the stream cannot be read
+     * @throws BankDomainException if a row is malformed, or the stream contains no clearing numbers of known banks
+     */
+    public static ClearingTable load(final InputStream inputStream) throws IOException {
+        return parse(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Resolves the {@link BankAndType} of a 4-digit clearing number with two array loads.
+     *
+     * @param clearingNumber the 4-digit clearing number, excluding any sorting digit
+     * @return the matching {@code BankAndType}, or {@code null} if none match
+     */
+    @Nullable
+    public BankAndType bankAndTypeOf(final int clearingNumber) {
+        if (clearingNumber < 0 || clearingNumber >= TABLE_SIZE) {
+            return null;
+        }
+
+        return bankAndTypes[slots[clearingNumber] & 0xFF];
+    }
+
+    /**
+     * Returns the bank types of the given IBAN ID that resolve at least one clearing number, for converting IBANs back
+     * into account numbers.
+     *
+     * @param ibanId the 3-digit IBAN ID
+     * @return the bank types with their IBAN conversion, empty if the IBAN ID is unknown
+     */
+    IbanRoute[] ibanRoutesOf(final int ibanId) {
+        if (ibanId < 0 || ibanId >= ibanRoutes.length) {
+            return NO_IBAN_ROUTES;
+        }
+
+        return ibanRoutes[ibanId];
+    }
+
+    /**
+     * Resolves the {@link BankAndType} of a clearing number.
+     *
+     * @param clearingNumber the clearing number to match
+     * @return an {@code Optional} containing the matching {@code BankAndType}, or empty if none match
+     */
+    public Optional<BankAndType> findByClearingNumber(final ClearingNumber clearingNumber) {
+        return Optional.ofNullable(bankAndTypeOf(clearingNumber.getClearingNumber()));
+    }
+
+    /**
+     * Returns the number of 4-digit clearing numbers this table resolves.
+     *
+     * @return the number of known clearing numbers
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the names of the banks in the loaded CSV that are not constants of {@link Bank}, and whose rows were
+     * therefore skipped.
+     *
+     * @return the unknown bank names, as written in the CSV; empty for the generated table
+     */
+    public Set<String> getUnknownBanks() {
+        return unknownBanks;
+    }
+
+    @Override
+    public String toString() {
+        return "ClearingTable(size=" + size + ", unknownBanks=" + unknownBanks + ")";
+    }
+
+    /**
+     * Loads the generated table from the binary resource, falling back to the {@link Bank} constants if the resource is
+     * missing, unreadable or does not match the compiled {@link Bank}.
+     */
+    private static ClearingTable generatedTable() {
+        if (!"enum".equals(System.getProperty(SOURCE_PROPERTY))) {
+            try (InputStream inputStream = Bank.class.getResourceAsStream(RESOURCE_NAME)) {
+                if (inputStream != null) {
+                    final ClearingTable table = readBinary(inputStream.readAllBytes());
+
+                    if (table != null) {
+                        return table;
+                    }
+                }
+            } catch (final IOException e) {
+                // Fall back to the enum constants
+            }
+        }
+
+        return enumTable();
+    }
+
+    private static IbanRoute[][] ibanRoutesOf(final @Nullable BankAndType[] bankAndTypes, final int[] firstClearingNumbers) {
+        final Map<Integer, List<IbanRoute>> routes = new HashMap<>();
+
+        for (int group = 1; group < bankAndTypes.length; group++) {
+            @Nullable
+            final BankAndType bankAndType = bankAndTypes[group];
+
+            // Groups without clearing numbers are shadowed by earlier banks, and cannot be reached
+            if (bankAndType == null || bankAndType.getBankType().getIbanMethod() == null || firstClearingNumbers[group] == 0) {
+                continue;
+            }
+
+            routes.computeIfAbsent(bankAndType.getBankType().getIbanId(), key -> new ArrayList<>())
+                .add(new IbanRoute(bankAndType, firstClearingNumbers[group]));
+        }
+
+        final IbanRoute[][] table = new IbanRoute[IBAN_ID_COUNT][];
+        Arrays.fill(table, NO_IBAN_ROUTES);
+
+        routes.forEach((ibanId, ibanIdRoutes) -> {
+            if (ibanId >= 0 && ibanId < IBAN_ID_COUNT) {
+                table[ibanId] = ibanIdRoutes.toArray(NO_IBAN_ROUTES);
+            }
+        });
+
+        return table;
+    }
+
+    private static ClearingTable enumTable() {
+        final Groups groups = new Groups();
+
+        for (int i = 0; i < TABLE_SIZE; i++) {
+            final BankAndType bankAndType = Bank.bankAndTypeOf(i);
+
+            if (bankAndType != null) {
+                groups.fill(groups.indexOf(bankAndType), i, i);
+            }
+        }
+
+        return groups.toTable(Set.of());
+    }
+
+    /**
+     * Reads the table written by the {@code ClearingTableResourceGenerator} of the Maven plugin.
+     *
+     * @return the table, or {@code null} if the resource is not a table of the compiled {@link Bank}
+     */
+    @Nullable
+    static ClearingTable readBinary(final byte[] bytes) {
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        final Bank[] banks = Bank.values();
+
+        try {
+            final byte[] magic = new byte[MAGIC.length];
+            buffer.get(magic);
+
+            if (!Arrays.equals(magic, MAGIC) || buffer.get() != VERSION) {
+                return null;
+            }
+
+            final int groupCount = buffer.get() & 0xFF;
+            final @Nullable BankAndType[] bankAndTypes = new BankAndType[groupCount + 1];
+
+            for (int group = 1; group <= groupCount; group++) {
+                final int bankOrdinal = buffer.get() & 0xFF;
+                final int type = buffer.get() & 0xFF;
+                final int subType = buffer.get() & 0xFF;
+                final int accountMinLength = buffer.get() & 0xFF;
+                final int accountMaxLength = buffer.get() & 0xFF;
+                final int ibanId = buffer.getShort() & 0xFFFF;
+                final int ibanMethod = buffer.get() & 0xFF;
+                final IntRange[] ranges = new IntRange[buffer.get() & 0xFF];
+
+                for (int range = 0; range < ranges.length; range++) {
+                    ranges[range] = IntRange.of(buffer.getShort() & 0xFFFF, buffer.getShort() & 0xFFFF);
+                }
+
+                if (bankOrdinal >= banks.length || type < 1 || type > TYPES.length || subType < 1 || subType > SUB_TYPES.length
+                    || ibanMethod > IBAN_METHODS.length) {
+                    return null;
+                }
+
+                bankAndTypes[group] = BankAndType.of(banks[bankOrdinal], BankType.ofTypesIbanAndRanges(TYPES[type - 1], SUB_TYPES[subType - 1],
+                    accountMinLength, accountMaxLength, ibanId, ibanMethod == 0 ? null : IBAN_METHODS[ibanMethod - 1], IntRanges.of(ranges)));
+            }
+
+            final byte[] slots = new byte[TABLE_SIZE];
+            buffer.get(slots);
+
+            for (final byte slot : slots) {
+                if ((slot & 0xFF) > groupCount) {
+                    return null;
+                }
+            }
+
+            return buffer.hasRemaining() ? null : new ClearingTable(bankAndTypes, slots, Set.of());
+        } catch (final BufferUnderflowException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses the CSV like the code generation of the Maven plugin does: the header is skipped, as are rows without a
+     * bank or with an account type that is not of the form {@code type:subType}. Rows are grouped per bank, account
+     * type and IBAN conversion into one {@link BankType}, and overlapping ranges resolve to the first bank in
+     * {@link Bank} declaration order. A table without the IBAN ID and method columns loads without IBAN conversion.
+     */
+    @SuppressWarnings("EnumOrdinal")
+    private static ClearingTable parse(final Reader reader) throws IOException {
+        final BufferedReader lines = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        final Map<String, Bank> banksByName = banksByName();
+        final Map<Bank, Map<TypeKey, List<IntRange>>> rangesByBankAndType = new LinkedHashMap<>();
+        final Set<String> unknownBanks = new TreeSet<>();
+
+        // Header
+        lines.readLine();
+
+        int lineNumber = 1;
+        String line;
+
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+
+            final String[] tokens = line.split(String.valueOf(DELIMITER), -1);
+            if (tokens.length < 5) {
+                continue;
+            }
+
+            final String bankName = unquote(tokens[1]);
+            final String accountType = unquote(tokens[4]);
+            if (bankName.isEmpty() || "0".equals(bankName) || accountType.indexOf(':') < 0) {
+                continue;
+            }
+
+            final Bank bank = banksByName.get(normalizedNameOf(bankName));
+            if (bank == null) {
+                unknownBanks.add(bankName);
+                continue;
+            }
+
+            rangesByBankAndType.computeIfAbsent(bank, key -> new LinkedHashMap<>())
+                .computeIfAbsent(typeKeyOf(accountType, tokens, lineNumber), key -> new ArrayList<>())
+                .add(rangeOf(unquote(tokens[0]), lineNumber));
+        }
+
+        final Groups groups = new Groups();
+
+        rangesByBankAndType.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey(Comparator.comparingInt(Bank::ordinal)))
+            .forEachOrdered(entry -> entry.getValue().forEach((typeKey, ranges) -> fill(groups, entry.getKey(), typeKey, ranges)));
+
+        final ClearingTable clearingTable = groups.toTable(Collections.unmodifiableSet(unknownBanks));
+        if (clearingTable.size() == 0) {
+            throw new BankDomainException("Clearing table contains no clearing numbers of known banks");
+        }
+
+        return clearingTable;
+    }
+
+    private static void fill(final Groups groups, final Bank bank, final TypeKey typeKey, final List<IntRange> ranges) {
+        final IntRanges intRanges = IntRanges.of(ranges.toArray(IntRange[]::new));
+        @Nullable
+        final IbanMethod ibanMethod = typeKey.ibanMethod();
+
+        final BankType bankType = ibanMethod == null
+            ? BankType.ofTypesAndRanges(typeKey.type(), typeKey.subType(), intRanges)
+            : BankType.ofTypesIbanAndRanges(typeKey.type(), typeKey.subType(), typeKey.ibanId(), ibanMethod, intRanges);
+        final int group = groups.indexOf(BankAndType.of(bank, bankType));
+
+        for (final IntRange range : ranges) {
+            groups.fill(group, range.getStart(), range.getEnd());
+        }
+    }
+
+    private static TypeKey typeKeyOf(final String accountType, final String[] tokens, final int lineNumber) {
+        final int separator = accountType.indexOf(':');
+        final int type;
+        final int subType;
+
+        try {
+            type = Integer.parseInt(accountType.substring(0, separator).trim());
+            subType = Integer.parseInt(accountType.substring(separator + 1).trim());
+        } catch (final NumberFormatException e) {
+            throw new BankDomainException("Invalid account type on line " + lineNumber + ": " + accountType, e);
+        }
+
+        if (type < 1 || type > TYPES.length || subType < 1 || subType > SUB_TYPES.length) {
+            throw new BankDomainException("Unknown account type on line " + lineNumber + ": " + accountType);
+        }
+
+        final String ibanId = unquote(tokens[3]);
+        final String ibanMethod = tokens.length > 5 ? unquote(tokens[5]) : "";
+
+        if (ibanId.isEmpty() || ibanMethod.isEmpty()) {
+            return new TypeKey(TYPES[type - 1], SUB_TYPES[subType - 1], 0, null);
+        }
+
+        try {
+            final int id = Integer.parseInt(ibanId);
+            final int method = Integer.parseInt(ibanMethod);
+
+            if (id < 0 || id > 999 || method < 1 || method > IBAN_METHODS.length) {
+                throw new BankDomainException("Unknown IBAN ID or method on line " + lineNumber + ": " + ibanId + ", " + ibanMethod);
+            }
+
+            return new TypeKey(TYPES[type - 1], SUB_TYPES[subType - 1], id, IBAN_METHODS[method - 1]);
+        } catch (final NumberFormatException e) {
+            throw new BankDomainException("Invalid IBAN ID or method on line " + lineNumber + ": " + ibanId + ", " + ibanMethod, e);
+        }
+    }
+
+    private static IntRange rangeOf(final String range, final int lineNumber) {
+        final int separator = range.indexOf('-');
+
+        try {
+            if (separator < 0) {
+                final int clearingNumber = Integer.parseInt(range.trim());
+
+                return IntRange.of(clearingNumber, clearingNumber);
+            }
+
+            return IntRange.of(Integer.parseInt(range.substring(0, separator).trim()), Integer.parseInt(range.substring(separator + 1).trim()));
+        } catch (final NumberFormatException e) {
+            throw new BankDomainException("Invalid clearing number range on line " + lineNumber + ": " + range, e);
+        }
+    }
+
+    private static String unquote(final String token) {
+        String value = token.trim();
+
+        if (!value.isEmpty() && value.charAt(0) == BYTE_ORDER_MARK) {
+            value = value.substring(1);
+        }
+
+        if (value.length() >= 2 && value.charAt(0) == '"' && value.charAt(value.length() - 1) == '"') {
+            value = value.substring(1, value.length() - 1).trim();
+        }
+
+        return value;
+    }
+
+    private static Map<String, Bank> banksByName() {
+        final Map<String, Bank> banks = new LinkedHashMap<>();
+
+        for (final Bank bank : Bank.values()) {
+            banks.put(bank.name(), bank);
+        }
+
+        return banks;
+    }
+
+    /**
+     * A bank type an IBAN ID converts to, with the lowest clearing number resolving to it, which stands in for the
+     * clearing number of {@link IbanMethod#TWO} IBANs, since they do not contain one.
+     *
+     * @param bankAndType         the bank type
+     * @param firstClearingNumber the lowest 4-digit clearing number of the bank type
+     */
+    record IbanRoute(BankAndType bankAndType, int firstClearingNumber) {
+    }
+
+    /**
+     * The account type and IBAN conversion shared by the rows of one {@link BankType}.
+     */
+    private record TypeKey(BankAccountType type, BankAccountSubType subType, int ibanId, @Nullable IbanMethod ibanMethod) {
+    }
+
+    /**
+     * Collects the distinct {@link BankAndType}s of a table being built, and the slot of every clearing number.
+     */
+    private static final class Groups {
+        private final List<BankAndType> bankAndTypes = new ArrayList<>();
+        private final Map<BankAndType, Integer> indexes = new HashMap<>();
+        private final byte[] slots = new byte[TABLE_SIZE];
+
+        int indexOf(final BankAndType bankAndType) {
+            return indexes.computeIfAbsent(bankAndType, key -> {
+                if (bankAndTypes.size() == MAX_GROUPS) {
+                    throw new BankDomainException("Clearing table has more than " + MAX_GROUPS + " bank types");
+                }
+
+                bankAndTypes.add(key);
+
+                return bankAndTypes.size();
+            });
+        }
+
+        void fill(final int index, final int start, final int end) {
+            for (int i = Math.max(start, 0); i <= Math.min(end, TABLE_SIZE - 1); i++) {
+                // First match wins, in enum declaration order
+                if (slots[i] == 0) {
+                    slots[i] = (byte) index;
+                }
+            }
+        }
+
+        ClearingTable toTable(final Set<String> unknownBanks) {
+            final @Nullable BankAndType[] table = new BankAndType[bankAndTypes.size() + 1];
+
+            for (int i = 0; i < bankAndTypes.size(); i++) {
+                table[i + 1] = bankAndTypes.get(i);
+            }
+
+            return new ClearingTable(table, slots, unknownBanks);
+        }
+    }
+
+    /**
+     * Normalizes a bank name into the name of its {@link Bank} constant, like the code generation of the Maven plugin.
+     */
+    static String normalizedNameOf(final String name) {
+        return name.trim()
+            .toUpperCase(Locale.ROOT)
+            .replace("&", "AND")
+            .replace("Ö", "O")
+            .replace("Å", "A")
+            .replace("Ä", "A")
+            .replace("É", "E")
+            .replace("-", "_")
+            .replaceAll("\\s+", "_")
+            .replaceAll("[^A-Z0-9_]", "");
+    }
+}
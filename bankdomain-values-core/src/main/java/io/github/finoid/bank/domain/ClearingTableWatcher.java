@@ -0,0 +1,166 @@
+package io.github.finoid.bank.domain;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Objects;
+
+/**
+ * Reloads and installs the {@link ClearingTable} whenever a clearing number CSV file is created or modified.
+ * <p>
+ * The watcher watches the directory of the file with a {@link WatchService} on a daemon thread. Each change is loaded
+ * into a new table off the parsing path, and only a table that loads successfully is installed, so a partially written
+ * or malformed file leaves the current table in place until the next change. Replace the file atomically, for example
+ * by moving a fully written file into place, to avoid reloading a partial file at all.
+ * <pre>{@code
+ * try (ClearingTableWatcher watcher = ClearingTableWatcher.start(Path.of("/etc/bank/clearing.csv"), listener)) {
+ *     ...
+ * }
+ * }</pre>
+ */
+public final class ClearingTableWatcher implements Closeable {
+    private final Path file;
+    private final Listener listener;
+    private final WatchService watchService;
+    private final Thread thread;
+
+    private ClearingTableWatcher(final Path file, final Listener listener, final WatchService watchService) {
+        this.file = file;
+        this.listener = listener;
+        this.watchService = watchService;
+        this.thread = new Thread(this::run, "clearing-table-watcher");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Receives the outcome of every reload.
+     * <p>
+     * Callbacks run on the watcher thread.
+     */
+    public interface Listener {
+        /**
+         * Called after a reloaded table has been installed.
+         *
+         * @param table the installed table
+         */
+        default void onReloaded(final ClearingTable table) {
+            // No-op by default
+        }
+
+        /**
+         * Called when the file could not be loaded. The current table stays installed.
+         *
+         * @param file  the file that failed to load
+         * @param cause the cause, an {@link IOException} or a {@link BankDomainException}
+         */
+        default void onFailed(final Path file, final Exception cause) {
+            // No-op by default
+        }
+    }
+
+    /**
+     * Loads and installs the table from the given file, then starts watching the file for changes.
+     *
+     * @param file the clearing number CSV file
+     * @return the running watcher
+     * @throws IOException          if the file cannot be read, or its directory cannot be watched
+     * @throws BankDomainException if the file is malformed
+     */
+    public static ClearingTableWatcher start(final Path file) throws IOException {
+        return start(file, new Listener() {
+        });
+    }
+
+    /**
+     * Loads and installs the table from the given file, then starts watching the file for changes.
+     *
+     * @param file     the clearing number CSV file
+     * @param listener the listener to report reloads to
+     * @return the running watcher
+     * @throws IOException          if the file cannot be read, or its directory cannot be watched
+     * @throws BankDomainException if the file is malformed
+     */
+    public static ClearingTableWatcher start(final Path file, final Listener listener) throws IOException {
+        final Path absoluteFile = file.toAbsolutePath();
+        final Path directory = Objects.requireNonNull(absoluteFile.getParent(), "file must have a parent directory");
+
+        ClearingTable.install(ClearingTable.load(absoluteFile));
+
+        final WatchService watchService = FileSystems.getDefault().newWatchService();
+        try {
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (final IOException e) {
+            watchService.close();
+            throw e;
+        }
+
+        final ClearingTableWatcher watcher = new ClearingTableWatcher(absoluteFile, listener, watchService);
+        watcher.thread.start();
+
+        return watcher;
+    }
+
+    /**
+     * Loads the file and installs it, reporting the outcome to the listener.
+     *
+     * @return {@code true} if the table was reloaded
+     */
+    boolean reload() {
+        try {
+            final ClearingTable table = ClearingTable.load(file);
+
+            ClearingTable.install(table);
+            listener.onReloaded(table);
+
+            return true;
+        } catch (final IOException | BankDomainException e) {
+            listener.onFailed(file, e);
+
+            return false;
+        }
+    }
+
+    /**
+     * Stops watching the file. The last installed table stays installed.
+     *
+     * @throws IOException if the watch service cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    private void run() {
+        final Path fileName = file.getFileName();
+
+        try {
+            while (true) {
+                final WatchKey key = watchService.take();
+                boolean changed = false;
+
+                for (final WatchEvent<?> event : key.pollEvents()) {
+                    // Overflow means events were lost, so the file may have changed
+                    changed |= event.kind() == StandardWatchEventKinds.OVERFLOW || fileName.equals(event.context());
+                }
+
+                if (changed) {
+                    reload();
+                }
+
+                if (!key.reset()) {
+                    return;
+                }
+            }
+        } catch (final ClosedWatchServiceException e) {
+            // Closed
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
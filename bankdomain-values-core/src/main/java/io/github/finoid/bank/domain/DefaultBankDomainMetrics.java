@@ -0,0 +1,184 @@
+package io.github.finoid.bank.domain;
+
+import io.github.finoid.generated.bank.domain.Bank;
+import org.jspecify.annotations.Nullable;
+
+import javax.management.ObjectName;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The built-in {@link BankDomainMetrics}, counting events in {@link LongAdder}s.
+ * <p>
+ * There is one counter per {@link Bank}, {@link ParseFailureReason} and {@link BankAccountFormatter.Format}, indexed by
+ * ordinal, so recording an event is an array load and a striped increment that does not contend between threads. The
+ * counts are exposed over JMX once {@link #registerMBean()} has been called.
+ */
+public class DefaultBankDomainMetrics implements BankDomainMetrics, BankDomainMetricsMXBean {
+    /**
+     * The JMX object name the metrics are registered under.
+     */
+    public static final String OBJECT_NAME = "io.github.finoid.bank.domain:type=BankDomainMetrics";
+
+    private static final Bank[] BANKS = Bank.values();
+    private static final ParseFailureReason[] REASONS = ParseFailureReason.values();
+    private static final BankAccountFormatter.Format[] FORMATS = BankAccountFormatter.Format.values();
+
+    private final LongAdder parsed = new LongAdder();
+    private final LongAdder[] resolutions = counters(BANKS.length);
+    private final LongAdder[] rejections = counters(REASONS.length);
+    private final LongAdder[] formats = counters(FORMATS.length);
+
+    @Override
+    @SuppressWarnings("EnumOrdinal")
+    public void onParsed(final BankAndType bankAndType, final int inputLength, final long nanos) {
+        parsed.increment();
+        resolutions[bankAndType.getBank().ordinal()].increment();
+    }
+
+    @Override
+    @SuppressWarnings("EnumOrdinal")
+    public void onRejected(final ParseFailureReason failureReason, @Nullable final BankAndType bankAndType, final int inputLength,
+                           final long nanos) {
+        rejections[failureReason.ordinal()].increment();
+    }
+
+    @Override
+    @SuppressWarnings("EnumOrdinal")
+    public void onLookup(final int clearingNumber, @Nullable final BankAndType bankAndType, final long nanos) {
+        if (bankAndType != null) {
+            resolutions[bankAndType.getBank().ordinal()].increment();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("EnumOrdinal")
+    public void onFormatted(final BankAccountFormatter.Format format, final BankAndType bankAndType, final int length, final long nanos) {
+        formats[format.ordinal()].increment();
+    }
+
+    @Override
+    public long getParsedCount() {
+        return parsed.sum();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        long sum = 0;
+
+        for (final LongAdder rejection : rejections) {
+            sum += rejection.sum();
+        }
+
+        return sum;
+    }
+
+    /**
+     * Returns the number of inputs rejected for the given reason.
+     *
+     * @param failureReason the failure reason
+     * @return the rejection count
+     */
+    @SuppressWarnings("EnumOrdinal")
+    public long rejectionCount(final ParseFailureReason failureReason) {
+        return rejections[failureReason.ordinal()].sum();
+    }
+
+    /**
+     * Returns the number of parsed inputs and clearing number lookups resolved to the given bank.
+     *
+     * @param bank the bank
+     * @return the resolution count
+     */
+    @SuppressWarnings("EnumOrdinal")
+    public long resolutionCount(final Bank bank) {
+        return resolutions[bank.ordinal()].sum();
+    }
+
+    /**
+     * Returns the number of accounts formatted in the given format.
+     *
+     * @param format the format
+     * @return the format count
+     */
+    @SuppressWarnings("EnumOrdinal")
+    public long formatCount(final BankAccountFormatter.Format format) {
+        return formats[format.ordinal()].sum();
+    }
+
+    @Override
+    public Map<String, Long> getRejectionCounts() {
+        return countsOf(REASONS, rejections);
+    }
+
+    @Override
+    public Map<String, Long> getResolutionCounts() {
+        return countsOf(BANKS, resolutions);
+    }
+
+    @Override
+    public Map<String, Long> getFormatCounts() {
+        return countsOf(FORMATS, formats);
+    }
+
+    @Override
+    public void reset() {
+        parsed.reset();
+        resetAll(resolutions);
+        resetAll(rejections);
+        resetAll(formats);
+    }
+
+    /**
+     * Registers these metrics with the platform MBean server under {@link #OBJECT_NAME}, replacing any metrics
+     * registered before.
+     *
+     * @throws IllegalStateException if the MBean cannot be registered
+     * @throws NoClassDefFoundError  if the {@code java.management} module is not resolved
+     */
+    public void registerMBean() {
+        PlatformMBeans.register(this, OBJECT_NAME);
+    }
+
+    /**
+     * Returns the object name of {@link #OBJECT_NAME}.
+     *
+     * @return the object name
+     * @throws NoClassDefFoundError if the {@code java.management} module is not resolved
+     */
+    public static ObjectName objectName() {
+        return PlatformMBeans.objectName(OBJECT_NAME);
+    }
+
+    private static LongAdder[] counters(final int size) {
+        final LongAdder[] counters = new LongAdder[size];
+
+        for (int i = 0; i < size; i++) {
+            counters[i] = new LongAdder();
+        }
+
+        return counters;
+    }
+
+    private static void resetAll(final LongAdder[] counters) {
+        for (final LongAdder counter : counters) {
+            counter.reset();
+        }
+    }
+
+    private static Map<String, Long> countsOf(final Enum<?>[] constants, final LongAdder[] counters) {
+        final Map<String, Long> counts = new LinkedHashMap<>();
+
+        for (int i = 0; i < constants.length; i++) {
+            final long count = counters[i].sum();
+
+            if (count != 0) {
+                counts.put(constants[i].name(), count);
+            }
+        }
+
+        return Collections.unmodifiableMap(counts);
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.finoid.bank.domain;
+
+/**
+ * The method used to convert a Swedish account number into the 17-digit account part of its IBAN, as listed in the
+ * {@code Metod IBAN konvertering} column of the clearing number table published by Bankinfrastruktur.
+ */
+public enum IbanMethod {
+    /**
+     * The 4-digit clearing number followed by the account number, zero-padded to 7 digits for type 1 accounts and to
+     * 10 digits for type 2 accounts.
+     */
+    ONE,
+    /**
+     * The account number only, without the clearing number.
+     */
+    TWO,
+    /**
+     * The clearing number including any sorting digit, followed by the account number zero-padded to 10 digits.
+     */
+    THREE,
+    /**
+     * The 4-digit clearing number followed by the account number zero-padded to 10 digits.
+     */
+    FOUR;
+
+    /**
+     * Returns the method of the given digit.
+     *
+     * @param digit the method as listed in the clearing number table, between 1 and 4
+     * @return the method
+     * @throws IllegalArgumentException if the digit is not a known method
+     */
+    @SuppressWarnings("array.access.unsafe.low")
+    public static IbanMethod ofDigit(final int digit) {
+        final IbanMethod[] values = values();
+
+        if (digit < 1 || digit > values.length) {
+            throw new IllegalArgumentException("Invalid IBAN method: " + digit);
+        }
+
+        return values[digit - 1];
+    }
+
+    @SuppressWarnings("EnumOrdinal")
+    public int toDigits() {
+        return ordinal() + 1;
+    }
+}
@@ -0,0 +1,188 @@
+package io.github.finoid.bank.domain;
+
+import lombok.experimental.UtilityClass;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * Converts Swedish bank account numbers into IBANs.
+ * <p>
+ * A Swedish IBAN is {@code SE}, two check digits, the 3-digit IBAN ID of the bank and a 17-digit account part, built
+ * from the clearing and account number by the {@link IbanMethod} of the bank type. The check digits are computed with
+ * the ISO 7064 mod-97 algorithm over the 20 BBAN digits and the country code, reduced in three {@code long} chunks of
+ * at most 18 digits each, so neither a {@code BigInteger} nor an intermediate string is created.
+ * <pre>{@code
+ * String iban = BankAccountNumber.ofString("5839 8257466").toIban(); // SE4550000000058398257466
+ * }</pre>
+ */
+@UtilityClass
+public class Ibans {
+    /**
+     * The number of characters of a Swedish IBAN.
+     */
+    public static final int LENGTH = 24;
+
+    /**
+     * The number of digits of the account part of a Swedish IBAN.
+     */
+    static final int ACCOUNT_PART_LENGTH = 17;
+
+    private static final int IBAN_ID_LENGTH = 3;
+    private static final int TYPE_ONE_ACCOUNT_LENGTH = 7;
+    private static final int TYPE_TWO_ACCOUNT_LENGTH = 10;
+    private static final int TYPE_TWO_TWO_ACCOUNT_LENGTH = 9;
+
+    /**
+     * {@code SE00} as the digits of the mod-97 check, {@code S} = 28 and {@code E} = 14 followed by two zero check digits.
+     */
+    private static final long COUNTRY_CODE_DIGITS = 281_400;
+
+    private static final long HIGH_CHUNK = MathUtils.powerOfTen(8);
+
+    /**
+     * Returns the IBAN of the given bank account number.
+     *
+     * @param bankAccountNumber the bank account number
+     * @return the IBAN, in electronic format without spaces
+     * @throws BankDomainException if the bank type has no IBAN conversion, or the account does not fit the IBAN
+     */
+    public static String toIban(final BankAccountNumber bankAccountNumber) {
+        final char[] iban = new char[LENGTH];
+
+        writeIban(bankAccountNumber, iban, 0);
+
+        return new String(iban);
+    }
+
+    /**
+     * Writes the IBAN of the given bank account number into a {@code char[]}, without creating any objects.
+     *
+     * @param bankAccountNumber the bank account number
+     * @param destination       the buffer to write the {@link #LENGTH} characters of the IBAN to
+     * @param offset            the index to write the first character at
+     * @throws BankDomainException       if the bank type has no IBAN conversion, or the account does not fit the IBAN
+     * @throws IndexOutOfBoundsException if the buffer has fewer than {@link #LENGTH} characters from the offset
+     */
+    public static void writeIban(final BankAccountNumber bankAccountNumber, final char[] destination, final int offset) {
+        Objects.checkFromIndexSize(offset, LENGTH, destination.length);
+
+        final BankType bankType = bankAccountNumber.getBankAndType().getBankType();
+        final long accountPart = accountPartOf(bankAccountNumber, bankType);
+        final int checkDigits = checkDigitsOf(bankType.getIbanId(), accountPart);
+
+        destination[offset] = 'S';
+        destination[offset + 1] = 'E';
+        destination[offset + 2] = (char) ('0' + checkDigits / 10);
+        destination[offset + 3] = (char) ('0' + checkDigits % 10);
+        writeDigits(bankType.getIbanId(), IBAN_ID_LENGTH, destination, offset + 4);
+        writeDigits(accountPart, ACCOUNT_PART_LENGTH, destination, offset + 4 + IBAN_ID_LENGTH);
+    }
+
+    /**
+     * Computes the IBAN check digits of a Swedish BBAN.
+     * <p>
+     * The 24-digit number {@code ibanId accountPart 281400} is reduced modulo 97 from the left in chunks, each chunk
+     * appended to the remainder of the previous ones: the IBAN ID, the upper 9 and lower 8 digits of the account part,
+     * and the country code. Every intermediate value stays below {@code 97 * 10^9}.
+     *
+     * @param ibanId      the 3-digit IBAN ID of the bank
+     * @param accountPart the 17-digit account part
+     * @return the check digits, between 2 and 98
+     */
+    static int checkDigitsOf(final int ibanId, final long accountPart) {
+        long remainder = ibanId % 97;
+
+        remainder = (remainder * MathUtils.powerOfTen(9) + accountPart / HIGH_CHUNK) % 97;
+        remainder = (remainder * HIGH_CHUNK + accountPart % HIGH_CHUNK) % 97;
+        remainder = (remainder * MathUtils.powerOfTen(6) + COUNTRY_CODE_DIGITS) % 97;
+
+        return (int) (98 - remainder);
+    }
+
+    /**
+     * Builds the 17-digit account part of the IBAN with the {@link IbanMethod} of the bank type.
+     */
+    private static long accountPartOf(final BankAccountNumber bankAccountNumber, final BankType bankType) {
+        @Nullable
+        final IbanMethod ibanMethod = bankType.getIbanMethod();
+
+        if (ibanMethod == null) {
+            throw new BankDomainException("No IBAN conversion is known for " + bankAccountNumber.getBankAndType().getBank()
+                                          + " accounts of type " + bankType.typesAsString());
+        }
+
+        final ClearingNumber clearingNumber = bankAccountNumber.getClearingNumber();
+        final AccountNumber accountNumber = bankAccountNumber.getAccountNumber();
+        final int accountLength = accountNumber.getNumber().length();
+
+        final int clearing = switch (ibanMethod) {
+            case ONE, FOUR -> clearingNumber.getClearingNumber();
+            case TWO -> 0;
+            case THREE -> clearingNumber.toInt();
+        };
+
+        final int paddedLength = switch (ibanMethod) {
+            case ONE -> Math.max(accountLength, bankType.getType() == BankAccountType.ONE ? TYPE_ONE_ACCOUNT_LENGTH : TYPE_TWO_ACCOUNT_LENGTH);
+            case TWO -> accountLength;
+            case THREE, FOUR -> Math.max(accountLength, TYPE_TWO_ACCOUNT_LENGTH);
+        };
+
+        final int clearingLength = clearing == 0 ? 0 : clearing >= 10_000 ? 5 : 4;
+
+        if (clearingLength + paddedLength > ACCOUNT_PART_LENGTH) {
+            throw new BankDomainException("Account number of " + accountLength + " digits does not fit in an IBAN: " + bankAccountNumber);
+        }
+
+        return clearing * MathUtils.powerOfTen(paddedLength) + accountNumber.toDigits();
+    }
+
+    /**
+     * Returns the number of account digits at the end of the account part of an IBAN, reversing
+     * {@link #accountPartOf(BankAccountNumber, BankType)}. A clearing number has no leading zeros, so the account
+     * digits are the digits after the 4 digits of the clearing number, or 5 for an {@link IbanMethod#THREE} clearing
+     * number starting with 8, but at least the length the account was padded to.
+     *
+     * @param bankType    the bank type of the IBAN ID, with an IBAN method
+     * @param accountPart the 17-digit account part
+     * @return the number of account digits, including leading zeros
+     */
+    static int accountLengthOf(final BankType bankType, final long accountPart) {
+        final int digitCount = MathUtils.digitCountOf(accountPart);
+
+        return switch (Objects.requireNonNull(bankType.getIbanMethod())) {
+            case ONE -> Math.max(digitCount - 4, bankType.getType() == BankAccountType.ONE ? TYPE_ONE_ACCOUNT_LENGTH : TYPE_TWO_ACCOUNT_LENGTH);
+            case TWO -> Math.max(digitCount,
+                bankType.getSubType() == BankAccountSubType.TWO ? TYPE_TWO_TWO_ACCOUNT_LENGTH : TYPE_TWO_ACCOUNT_LENGTH);
+            case THREE -> Math.max(digitCount - (accountPart / MathUtils.powerOfTen(digitCount - 1) == 8 ? 5 : 4), TYPE_TWO_ACCOUNT_LENGTH);
+            case FOUR -> Math.max(digitCount - 4, TYPE_TWO_ACCOUNT_LENGTH);
+        };
+    }
+
+    /**
+     * Returns the clearing number in front of the account digits of the account part of an IBAN.
+     *
+     * @param ibanMethod          the IBAN method of the bank type
+     * @param accountPart         the 17-digit account part
+     * @param accountLength       the number of account digits, see {@link #accountLengthOf(BankType, long)}
+     * @param firstClearingNumber the clearing number of {@link IbanMethod#TWO}, whose IBANs do not contain one
+     * @return the 4-digit clearing number, or for {@link IbanMethod#THREE} the 4- or 5-digit clearing number including
+     *     any sorting digit
+     */
+    static int clearingNumberOf(final IbanMethod ibanMethod, final long accountPart, final int accountLength, final int firstClearingNumber) {
+        if (ibanMethod == IbanMethod.TWO) {
+            return firstClearingNumber;
+        }
+
+        return (int) (accountPart / MathUtils.powerOfTen(accountLength));
+    }
+
+    private static void writeDigits(final long value, final int length, final char[] destination, final int offset) {
+        long remaining = value;
+
+        for (int i = offset + length - 1; i >= offset; i--) {
+            destination[i] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+    }
+}
@@ -1,19 +1,250 @@
 package io.github.finoid.bank.domain;
 
-import lombok.Value;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
-@Value
-public class IntRanges {
-    Set<IntRange> ranges;
+/**
+ * An immutable set of integers made of closed ranges, such as the clearing number ranges of a {@link BankType}.
+ * <p>
+ * The ranges are kept sorted by start, with overlapping and adjacent ranges merged, in two parallel {@code int[]}
+ * arrays of starts and ends. A lookup is a binary search over the starts without any allocation, and a union or
+ * intersection is a single linear merge of the arrays of both sets. Two sets are equal if they contain the same
+ * integers, however their ranges were given.
+ * <pre>{@code
+ * IntRanges ranges = IntRanges.of(IntRange.of(3300, 3399), IntRange.of(3000, 3299)); // [3000-3399]
+ * ranges.isWithinRange(3300);                                                          // true
+ * ranges.containsRange(IntRange.of(3200, 3350));                                       // true
+ * }</pre>
+ */
+@EqualsAndHashCode
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class IntRanges {
+    private static final IntRanges EMPTY = new IntRanges(new int[0], new int[0]);
 
+    private final int[] starts;
+    private final int[] ends;
+
+    /**
+     * Creates a set of the integers within any of the given ranges. The ranges may be given in any order and may
+     * overlap, and a range whose start is after its end is empty.
+     *
+     * @param ranges the closed ranges
+     * @return the set of ranges
+     */
     public static IntRanges of(final IntRange... ranges) {
-        return new IntRanges(CollectionUtils.orderedSet(ranges));
+        final IntRange[] sorted = ranges.clone();
+        Arrays.sort(sorted, Comparator.comparingInt(IntRange::getStart));
+
+        final Builder builder = new Builder(sorted.length);
+
+        for (final IntRange range : sorted) {
+            builder.append(range.getStart(), range.getEnd());
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Returns the empty set of ranges.
+     *
+     * @return the empty set
+     */
+    public static IntRanges empty() {
+        return EMPTY;
     }
 
+    /**
+     * Checks if the given number is within any of the ranges.
+     *
+     * @param number the number to check
+     * @return {@code true} if within range; {@code false} otherwise
+     */
     public boolean isWithinRange(final int number) {
-        return ranges.stream()
-            .anyMatch(range -> range.isWithinRange(number));
+        final int index = indexOf(number);
+
+        return index >= 0 && number <= ends[index];
+    }
+
+    /**
+     * Checks if every number of the given range is within the ranges. An empty range is always contained.
+     *
+     * @param range the range to check
+     * @return {@code true} if the whole range is contained; {@code false} otherwise
+     */
+    public boolean containsRange(final IntRange range) {
+        return containsRange(range.getStart(), range.getEnd());
+    }
+
+    /**
+     * Checks if every number of the given set of ranges is within the ranges.
+     *
+     * @param other the set of ranges to check
+     * @return {@code true} if the other set is a subset of this one; {@code false} otherwise
+     */
+    public boolean containsAll(final IntRanges other) {
+        for (int i = 0; i < other.starts.length; i++) {
+            if (!containsRange(other.starts[i], other.ends[i])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the set of numbers within this or the given set of ranges.
+     *
+     * @param other the set of ranges to add
+     * @return the union of both sets
+     */
+    public IntRanges union(final IntRanges other) {
+        final Builder builder = new Builder(starts.length + other.starts.length);
+        int i = 0;
+        int j = 0;
+
+        while (i < starts.length || j < other.starts.length) {
+            if (j == other.starts.length || (i < starts.length && starts[i] <= other.starts[j])) {
+                builder.append(starts[i], ends[i]);
+                i++;
+            } else {
+                builder.append(other.starts[j], other.ends[j]);
+                j++;
+            }
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Returns the set of numbers within both this and the given set of ranges.
+     *
+     * @param other the set of ranges to intersect with
+     * @return the intersection of both sets
+     */
+    public IntRanges intersection(final IntRanges other) {
+        final Builder builder = new Builder(starts.length + other.starts.length);
+        int i = 0;
+        int j = 0;
+
+        while (i < starts.length && j < other.starts.length) {
+            builder.append(Math.max(starts[i], other.starts[j]), Math.min(ends[i], other.ends[j]));
+
+            if (ends[i] < other.ends[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Returns {@code true} if the set contains no numbers.
+     *
+     * @return {@code true} if empty; {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return starts.length == 0;
+    }
+
+    /**
+     * Returns the sorted, merged ranges of the set.
+     *
+     * @return the ranges, ordered by start
+     */
+    public Set<IntRange> getRanges() {
+        final Set<IntRange> ranges = new LinkedHashSet<>();
+
+        for (int i = 0; i < starts.length; i++) {
+            ranges.add(IntRange.of(starts[i], ends[i]));
+        }
+
+        return Collections.unmodifiableSet(ranges);
+    }
+
+    @Override
+    public String toString() {
+        return "IntRanges(ranges=" + getRanges() + ")";
+    }
+
+    private boolean containsRange(final int start, final int end) {
+        if (start > end) {
+            return true;
+        }
+
+        final int index = indexOf(start);
+
+        return index >= 0 && end <= ends[index];
+    }
+
+    /**
+     * Returns the index of the last range starting at or before the given number. The search halves a window of
+     * fixed length, so the loop runs {@code log2(n)} times whatever the number, and the comparison only selects the
+     * next base, which the JIT compiles to a conditional move.
+     *
+     * @param number the number to search for
+     * @return the index of the range, or {@code -1} if every range starts after the number
+     */
+    private int indexOf(final int number) {
+        if (starts.length == 0) {
+            return -1;
+        }
+
+        int base = 0;
+        int length = starts.length;
+
+        while (length > 1) {
+            final int half = length >>> 1;
+
+            base = starts[base + half] <= number ? base + half : base;
+            length -= half;
+        }
+
+        return starts[base] <= number ? base : -1;
+    }
+
+    /**
+     * Collects ranges given in order of start, merging each range into the previous one if they overlap or are
+     * adjacent, and skipping empty ranges.
+     */
+    private static final class Builder {
+        private final int[] starts;
+        private final int[] ends;
+        private int count;
+
+        private Builder(final int capacity) {
+            this.starts = new int[capacity];
+            this.ends = new int[capacity];
+        }
+
+        private void append(final int start, final int end) {
+            if (start > end) {
+                return;
+            }
+
+            if (count > 0 && start - 1L <= ends[count - 1]) {
+                ends[count - 1] = Math.max(ends[count - 1], end);
+            } else {
+                starts[count] = start;
+                ends[count] = end;
+                count++;
+            }
+        }
+
+        private IntRanges build() {
+            if (count == 0) {
+                return EMPTY;
+            }
+
+            return new IntRanges(Arrays.copyOf(starts, count), Arrays.copyOf(ends, count));
+        }
     }
 }
@@ -4,6 +4,15 @@ import lombok.experimental.UtilityClass;
 
 @UtilityClass
 class MathUtils {
+    private static final long[] POWERS_OF_TEN = powersOfTen();
+    private static final int[] LUHN_DOUBLED = {0, 2, 4, 6, 8, 1, 3, 5, 7, 9};
+
+    /**
+     * Modulus 11 weights per digit position, counted from the right with the check digit at position 0.
+     * The weights cycle 1, 2, ..., 10, which covers an 18-digit account followed by a clearing number.
+     */
+    private static final int[] MOD11_WEIGHTS = mod11Weights();
+
     /**
      * Validates a numeric string using the Luhn (modulus 10) algorithm.
      * <p>
@@ -33,18 +42,38 @@ class MathUtils {
      * @param toBeValidated the numeric value to validate
      * @return {@code true} if the toBeValidated passes the mod10 check; {@code false} otherwise
      */
-    public static boolean isMod10(long toBeValidated) {
+    public static boolean isMod10(final long toBeValidated) {
+        return isMod10Sum(luhnSum(toBeValidated));
+    }
+
+    /**
+     * Returns the Luhn sum of the digits of a number, doubling every second digit from the right, starting with the
+     * digit left of the check digit.
+     *
+     * @param digits the digits to sum
+     * @return the sum
+     */
+    static int luhnSum(long digits) {
         int bit = 1;
         int sum = 0;
-        final int[] arr = {0, 2, 4, 6, 8, 1, 3, 5, 7, 9};
 
-        while (toBeValidated > 0) {
-            int digit = (int) (toBeValidated % 10);
+        while (digits > 0) {
+            int digit = (int) (digits % 10);
             bit ^= 1;
-            sum += bit == 1 ? arr[digit] : digit;
-            toBeValidated /= 10;
+            sum += bit == 1 ? LUHN_DOUBLED[digit] : digit;
+            digits /= 10;
         }
 
+        return sum;
+    }
+
+    /**
+     * Returns {@code true} if a {@link #luhnSum(long) Luhn sum} passes the mod10 check.
+     *
+     * @param sum the Luhn sum
+     * @return {@code true} if the sum is positive and divisible by 10; {@code false} otherwise
+     */
+    static boolean isMod10Sum(final int sum) {
         return sum != 0 && sum % 10 == 0;
     }
 
@@ -59,7 +88,7 @@ class MathUtils {
      * @throws NumberFormatException if the input contains non-digit characters
      */
     public static boolean isMod11(final String toBeValidated) {
-        if (toBeValidated == null || toBeValidated.length() < 2 || !toBeValidated.matches("\\d+")) {
+        if (toBeValidated == null || toBeValidated.length() < 2 || !isDigits(toBeValidated)) {
             throw new IllegalArgumentException("Input must be a numeric string with at least two digits");
         }
 
@@ -86,4 +115,94 @@ class MathUtils {
 
         return actualCheckDigit == expectedCheckDigit;
     }
+
+    /**
+     * Validates a number using the Modulus 11 algorithm, with its last digit as the check digit.
+     * <p>
+     * Equivalent to {@link #isMod11(String)} on the digits of the number, left-padded with zeros.
+     *
+     * @param digits the digits to validate
+     * @return {@code true} if the digits pass the mod11 check; {@code false} otherwise
+     */
+    public static boolean isMod11(final long digits) {
+        return mod11Sum(digits, 0) % 11 == 0;
+    }
+
+    /**
+     * Returns the Modulus 11 weighted sum of the digits of a number, as if the number was followed by
+     * {@code position} further digits. A sum, including the check digit, divisible by 11 passes the check.
+     *
+     * @param digits   the digits to sum
+     * @param position the position, from the right, of the last digit of the number
+     * @return the weighted sum
+     */
+    static int mod11Sum(long digits, int position) {
+        int sum = 0;
+
+        while (digits > 0) {
+            sum += (int) (digits % 10) * MOD11_WEIGHTS[position++];
+            digits /= 10;
+        }
+
+        return sum;
+    }
+
+    /**
+     * Returns ten raised to the given exponent.
+     *
+     * @param exponent the exponent, between 0 and 18
+     * @return {@code 10^exponent}
+     */
+    public static long powerOfTen(final int exponent) {
+        return POWERS_OF_TEN[exponent];
+    }
+
+    /**
+     * Returns the number of decimal digits of a non-negative number.
+     *
+     * @param number the non-negative number
+     * @return the number of digits, {@code 1} for zero
+     */
+    public static int digitCountOf(final long number) {
+        int digitCount = 1;
+
+        while (digitCount < 19 && number >= POWERS_OF_TEN[digitCount]) {
+            digitCount++;
+        }
+
+        return digitCount;
+    }
+
+    private static boolean isDigits(final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static int[] mod11Weights() {
+        final int[] weights = new int[32];
+
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = i % 10 + 1;
+        }
+
+        return weights;
+    }
+
+    private static long[] powersOfTen() {
+        final long[] powers = new long[19];
+
+        powers[0] = 1;
+        for (int i = 1; i < powers.length; i++) {
+            powers[i] = powers[i - 1] * 10;
+        }
+
+        return powers;
+    }
 }
@@ -0,0 +1,66 @@
+package io.github.finoid.bank.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The reason a raw input could not be parsed into a valid {@link BankAccountNumber}.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public enum ParseFailureReason {
+    /**
+     * The input contains fewer digits than a clearing number plus an account number.
+     */
+    TOO_SHORT("Account number is too short"),
+    /**
+     * The input contains a clearing number but no account number digits after it.
+     */
+    MISSING_ACCOUNT_NUMBER("Missing account number after clearing number"),
+    /**
+     * The account number part has fewer than two digits.
+     */
+    ACCOUNT_NUMBER_TOO_SHORT("Account number must be at least 2 digits long"),
+    /**
+     * The account number part has more than 18 digits.
+     */
+    ACCOUNT_NUMBER_TOO_LONG("Account number must be at most 18 digits long"),
+    /**
+     * The clearing number is lower than 1000.
+     */
+    INVALID_CLEARING_NUMBER("Clearing number must be at least 4 digits long"),
+    /**
+     * The clearing number contains a sorting digit, but the clearing number does not pass the mod10 check.
+     */
+    INVALID_SORTING_DIGIT("Clearing number containing a sort key must be mod10"),
+    /**
+     * No bank is registered for the clearing number.
+     */
+    UNKNOWN_CLEARING_NUMBER("Unknown clearing number"),
+    /**
+     * The account number does not pass the mod10 check of its bank type.
+     */
+    MOD10_FAILURE("Invalid clearing and/or account number. Mod10 check failed"),
+    /**
+     * The account number does not pass the mod11 check of its bank type.
+     */
+    MOD11_FAILURE("Invalid clearing and/or account number. Mod11 check failed"),
+    /**
+     * The input is not a Swedish IBAN, {@code SE} followed by 22 digits.
+     */
+    INVALID_IBAN("IBAN must be SE followed by 22 digits"),
+    /**
+     * The IBAN does not pass the mod97 check of its check digits.
+     */
+    IBAN_CHECK_DIGITS_FAILURE("Invalid IBAN. Mod97 check failed"),
+    /**
+     * No bank is registered for the IBAN ID of the IBAN.
+     */
+    UNKNOWN_IBAN_ID("Unknown IBAN bank identifier");
+
+    /**
+     * A human-readable description, used as the message of the corresponding {@link IllegalNumberBankDomainException}.
+     */
+    private final String description;
+}
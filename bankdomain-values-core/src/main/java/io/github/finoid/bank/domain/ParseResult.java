@@ -0,0 +1,112 @@
+package io.github.finoid.bank.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Optional;
+
+/**
+ * The outcome of parsing a raw input into a {@link BankAccountNumber}, without throwing.
+ * <p>
+ * A result holds either the parsed {@link BankAccountNumber} or the {@link ParseFailureReason} it was rejected for.
+ * Failed results are shared per reason, so rejecting an input allocates nothing.
+ */
+@Value
+public class ParseResult {
+    private static final ParseResult[] FAILURES = failures();
+
+    @Nullable
+    @Getter(AccessLevel.NONE)
+    BankAccountNumber bankAccountNumber;
+
+    @Nullable
+    @Getter(AccessLevel.NONE)
+    ParseFailureReason failureReason;
+
+    private ParseResult(@Nullable final BankAccountNumber bankAccountNumber, @Nullable final ParseFailureReason failureReason) {
+        this.bankAccountNumber = bankAccountNumber;
+        this.failureReason = failureReason;
+    }
+
+    static ParseResult success(final BankAccountNumber bankAccountNumber) {
+        return new ParseResult(bankAccountNumber, null);
+    }
+
+    @SuppressWarnings("EnumOrdinal")
+    static ParseResult failure(final ParseFailureReason failureReason) {
+        return FAILURES[failureReason.ordinal()];
+    }
+
+    /**
+     * Returns {@code true} if the input was parsed into a valid {@link BankAccountNumber}.
+     *
+     * @return {@code true} if valid; {@code false} otherwise
+     */
+    public boolean isValid() {
+        return bankAccountNumber != null;
+    }
+
+    /**
+     * Returns the parsed bank account number (if valid).
+     *
+     * @return an {@code Optional} containing the bank account number, or empty if the input was rejected
+     */
+    public Optional<BankAccountNumber> optionalBankAccountNumber() {
+        return Optional.ofNullable(bankAccountNumber);
+    }
+
+    /**
+     * Returns the reason the input was rejected (if invalid).
+     *
+     * @return an {@code Optional} containing the failure reason, or empty if the input was valid
+     */
+    public Optional<ParseFailureReason> optionalFailureReason() {
+        return Optional.ofNullable(failureReason);
+    }
+
+    /**
+     * Returns the parsed bank account number, or throws if the input was rejected.
+     *
+     * @return the bank account number
+     * @throws IllegalNumberBankDomainException if the input was rejected
+     */
+    public BankAccountNumber orElseThrow() {
+        if (bankAccountNumber == null) {
+            throw new IllegalNumberBankDomainException(describeFailure());
+        }
+
+        return bankAccountNumber;
+    }
+
+    /**
+     * Returns the parsed bank account number, or throws with the rejected input included in the message.
+     *
+     * @param input the rejected input, appended to the exception message
+     * @return the bank account number
+     * @throws IllegalNumberBankDomainException if the input was rejected
+     */
+    BankAccountNumber orElseThrow(final CharSequence input) {
+        if (bankAccountNumber == null) {
+            throw new IllegalNumberBankDomainException(describeFailure() + ": " + input);
+        }
+
+        return bankAccountNumber;
+    }
+
+    private String describeFailure() {
+        return failureReason != null ? failureReason.getDescription() : "Invalid bank account number";
+    }
+
+    private static ParseResult[] failures() {
+        final ParseFailureReason[] reasons = ParseFailureReason.values();
+        final ParseResult[] failures = new ParseResult[reasons.length];
+
+        for (int i = 0; i < reasons.length; i++) {
+            failures[i] = new ParseResult(null, reasons[i]);
+        }
+
+        return failures;
+    }
+}
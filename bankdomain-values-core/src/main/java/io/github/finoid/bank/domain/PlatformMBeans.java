@@ -0,0 +1,56 @@
+package io.github.finoid.bank.domain;
+
+import lombok.experimental.UtilityClass;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Holds every use of the {@code java.management} module, which the library only requires statically.
+ * <p>
+ * The metrics classes refer to JMX types in signatures alone, so they load and count on runtimes without the module,
+ * such as jlinked images or native builds. Loading this class needs the module, as verifying its exception handlers
+ * loads the JMX exception types, so callers check {@link BankDomainMetricsRegistry#isJmxAvailable()} first.
+ */
+@UtilityClass
+class PlatformMBeans {
+    /**
+     * Registers an MBean with the platform MBean server, replacing any MBean registered before under the same name.
+     *
+     * @param mbean      the MBean to register
+     * @param objectName the object name to register it under
+     * @throws IllegalStateException if the MBean cannot be registered
+     */
+    static void register(final Object mbean, final String objectName) {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name = objectName(objectName);
+
+        try {
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+
+            server.registerMBean(mbean, name);
+        } catch (final JMException e) {
+            throw new IllegalStateException("Failed to register MBean " + objectName, e);
+        }
+    }
+
+    /**
+     * Parses a JMX object name.
+     *
+     * @param objectName the object name
+     * @return the parsed object name
+     * @throws IllegalStateException if the name is malformed
+     */
+    static ObjectName objectName(final String objectName) {
+        try {
+            return ObjectName.getInstance(objectName);
+        } catch (final MalformedObjectNameException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
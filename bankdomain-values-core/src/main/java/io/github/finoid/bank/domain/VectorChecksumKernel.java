@@ -0,0 +1,93 @@
+package io.github.finoid.bank.domain;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Computes the checksums of as many accounts at once as the preferred {@link LongVector} shape holds, with the
+ * incubating Vector API. Only loaded by {@link ChecksumKernel#load()}, when {@code jdk.incubator.vector} is resolved.
+ * <p>
+ * Every account is split into two 9-digit halves, and the digits of a half are peeled off with a multiply and a shift,
+ * as {@code x / 10 == (x * 0xCCCCCCCD) >>> 35} for every {@code x} below {@code 2^32}, since the Vector API has no fast
+ * lane-wise division. All 18 digit positions are summed, leading zeros adding nothing, so every lane runs the same
+ * instructions without branches.
+ * Rows that do not fill a whole vector are summed with {@link MathUtils}.
+ */
+final class VectorChecksumKernel implements ChecksumKernel {
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    private static final int HALF_DIGITS = 9;
+    private static final long HALF = MathUtils.powerOfTen(HALF_DIGITS);
+
+    /**
+     * Accounts from this value on have more than 18 digits, and are summed as zero.
+     */
+    private static final long ACCOUNT_LIMIT = MathUtils.powerOfTen(2 * HALF_DIGITS);
+
+    private static final long DIVIDE_BY_TEN_MULTIPLIER = 0xCCCC_CCCDL;
+    private static final int DIVIDE_BY_TEN_SHIFT = 35;
+
+    @Override
+    public void sums(final long[] accounts, final int from, final int to, final long[] mod11Sums, final long[] luhnSums) {
+        final int vectorTo = from + SPECIES.loopBound(to - from);
+
+        // The halves are split with a scalar division by a constant, which the JIT turns into a multiply, and are
+        // parked in the sum arrays until their lanes are loaded
+        for (int row = from; row < vectorTo; row++) {
+            final long account = accounts[row] < 0 || accounts[row] >= ACCOUNT_LIMIT ? 0 : accounts[row];
+            final long high = account / HALF;
+
+            mod11Sums[row - from] = high;
+            luhnSums[row - from] = account - high * HALF;
+        }
+
+        int row = from;
+
+        for (; row < vectorTo; row += SPECIES.length()) {
+            LongVector high = LongVector.fromArray(SPECIES, mod11Sums, row - from);
+            LongVector low = LongVector.fromArray(SPECIES, luhnSums, row - from);
+            LongVector mod11Sum = LongVector.zero(SPECIES);
+            LongVector luhnSum = LongVector.zero(SPECIES);
+
+            // Both halves are peeled in step, so no vector is ever chosen by a branch, which would box it
+            for (int position = 0; position < HALF_DIGITS; position++) {
+                final LongVector lowQuotient = low.mul(DIVIDE_BY_TEN_MULTIPLIER).lanewise(VectorOperators.LSHR, DIVIDE_BY_TEN_SHIFT);
+                final LongVector highQuotient = high.mul(DIVIDE_BY_TEN_MULTIPLIER).lanewise(VectorOperators.LSHR, DIVIDE_BY_TEN_SHIFT);
+                final LongVector lowDigit = low.sub(lowQuotient.mul(10L));
+                final LongVector highDigit = high.sub(highQuotient.mul(10L));
+
+                mod11Sum = mod11Sum.add(mod11Term(lowDigit, position)).add(mod11Term(highDigit, position + HALF_DIGITS));
+                luhnSum = luhnSum.add(luhnTerm(lowDigit, position)).add(luhnTerm(highDigit, position + HALF_DIGITS));
+
+                low = lowQuotient;
+                high = highQuotient;
+            }
+
+            mod11Sum.intoArray(mod11Sums, row - from);
+            luhnSum.intoArray(luhnSums, row - from);
+        }
+
+        for (; row < to; row++) {
+            mod11Sums[row - from] = MathUtils.mod11Sum(accounts[row], 0);
+            luhnSums[row - from] = MathUtils.luhnSum(accounts[row]);
+        }
+    }
+
+    /**
+     * Returns the digits weighted as by {@link MathUtils#mod11Sum(long, int)}.
+     */
+    private static LongVector mod11Term(final LongVector digit, final int position) {
+        return digit.mul(position % 10 + 1);
+    }
+
+    /**
+     * Returns the digits as summed by {@link MathUtils#luhnSum(long)}, every second digit doubled and a doubled digit
+     * above 9 less 9, where {@code (digit + 3) >>> 3} is 1 for the digits 5 to 9 and 0 otherwise.
+     */
+    private static LongVector luhnTerm(final LongVector digit, final int position) {
+        final long weight = position % 2 + 1;
+
+        return digit.mul(weight).sub(digit.add(3L).lanewise(VectorOperators.LSHR, 3).mul(9 * (weight - 1)));
+    }
+}
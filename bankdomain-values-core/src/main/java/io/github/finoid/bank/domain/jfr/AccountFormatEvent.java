@@ -0,0 +1,46 @@
+package io.github.finoid.bank.domain.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.SettingDefinition;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Recorded when a bank account number has been formatted.
+ */
+@Name("io.github.finoid.bank.domain.AccountFormat")
+@Label("Bank Account Format")
+@Category("Bank Domain Values")
+@Description("A bank account number formatted")
+@Enabled(false)
+@StackTrace(false)
+public class AccountFormatEvent extends Event {
+    @Label("Format")
+    @Nullable
+    String format;
+
+    @Label("Bank")
+    @Nullable
+    String bank;
+
+    @Label("Length")
+    @Description("The number of characters written")
+    int length;
+
+    @Label("Processing Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long processingTime;
+
+    @Name("processingTimeThreshold")
+    @Label("Processing Time Threshold")
+    @SettingDefinition
+    protected boolean processingTimeThreshold(final ProcessingTimeThreshold threshold) {
+        return threshold.accepts(processingTime);
+    }
+}
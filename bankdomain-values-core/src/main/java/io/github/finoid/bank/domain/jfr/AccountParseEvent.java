@@ -0,0 +1,53 @@
+package io.github.finoid.bank.domain.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.SettingDefinition;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Recorded when a bank account number has been parsed and validated, whether it was valid or not.
+ */
+@Name("io.github.finoid.bank.domain.AccountParse")
+@Label("Bank Account Parse")
+@Category("Bank Domain Values")
+@Description("A bank account number parsed and validated")
+@Enabled(false)
+@StackTrace(false)
+public class AccountParseEvent extends Event {
+    @Label("Input Length")
+    @Description("The number of characters of the raw input, or of digits for numeric input")
+    int inputLength;
+
+    @Label("Bank")
+    @Description("The bank of the clearing number, if it was resolved")
+    @Nullable
+    String bank;
+
+    @Label("Rule")
+    @Description("The account type and subtype the account was validated against, such as 2:3")
+    @Nullable
+    String rule;
+
+    @Label("Outcome")
+    @Description("VALID, or the reason the input was rejected")
+    @Nullable
+    String outcome;
+
+    @Label("Processing Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long processingTime;
+
+    @Name("processingTimeThreshold")
+    @Label("Processing Time Threshold")
+    @SettingDefinition
+    protected boolean processingTimeThreshold(final ProcessingTimeThreshold threshold) {
+        return threshold.accepts(processingTime);
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.finoid.bank.domain.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.SettingDefinition;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Recorded when a clearing number has been looked up outside of parsing.
+ */
+@Name("io.github.finoid.bank.domain.ClearingNumberLookup")
+@Label("Clearing Number Lookup")
+@Category("Bank Domain Values")
+@Description("A clearing number resolved to its bank")
+@Enabled(false)
+@StackTrace(false)
+public class ClearingNumberLookupEvent extends Event {
+    @Label("Clearing Number")
+    int clearingNumber;
+
+    @Label("Bank")
+    @Description("The bank of the clearing number, if it is known")
+    @Nullable
+    String bank;
+
+    @Label("Found")
+    boolean found;
+
+    @Label("Processing Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long processingTime;
+
+    @Name("processingTimeThreshold")
+    @Label("Processing Time Threshold")
+    @SettingDefinition
+    protected boolean processingTimeThreshold(final ProcessingTimeThreshold threshold) {
+        return threshold.accepts(processingTime);
+    }
+}
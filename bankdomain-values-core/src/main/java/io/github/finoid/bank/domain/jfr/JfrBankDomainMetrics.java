@@ -0,0 +1,101 @@
+package io.github.finoid.bank.domain.jfr;
+
+import io.github.finoid.bank.domain.BankAccountFormatter;
+import io.github.finoid.bank.domain.BankAndType;
+import io.github.finoid.bank.domain.BankDomainMetrics;
+import io.github.finoid.bank.domain.ParseFailureReason;
+import jdk.jfr.EventType;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link BankDomainMetrics} that reports every event as a Java Flight Recorder event: {@link AccountParseEvent},
+ * {@link ClearingNumberLookupEvent} and {@link AccountFormatEvent}.
+ * <p>
+ * The events are disabled by default and cost a single check while no recording enables them, so the metrics can be
+ * installed permanently and switched on per recording, for example with
+ * {@code jcmd <pid> JFR.start settings=bank-domain.jfc}, or in a {@code .jfc} file with:
+ * <pre>{@code
+ * <event name="io.github.finoid.bank.domain.AccountParse">
+ *   <setting name="enabled">true</setting>
+ *   <setting name="processingTimeThreshold">20 us</setting>
+ * </event>
+ * }</pre>
+ * The {@code processingTimeThreshold} setting only records operations that took at least as long, see
+ * {@link ProcessingTimeThreshold}. Durations are only measured while at least one of the events is enabled.
+ * <p>
+ * The library only requires {@code jdk.jfr} statically, and to keep it off the parsing path, which also runs where
+ * Flight Recorder is not available, these metrics are never installed implicitly:
+ * <pre>{@code
+ * BankDomainMetricsRegistry.install(new JfrBankDomainMetrics());
+ * }</pre>
+ */
+public class JfrBankDomainMetrics implements BankDomainMetrics {
+    private static final String VALID = "VALID";
+
+    /**
+     * The registered types of the events, whose enabled state follows the running recordings without creating events.
+     */
+    private static final EventType PARSE_EVENT_TYPE = EventType.getEventType(AccountParseEvent.class);
+    private static final EventType LOOKUP_EVENT_TYPE = EventType.getEventType(ClearingNumberLookupEvent.class);
+    private static final EventType FORMAT_EVENT_TYPE = EventType.getEventType(AccountFormatEvent.class);
+
+    @Override
+    public boolean isTimed() {
+        return PARSE_EVENT_TYPE.isEnabled() || LOOKUP_EVENT_TYPE.isEnabled() || FORMAT_EVENT_TYPE.isEnabled();
+    }
+
+    @Override
+    public void onParsed(final BankAndType bankAndType, final int inputLength, final long nanos) {
+        final AccountParseEvent event = new AccountParseEvent();
+        event.processingTime = nanos;
+
+        if (event.shouldCommit()) {
+            event.inputLength = inputLength;
+            event.bank = bankAndType.getBank().name();
+            event.rule = bankAndType.getBankType().typesAsString();
+            event.outcome = VALID;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void onRejected(final ParseFailureReason failureReason, @Nullable final BankAndType bankAndType, final int inputLength,
+                           final long nanos) {
+        final AccountParseEvent event = new AccountParseEvent();
+        event.processingTime = nanos;
+
+        if (event.shouldCommit()) {
+            event.inputLength = inputLength;
+            event.bank = bankAndType == null ? null : bankAndType.getBank().name();
+            event.rule = bankAndType == null ? null : bankAndType.getBankType().typesAsString();
+            event.outcome = failureReason.name();
+            event.commit();
+        }
+    }
+
+    @Override
+    public void onLookup(final int clearingNumber, @Nullable final BankAndType bankAndType, final long nanos) {
+        final ClearingNumberLookupEvent event = new ClearingNumberLookupEvent();
+        event.processingTime = nanos;
+
+        if (event.shouldCommit()) {
+            event.clearingNumber = clearingNumber;
+            event.bank = bankAndType == null ? null : bankAndType.getBank().name();
+            event.found = bankAndType != null;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void onFormatted(final BankAccountFormatter.Format format, final BankAndType bankAndType, final int length, final long nanos) {
+        final AccountFormatEvent event = new AccountFormatEvent();
+        event.processingTime = nanos;
+
+        if (event.shouldCommit()) {
+            event.format = format.name();
+            event.bank = bankAndType.getBank().name();
+            event.length = length;
+            event.commit();
+        }
+    }
+}
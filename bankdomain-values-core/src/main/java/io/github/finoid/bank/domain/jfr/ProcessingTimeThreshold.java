@@ -0,0 +1,88 @@
+package io.github.finoid.bank.domain.jfr;
+
+import jdk.jfr.SettingControl;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * The {@code processingTimeThreshold} setting of the bank domain events: an event is only recorded if its
+ * {@code processingTime} is at least the threshold, such as {@code "20 us"}.
+ * <p>
+ * The events are committed after the operation they describe, so the built-in {@code threshold} setting, which
+ * compares the duration between {@code begin()} and {@code end()}, never applies to them. This setting compares the
+ * measured processing time instead. When several recordings set a threshold, the lowest applies.
+ */
+public class ProcessingTimeThreshold extends SettingControl {
+    private static final String DEFAULT_VALUE = "0 ns";
+
+    private String value = DEFAULT_VALUE;
+    private volatile long thresholdNanos;
+
+    @Override
+    public String combine(final Set<String> values) {
+        @Nullable
+        String lowest = null;
+        long lowestNanos = Long.MAX_VALUE;
+
+        for (final String candidate : values) {
+            final long nanos = nanosOf(candidate);
+
+            if (nanos < lowestNanos) {
+                lowest = candidate;
+                lowestNanos = nanos;
+            }
+        }
+
+        return lowest == null ? DEFAULT_VALUE : lowest;
+    }
+
+    @Override
+    public void setValue(final String value) {
+        this.value = value;
+        this.thresholdNanos = nanosOf(value);
+    }
+
+    @Override
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Returns whether an event with the given processing time passes the threshold.
+     *
+     * @param processingTime the processing time, in nanoseconds
+     * @return {@code true} if the event should be recorded
+     */
+    boolean accepts(final long processingTime) {
+        return processingTime >= thresholdNanos;
+    }
+
+    /**
+     * Parses a threshold of the form {@code "<amount> <ns|us|ms|s>"}, or {@code "0"}. Unparseable values are treated as
+     * {@code 0}, like the built-in settings ignore values they do not understand.
+     */
+    static long nanosOf(final String value) {
+        final String trimmed = value.trim().toLowerCase(Locale.ROOT);
+        final int split = trimmed.indexOf(' ');
+
+        try {
+            if (split < 0) {
+                return Long.parseLong(trimmed);
+            }
+
+            final long amount = Long.parseLong(trimmed.substring(0, split));
+
+            return switch (trimmed.substring(split + 1).trim()) {
+                case "ns" -> amount;
+                case "us" -> amount * 1_000L;
+                case "ms" -> amount * 1_000_000L;
+                case "s" -> amount * 1_000_000_000L;
+                default -> 0L;
+            };
+        } catch (final NumberFormatException e) {
+            return 0L;
+        }
+    }
+}
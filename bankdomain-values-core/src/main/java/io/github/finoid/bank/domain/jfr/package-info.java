@@ -0,0 +1,8 @@
+/**
+ * Java Flight Recorder events for parsing, clearing number lookups and formatting, reported through
+ * {@link io.github.finoid.bank.domain.jfr.JfrBankDomainMetrics}.
+ */
+@NullMarked
+package io.github.finoid.bank.domain.jfr;
+
+import org.jspecify.annotations.NullMarked;
@@ -1,9 +1,11 @@
 @org.jspecify.annotations.NullMarked
 module io.github.finoid.bank.domain {
+    requires static java.management;
+    requires static jdk.jfr;
+    requires static jdk.incubator.vector;
     requires static lombok;
     requires static org.jspecify;
 
-    requires org.apache.commons.lang3;
-
     exports io.github.finoid.bank.domain;
+    exports io.github.finoid.bank.domain.jfr;
 }
\ No newline at end of file
@@ -5,6 +5,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvFileSource;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.CharBuffer;
+
 class BankAccountFormatterUnitTest {
     @Test
     void givenSwedbankAccountNumberWithSortingNumber_whenFormat_thenExpectedFormattedAccountReturned() {
@@ -87,4 +91,48 @@ class BankAccountFormatterUnitTest {
 
         // snapshotScenario(result, "account_" + accountNumber + "_bank_" + bankName);
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest
+    @CsvFileSource(resources = "/valid-accounts.csv", delimiter = ';')
+    void givenBankAccountNumber_whenFormatToAppendable_thenSameAsFormat(final String accountNumber) throws IOException {
+        final BankAccountNumber account = BankAccountNumber.ofString(accountNumber);
+
+        for (final BankAccountFormatter.Format format : BankAccountFormatter.Format.values()) {
+            final StringBuilder builder = new StringBuilder("prefix ");
+            final StringWriter writer = new StringWriter();
+
+            BankAccountFormatter.formatTo(account, format, builder);
+            BankAccountFormatter.formatTo(account, format, writer);
+
+            Assertions.assertEquals("prefix " + BankAccountFormatter.format(account, format), builder.toString());
+            Assertions.assertEquals(BankAccountFormatter.format(account, format), writer.toString());
+        }
+    }
+
+    @ParameterizedTest
+    @CsvFileSource(resources = "/valid-accounts.csv", delimiter = ';')
+    void givenBankAccountNumber_whenFormatToBuffers_thenSameAsFormat(final String accountNumber) {
+        final BankAccountNumber account = BankAccountNumber.ofString(accountNumber);
+
+        for (final BankAccountFormatter.Format format : BankAccountFormatter.Format.values()) {
+            final String expected = BankAccountFormatter.format(account, format);
+            final char[] chars = new char[64];
+            final CharBuffer buffer = CharBuffer.allocate(64);
+
+            final int written = BankAccountFormatter.formatTo(account, format, chars, 10);
+            BankAccountFormatter.formatTo(account, format, buffer);
+
+            Assertions.assertEquals(expected, new String(chars, 10, written));
+            Assertions.assertEquals(expected, buffer.flip().toString());
+            Assertions.assertEquals(expected.length(), BankAccountFormatter.formattedLength(account, format));
+        }
+    }
+
+    @Test
+    void givenTooSmallBuffer_whenFormatTo_thenExceptionThrown() {
+        final BankAccountNumber account = BankAccountNumber.ofString("8129-9,043 386 711-6");
+
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> BankAccountFormatter.formatTo(account, BankAccountFormatter.Format.PRETTY, new char[20], 5));
+    }
+}
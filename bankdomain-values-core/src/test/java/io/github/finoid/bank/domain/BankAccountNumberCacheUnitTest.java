@@ -0,0 +1,183 @@
+package io.github.finoid.bank.domain;
+
+import io.github.finoid.generated.bank.domain.Bank;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+class BankAccountNumberCacheUnitTest {
+    private static final String VALID = "3300 000620-5124";
+    private static final String UNKNOWN_CLEARING = "1000 1234567";
+
+    @AfterEach
+    void reset() {
+        ClearingTable.reset();
+    }
+
+    @Test
+    void givenRepeatedInput_whenTryParse_thenSameResultFromCache() {
+        final BankAccountNumberCache cache = BankAccountNumberCache.ofMaximumSize(100);
+
+        final ParseResult first = cache.tryParse(VALID);
+        final ParseResult second = cache.tryParse(new StringBuilder(VALID));
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(BankAccountNumber.tryParse(VALID), first);
+        Assertions.assertEquals(1, cache.stats().getHitCount());
+        Assertions.assertEquals(1, cache.stats().getMissCount());
+        Assertions.assertEquals(0.5, cache.stats().hitRate());
+    }
+
+    @Test
+    void givenRepeatedInvalidInput_whenTryParse_thenFailureReasonCached() {
+        final BankAccountNumberCache cache = BankAccountNumberCache.ofMaximumSize(100);
+
+        Assertions.assertEquals(ParseFailureReason.UNKNOWN_CLEARING_NUMBER, cache.tryParse(UNKNOWN_CLEARING).optionalFailureReason().orElseThrow());
+        Assertions.assertFalse(cache.isValid(UNKNOWN_CLEARING));
+        Assertions.assertThrows(IllegalNumberBankDomainException.class, () -> cache.ofString(UNKNOWN_CLEARING));
+
+        Assertions.assertEquals(2, cache.stats().getHitCount());
+        Assertions.assertEquals(1, cache.size());
+    }
+
+    @Test
+    void givenFullCache_whenNewInputs_thenUnreferencedEntriesEvictedFirst() {
+        final BankAccountNumberCache cache = BankAccountNumberCache.ofMaximumSize(4);
+        final List<String> recurring = List.of("1000 0000001", "1000 0000002");
+
+        recurring.forEach(cache::tryParse);
+        cache.tryParse("1000 0000003");
+        cache.tryParse("1000 0000004");
+        recurring.forEach(cache::tryParse);
+
+        for (int i = 5; i < 20; i++) {
+            cache.tryParse("1000 00000" + String.format("%02d", i));
+            recurring.forEach(cache::tryParse);
+        }
+
+        final BankAccountNumberCache.Stats stats = cache.stats();
+
+        Assertions.assertEquals(4, stats.getSize());
+        Assertions.assertEquals(15, stats.getEvictionCount());
+        Assertions.assertEquals(19, stats.getMissCount());
+        Assertions.assertEquals(32, stats.getHitCount());
+    }
+
+    @Test
+    void givenAsManyInputsAsMaximumSize_whenTryParse_thenAllCachedWithoutEviction() {
+        final BankAccountNumberCache cache = BankAccountNumberCache.ofMaximumSize(2_000);
+
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < 2_000; i++) {
+                cache.tryParse("1000 " + i);
+            }
+        }
+
+        Assertions.assertEquals(2_000, cache.size());
+        Assertions.assertEquals(0, cache.stats().getEvictionCount());
+        Assertions.assertEquals(2_000, cache.stats().getHitCount());
+
+        cache.tryParse(VALID);
+
+        Assertions.assertEquals(2_000, cache.size());
+        Assertions.assertEquals(1, cache.stats().getEvictionCount());
+    }
+
+    @Test
+    void givenInstalledTable_whenTryParse_thenCachedResultParsedAgain() throws Exception {
+        final BankAccountNumberCache cache = BankAccountNumberCache.ofMaximumSize(100);
+        final String validAsSwedbank = "9340 321 4681";
+
+        Assertions.assertEquals(Bank.SWEDBANK, cache.ofString(validAsSwedbank).getBankAndType().getBank());
+
+        ClearingTable.install(landshypotekTable());
+
+        Assertions.assertEquals(ParseFailureReason.MOD11_FAILURE, cache.tryParse(validAsSwedbank).optionalFailureReason().orElseThrow());
+        Assertions.assertEquals(2, cache.stats().getMissCount());
+        Assertions.assertEquals(1, cache.size());
+    }
+
+    @Test
+    void givenClear_whenStats_thenEmpty() {
+        final BankAccountNumberCache cache = BankAccountNumberCache.ofMaximumSize(100);
+
+        cache.tryParse(VALID);
+        cache.tryParse(VALID);
+        cache.clear();
+
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertEquals(0, cache.stats().getHitCount());
+        Assertions.assertEquals(0.0, cache.stats().hitRate());
+
+        cache.tryParse(VALID);
+
+        Assertions.assertEquals(1, cache.stats().getMissCount());
+    }
+
+    @Test
+    void givenConcurrentLookups_whenTryParse_thenBoundedAndConsistent() throws Exception {
+        final BankAccountNumberCache cache = BankAccountNumberCache.ofMaximumSize(1_000);
+        final List<String> inputs = new ArrayList<>();
+
+        for (int i = 0; i < 5_000; i++) {
+            inputs.add(i % 2 == 0 ? VALID : "1000 " + i);
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Boolean>> futures = new ArrayList<>();
+
+            for (int thread = 0; thread < 4; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int round = 0; round < 5; round++) {
+                        for (final String input : inputs) {
+                            if (!cache.tryParse(input).equals(BankAccountNumber.tryParse(input))) {
+                                return false;
+                            }
+                        }
+                    }
+
+                    return true;
+                }));
+            }
+
+            for (final Future<Boolean> future : futures) {
+                Assertions.assertTrue(future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        final BankAccountNumberCache.Stats stats = cache.stats();
+
+        Assertions.assertTrue(stats.getSize() <= 1_000, "Size " + stats.getSize());
+        Assertions.assertEquals(4L * 5 * inputs.size(), stats.getHitCount() + stats.getMissCount());
+    }
+
+    @Test
+    void givenNonPositiveSize_whenOfMaximumSize_thenIllegalArgumentException() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> BankAccountNumberCache.ofMaximumSize(0));
+    }
+
+    private static ClearingTable landshypotekTable() throws Exception {
+        final String csv;
+        try (InputStream inputStream = Objects.requireNonNull(
+            BankAccountNumberCacheUnitTest.class.getResourceAsStream("/clearingnummertabell-for-nedladdning.csv"))) {
+            csv = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        final String landshypotek = csv.replace("9300 - 9349;Swedbank;SWEDSESS;930;2:1;1", "9300 - 9349;Landshypotek;LAHYSESS;939;1:2;1");
+
+        return ClearingTable.load(new ByteArrayInputStream(landshypotek.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,115 @@
+package io.github.finoid.bank.domain;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvFileSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+class BankAccountNumberCodecUnitTest {
+    @ParameterizedTest
+    @CsvFileSource(resources = "/valid-accounts.csv", delimiter = ';')
+    void givenBankAccountNumber_whenToPackedLongAndBack_thenEqualBankAccountNumberReturned(final String accountNumber, final String bankName) {
+        final BankAccountNumber expected = BankAccountNumber.ofString(accountNumber);
+
+        var result = BankAccountNumber.ofPackedLong(expected.toPackedLong());
+
+        Assertions.assertEquals(expected, result);
+    }
+
+    @ParameterizedTest
+    @CsvFileSource(resources = "/valid-accounts.csv", delimiter = ';')
+    void givenBankAccountNumber_whenWriteAndReadByteBuffer_thenEqualBankAccountNumberReturned(final String accountNumber, final String bankName) {
+        final BankAccountNumber expected = BankAccountNumber.ofString(accountNumber);
+        final ByteBuffer buffer = ByteBuffer.allocate(BankAccountNumberCodec.BYTES);
+
+        BankAccountNumberCodec.write(buffer, expected);
+        var result = BankAccountNumberCodec.read(buffer.flip());
+
+        Assertions.assertEquals(expected, result);
+    }
+
+    @Test
+    void givenBankAccountNumbers_whenWriteAndReadDataStream_thenEqualBankAccountNumbersReturned() throws IOException {
+        final List<BankAccountNumber> expected = List.of(BankAccountNumber.ofString("8129-9,043 386 711-6"),
+            BankAccountNumber.ofString("3300 6205124"), BankAccountNumber.ofString("9530 364 8748"));
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            for (final BankAccountNumber bankAccountNumber : expected) {
+                BankAccountNumberCodec.write(output, bankAccountNumber);
+            }
+        }
+
+        Assertions.assertEquals(expected.size() * BankAccountNumberCodec.BYTES, bytes.size());
+
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            for (final BankAccountNumber bankAccountNumber : expected) {
+                Assertions.assertEquals(bankAccountNumber, BankAccountNumberCodec.read(input));
+            }
+        }
+    }
+
+    @Test
+    void givenBankAccountNumbers_whenCompare_thenOrderedByClearingNumberThenAccount() {
+        final BankAccountNumber first = BankAccountNumber.ofString("3300 6205124");
+        final BankAccountNumber second = BankAccountNumber.ofString("8129-9,043 386 711-6");
+        final BankAccountNumber third = BankAccountNumber.ofString("9530 364 8748");
+
+        var result = List.of(third, first, second).stream()
+            .sorted(BankAccountNumberCodec.comparator())
+            .toList();
+
+        Assertions.assertEquals(List.of(first, second, third), result);
+        Assertions.assertTrue(first.toPackedLong() > 0);
+    }
+
+    @Test
+    void givenAccountTooLongToPack_whenSortWithComparator_thenOrderedWithoutThrowing() {
+        final BankAccountNumber longAccount = BankAccountNumber.ofString("3300 1234567890128");
+        final BankAccountNumber shortAccount = BankAccountNumber.ofString("3300 6205124");
+        final BankAccountNumber otherClearing = BankAccountNumber.ofString("8129-9,043 386 711-6");
+
+        final List<BankAccountNumber> result = new ArrayList<>(List.of(otherClearing, longAccount, shortAccount));
+        result.sort(BankAccountNumberCodec.comparator());
+
+        Assertions.assertEquals(List.of(shortAccount, longAccount, otherClearing), result);
+        Assertions.assertThrows(IllegalNumberBankDomainException.class, longAccount::toPackedLong);
+    }
+
+    @ParameterizedTest
+    @CsvFileSource(resources = "/valid-accounts.csv", delimiter = ';')
+    void givenBankAccountNumber_whenCompareWithComparator_thenSameOrderAsPackedLong(final String accountNumber, final String bankName) {
+        final BankAccountNumber account = BankAccountNumber.ofString(accountNumber);
+        final BankAccountNumber reference = BankAccountNumber.ofString("8129-9,043 386 711-6");
+
+        Assertions.assertEquals(Integer.signum(Long.compare(account.toPackedLong(), reference.toPackedLong())),
+            Integer.signum(BankAccountNumberCodec.comparator().compare(account, reference)));
+    }
+
+    @Test
+    void givenSameClearingNumber_whenPack_thenOrderedByAccountLengthBeforeDigits() {
+        final long shorter = BankAccountNumberCodec.pack(3300, -1, 99, 2);
+        final long longerWithLeadingZeros = BankAccountNumberCodec.pack(3300, -1, 5, 3);
+        final long longer = BankAccountNumberCodec.pack(3300, -1, 100, 3);
+
+        Assertions.assertTrue(shorter < longerWithLeadingZeros);
+        Assertions.assertTrue(longerWithLeadingZeros < longer);
+        Assertions.assertTrue(longer < BankAccountNumberCodec.pack(3301, -1, 1, 2));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {-1L, 0L, Long.MAX_VALUE})
+    void givenMalformedPackedValue_whenOfPackedLong_thenIllegalNumberBankDomainExceptionThrown(final long packed) {
+        Assertions.assertThrows(IllegalNumberBankDomainException.class, () -> BankAccountNumber.ofPackedLong(packed));
+    }
+}
@@ -0,0 +1,121 @@
+package io.github.finoid.bank.domain;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ForkJoinPool;
+
+class BankAccountNumberFilesUnitTest {
+    private static final String LINES = """
+        3300 000620-5124
+        abc
+
+        8129-9,043 386 711-6\r
+        1000-1234567
+        9553-5894364""";
+
+    @TempDir
+    Path directory;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 7, 16, 64, BankAccountNumberFiles.DEFAULT_CHUNK_SIZE})
+    void givenLinesFile_whenValidate_thenEveryNonBlankLineReportedWithItsOffset(final int chunkSize) throws IOException {
+        final Path file = write("accounts.txt", LINES);
+        final Map<Long, ParseResult> results = new ConcurrentSkipListMap<>();
+
+        try (ForkJoinPool pool = new ForkJoinPool(3)) {
+            BankAccountNumberFiles.validate(file, BankAccountNumberFiles.FileLayout.lines(), results::put, pool, chunkSize);
+        }
+
+        Assertions.assertEquals(List.of(0L, 17L, 22L, 44L, 57L), List.copyOf(results.keySet()));
+        Assertions.assertTrue(results.get(0L).isValid());
+        Assertions.assertEquals(ParseFailureReason.TOO_SHORT, results.get(17L).optionalFailureReason().orElseThrow());
+        Assertions.assertEquals(BankAccountNumber.ofString("8129-9,043 386 711-6"), results.get(22L).orElseThrow());
+        Assertions.assertEquals(ParseFailureReason.UNKNOWN_CLEARING_NUMBER, results.get(44L).optionalFailureReason().orElseThrow());
+        Assertions.assertTrue(results.get(57L).isValid());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 16, BankAccountNumberFiles.DEFAULT_CHUNK_SIZE})
+    void givenLinesFile_whenValidateToFile_thenResultsWrittenInInputOrder(final int chunkSize) throws IOException {
+        final Path file = write("accounts.txt", LINES);
+        final Path results = directory.resolve("results.txt");
+
+        try (ForkJoinPool pool = new ForkJoinPool(3)) {
+            BankAccountNumberFiles.validateToFile(file, BankAccountNumberFiles.FileLayout.lines(), results, pool, chunkSize);
+        }
+
+        Assertions.assertEquals("""
+            3300 000620-5124;VALID
+            abc;TOO_SHORT
+            8129-9,043 386 711-6;VALID
+            1000-1234567;UNKNOWN_CLEARING_NUMBER
+            9553-5894364;VALID
+            """, Files.readString(results));
+    }
+
+    @Test
+    void givenDelimitedFileWithHeader_whenValidateToFile_thenAccountColumnValidated() throws IOException {
+        final Path file = write("accounts.csv", """
+            name;account;bank
+            A;3300 000620-5124;NORDEA
+            B;9340 321 4682;SWEDBANK
+            C
+            """);
+        final Path results = directory.resolve("results.txt");
+
+        BankAccountNumberFiles.validateToFile(file, BankAccountNumberFiles.FileLayout.delimited(';', 1, true), results);
+
+        Assertions.assertEquals("""
+            3300 000620-5124;VALID
+            9340 321 4682;MOD10_FAILURE
+            ;TOO_SHORT
+            """, Files.readString(results));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 7, BankAccountNumberFiles.DEFAULT_CHUNK_SIZE})
+    void givenWhitespaceOnlyLines_whenValidateToFile_thenSkippedLikeEmptyLines(final int chunkSize) throws IOException {
+        final Path file = write("accounts.txt", "3300 000620-5124\n   \n\t\r\n \t \n9553-5894364\n  ");
+        final Path results = directory.resolve("results.txt");
+
+        try (ForkJoinPool pool = new ForkJoinPool(3)) {
+            BankAccountNumberFiles.validateToFile(file, BankAccountNumberFiles.FileLayout.lines(), results, pool, chunkSize);
+        }
+
+        Assertions.assertEquals("""
+            3300 000620-5124;VALID
+            9553-5894364;VALID
+            """, Files.readString(results));
+    }
+
+    @Test
+    void givenEmptyFile_whenValidate_thenNothingReported() throws IOException {
+        final Path file = write("empty.txt", "");
+
+        BankAccountNumberFiles.validate(file, BankAccountNumberFiles.FileLayout.lines(), (offset, result) -> Assertions.fail());
+    }
+
+    @Test
+    void givenMissingFile_whenValidate_thenIOExceptionThrown() {
+        final Path file = directory.resolve("missing.txt");
+
+        Assertions.assertThrows(IOException.class,
+            () -> BankAccountNumberFiles.validate(file, BankAccountNumberFiles.FileLayout.lines(), (offset, result) -> {
+            }));
+    }
+
+    private Path write(final String name, final String content) throws IOException {
+        return Files.writeString(directory.resolve(name), content, StandardCharsets.US_ASCII);
+    }
+}
@@ -2,8 +2,10 @@ package io.github.finoid.bank.domain;
 
 import io.github.finoid.generated.bank.domain.Bank;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvFileSource;
+import org.junit.jupiter.params.provider.CsvSource;
 
 class BankAccountNumberUnitTest {
     @ParameterizedTest
@@ -15,4 +17,67 @@ class BankAccountNumberUnitTest {
 
         // snapshotScenario(account, "account_" + accountNumber + "_bank_" + bankName);
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest
+    @CsvFileSource(resources = "/valid-accounts.csv", delimiter = ';')
+    void givenBankAccountNumber_whenTryParse_thenSameBankAccountNumberAsOfStringReturned(final String accountNumber, final String bankName) {
+        var result = BankAccountNumber.tryParse(accountNumber);
+
+        Assertions.assertTrue(result.isValid());
+        Assertions.assertEquals(BankAccountNumber.ofString(accountNumber), result.orElseThrow());
+        Assertions.assertTrue(result.optionalFailureReason().isEmpty());
+    }
+
+    @ParameterizedTest
+    @CsvFileSource(resources = "/valid-accounts.csv", delimiter = ';')
+    void givenBankAccountNumberInBuffer_whenTryParseSlice_thenSameBankAccountNumberAsOfStringReturned(final String accountNumber,
+                                                                                                     final String bankName) {
+        final char[] buffer = ("1234;" + accountNumber + ";5678").toCharArray();
+
+        var result = BankAccountNumber.tryParse(buffer, 5, accountNumber.length());
+
+        Assertions.assertEquals(BankAccountNumber.ofString(accountNumber), result.orElseThrow());
+        Assertions.assertEquals(BankAccountNumber.ofString(accountNumber), BankAccountNumber.ofChars(buffer, 5, accountNumber.length()));
+        Assertions.assertEquals(BankAccountNumber.ofString(accountNumber), BankAccountNumber.ofCharSequence(new StringBuilder(accountNumber)));
+    }
+
+    @ParameterizedTest
+    @CsvFileSource(resources = "/valid-accounts.csv", delimiter = ';')
+    void givenBankAccountNumber_whenOfNumber_thenSameBankAccountNumberAsOfStringReturned(final String accountNumber, final String bankName) {
+        final long number = Long.parseLong(accountNumber.replaceAll("\\D", ""));
+
+        var result = BankAccountNumber.ofNumber(number);
+
+        Assertions.assertEquals(BankAccountNumber.ofString(accountNumber), result);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = ';', value = {
+        "abc; TOO_SHORT",
+        "1234; TOO_SHORT",
+        "3300 1234567890123456789; ACCOUNT_NUMBER_TOO_LONG",
+        "81299; MISSING_ACCOUNT_NUMBER",
+        "33001; ACCOUNT_NUMBER_TOO_SHORT",
+        "0000-1234567; INVALID_CLEARING_NUMBER",
+        "8129-8,043 386 711-6; INVALID_SORTING_DIGIT",
+        "1000-1234567; UNKNOWN_CLEARING_NUMBER",
+        "9340 321 4682; MOD10_FAILURE",
+        "6789123456788; MOD11_FAILURE"
+    })
+    void givenInvalidBankAccountNumber_whenTryParse_thenExpectedFailureReasonReturned(final String accountNumber,
+                                                                                   final ParseFailureReason expected) {
+        var result = BankAccountNumber.tryParse(accountNumber);
+
+        Assertions.assertFalse(result.isValid());
+        Assertions.assertEquals(expected, result.optionalFailureReason().orElseThrow());
+        Assertions.assertFalse(BankAccountNumber.isValid(accountNumber));
+
+        var exception = Assertions.assertThrows(IllegalNumberBankDomainException.class, () -> BankAccountNumber.ofString(accountNumber));
+        Assertions.assertEquals(expected.getDescription() + ": " + accountNumber, exception.getMessage());
+    }
+
+    @Test
+    void givenNull_whenIsValid_thenFalse() {
+        Assertions.assertFalse(BankAccountNumber.isValid(null));
+    }
+}
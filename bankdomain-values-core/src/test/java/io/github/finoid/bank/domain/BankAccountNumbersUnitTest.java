@@ -0,0 +1,166 @@
+package io.github.finoid.bank.domain;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+class BankAccountNumbersUnitTest {
+    private static final List<String> INPUTS = List.of(
+        "3300 000620-5124",
+        "abc",
+        "8129-9,043 386 711-6",
+        "1000-1234567",
+        "9340 321 4682",
+        "9553-5894364"
+    );
+
+    @Test
+    void givenMixedInputs_whenValidateAll_thenValidAccountsAndFailuresReported() {
+        final BulkValidationResult result = BankAccountNumbers.validateAll(INPUTS);
+
+        Assertions.assertEquals(6, result.getTotalCount());
+        Assertions.assertEquals(3, result.getValidCount());
+        Assertions.assertEquals(3, result.getInvalidCount());
+        Assertions.assertEquals(List.of(BankAccountNumber.ofString(INPUTS.get(0)), BankAccountNumber.ofString(INPUTS.get(2)),
+            BankAccountNumber.ofString(INPUTS.get(5))), result.getValidAccounts());
+        Assertions.assertArrayEquals(new int[] {1, 3, 4}, result.failurePositions().toArray());
+        Assertions.assertEquals(ParseFailureReason.TOO_SHORT, result.getFailureReason(0));
+        Assertions.assertEquals(ParseFailureReason.UNKNOWN_CLEARING_NUMBER, result.getFailureReason(1));
+        Assertions.assertEquals(ParseFailureReason.MOD10_FAILURE, result.getFailureReason(2));
+        Assertions.assertEquals(Map.of(ParseFailureReason.TOO_SHORT, 1, ParseFailureReason.UNKNOWN_CLEARING_NUMBER, 1,
+            ParseFailureReason.MOD10_FAILURE, 1), result.reasonCounts());
+    }
+
+    @Test
+    void givenManyInputs_whenValidateAll_thenPositionsMatchSequentialParsing() {
+        final List<String> inputs = manyInputs();
+
+        try (ForkJoinPool pool = new ForkJoinPool(4)) {
+            final BulkValidationResult result = BankAccountNumbers.validateAll(inputs, pool);
+
+            assertSameAsSequential(inputs, result);
+        }
+    }
+
+    @Test
+    void givenUnsizedSpliterator_whenValidateAll_thenPositionsMatchSequentialParsing() {
+        final List<String> inputs = manyInputs();
+
+        final BulkValidationResult result = BankAccountNumbers.validateAll(Spliterators.spliteratorUnknownSize(inputs.iterator(), 0));
+
+        assertSameAsSequential(inputs, result);
+    }
+
+    @Test
+    void givenUnsplitInputLargerThanChunk_whenValidateAllAgainOnSameWorker_thenScratchReusedAfterShrinking() {
+        final List<String> inputs = manyInputs();
+
+        try (ForkJoinPool pool = new ForkJoinPool(1)) {
+            assertSameAsSequential(inputs, BankAccountNumbers.validateAll(unsplittable(inputs), pool));
+            assertSameAsSequential(INPUTS, BankAccountNumbers.validateAll(INPUTS, pool));
+            assertSameAsSequential(inputs, BankAccountNumbers.validateAll(unsplittable(inputs), pool));
+        }
+    }
+
+    @Test
+    void givenNoInputs_whenValidateAll_thenEmptyResult() {
+        final BulkValidationResult result = BankAccountNumbers.validateAll(List.of());
+
+        Assertions.assertEquals(0, result.getTotalCount());
+        Assertions.assertTrue(result.getValidAccounts().isEmpty());
+        Assertions.assertTrue(result.reasonCounts().isEmpty());
+    }
+
+    @Test
+    void givenColumns_whenValidateColumns_thenSameAsOfClearingAndAccountNumber() {
+        final int[] clearingNumbers = new int[200];
+        final long[] accountNumbers = new long[200];
+
+        for (int i = 0; i < clearingNumbers.length; i++) {
+            clearingNumbers[i] = i % 2 == 0 ? 3300 : 81299;
+            accountNumbers[i] = i % 3 == 0 ? 6205124 : 43867116 + i;
+        }
+
+        final BitSet result = BankAccountNumbers.validateColumns(clearingNumbers, accountNumbers);
+
+        for (int i = 0; i < clearingNumbers.length; i++) {
+            Assertions.assertEquals(isValidAsParts(clearingNumbers[i], (int) accountNumbers[i]), result.get(i), "Row " + i);
+        }
+        Assertions.assertTrue(result.get(0));
+    }
+
+    @Test
+    void givenNegativeAccountNumber_whenValidityMask_thenRowInvalid() {
+        final long[] result = BankAccountNumbers.validityMask(new int[] {3300, 3300}, new long[] {-6205124, 6205124});
+
+        Assertions.assertArrayEquals(new long[] {0b10}, result);
+    }
+
+    @Test
+    void givenColumnsOfDifferentLength_whenValidityMask_thenExceptionThrown() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> BankAccountNumbers.validityMask(new int[1], new long[2]));
+    }
+
+    private static boolean isValidAsParts(final int clearing, final int account) {
+        try {
+            BankAccountNumber.ofClearingAndAccountNumber(clearing, account);
+            return true;
+        } catch (final IllegalNumberBankDomainException e) {
+            return false;
+        }
+    }
+
+    private static Spliterator<String> unsplittable(final List<String> inputs) {
+        final Spliterator<String> spliterator = inputs.spliterator();
+
+        return new Spliterators.AbstractSpliterator<>(inputs.size(), Spliterator.ORDERED) {
+            @Override
+            public boolean tryAdvance(final Consumer<? super String> action) {
+                return spliterator.tryAdvance(action);
+            }
+
+            @Override
+            public Spliterator<String> trySplit() {
+                return null;
+            }
+        };
+    }
+
+    private static List<String> manyInputs() {
+        final List<String> inputs = new ArrayList<>();
+
+        for (int i = 0; i < 50_000; i++) {
+            inputs.add(INPUTS.get(i % INPUTS.size()));
+        }
+
+        return inputs;
+    }
+
+    private static void assertSameAsSequential(final List<String> inputs, final BulkValidationResult result) {
+        final List<BankAccountNumber> expectedValid = new ArrayList<>();
+        final List<Integer> expectedPositions = new ArrayList<>();
+
+        for (int i = 0; i < inputs.size(); i++) {
+            final ParseResult parsed = BankAccountNumber.tryParse(inputs.get(i));
+
+            if (parsed.isValid()) {
+                expectedValid.add(parsed.orElseThrow());
+            } else {
+                expectedPositions.add(i);
+            }
+        }
+
+        Assertions.assertEquals(inputs.size(), result.getTotalCount());
+        Assertions.assertEquals(expectedValid, result.getValidAccounts());
+        Assertions.assertEquals(expectedPositions, result.failurePositions().boxed().toList());
+        Assertions.assertEquals(expectedPositions.size() / 3, result.countOf(ParseFailureReason.MOD10_FAILURE));
+    }
+}
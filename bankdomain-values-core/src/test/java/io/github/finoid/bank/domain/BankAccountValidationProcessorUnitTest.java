@@ -0,0 +1,279 @@
+package io.github.finoid.bank.domain;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+class BankAccountValidationProcessorUnitTest {
+    private static final Executor DIRECT = Runnable::run;
+
+    private static final List<String> INPUTS = List.of(
+        "3300 000620-5124",
+        "1000 1234567",
+        "8129-9,043 386 711-6",
+        "9553-5894364",
+        "abc"
+    );
+
+    @Test
+    void givenInputs_whenUnboundedDemand_thenResultsEmittedInOrderAndCompleted() {
+        final BankAccountValidationProcessor processor = new BankAccountValidationProcessor(DIRECT, 2);
+        final RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+
+        processor.subscribe(subscriber);
+        new ListPublisher(INPUTS).subscribe(processor);
+
+        Assertions.assertEquals(INPUTS, subscriber.inputs());
+        Assertions.assertEquals(List.of(true, false, true, true, false), subscriber.validities());
+        Assertions.assertEquals(ParseFailureReason.UNKNOWN_CLEARING_NUMBER,
+            subscriber.results.get(1).getParseResult().optionalFailureReason().orElseThrow());
+        Assertions.assertTrue(subscriber.completed);
+    }
+
+    @Test
+    void givenLimitedDemand_whenPublished_thenOnlyRequestedResultsEmitted() {
+        final BankAccountValidationProcessor processor = new BankAccountValidationProcessor(DIRECT, 2);
+        final RecordingSubscriber subscriber = new RecordingSubscriber(2);
+
+        processor.subscribe(subscriber);
+        new ListPublisher(INPUTS).subscribe(processor);
+
+        Assertions.assertEquals(INPUTS.subList(0, 2), subscriber.inputs());
+        Assertions.assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(10);
+
+        Assertions.assertEquals(INPUTS, subscriber.inputs());
+        Assertions.assertTrue(subscriber.completed);
+    }
+
+    @Test
+    void givenNoDemand_whenPublished_thenUpstreamRequestedTwoBatches() {
+        final BankAccountValidationProcessor processor = new BankAccountValidationProcessor(DIRECT, 3);
+        final ListPublisher publisher = new ListPublisher(List.of("1", "2", "3", "4", "5", "6", "7", "8", "9", "10"));
+        final RecordingSubscriber subscriber = new RecordingSubscriber(0);
+
+        processor.subscribe(subscriber);
+        publisher.subscribe(processor);
+
+        Assertions.assertEquals(6, publisher.requested);
+
+        subscriber.subscription.request(3);
+
+        Assertions.assertEquals(9, publisher.requested);
+        Assertions.assertEquals(3, subscriber.results.size());
+    }
+
+    @Test
+    void givenSecondSubscriber_whenSubscribe_thenErrorSignalled() {
+        final BankAccountValidationProcessor processor = new BankAccountValidationProcessor(DIRECT, 2);
+        final RecordingSubscriber second = new RecordingSubscriber(1);
+
+        processor.subscribe(new RecordingSubscriber(1));
+        processor.subscribe(second);
+
+        Assertions.assertInstanceOf(IllegalStateException.class, second.error);
+    }
+
+    @Test
+    void givenNonPositiveRequest_whenRequest_thenErrorSignalledAndUpstreamCancelled() {
+        final BankAccountValidationProcessor processor = new BankAccountValidationProcessor(DIRECT, 2);
+        final ListPublisher publisher = new ListPublisher(INPUTS);
+        final RecordingSubscriber subscriber = new RecordingSubscriber(0);
+
+        processor.subscribe(subscriber);
+        publisher.subscribe(processor);
+        subscriber.subscription.request(0);
+
+        Assertions.assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+        Assertions.assertTrue(publisher.cancelled);
+    }
+
+    @Test
+    void givenUpstreamError_whenPublished_thenErrorPassedOn() {
+        final BankAccountValidationProcessor processor = new BankAccountValidationProcessor(DIRECT, 2);
+        final RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+        final IllegalStateException failure = new IllegalStateException("boom");
+
+        processor.subscribe(subscriber);
+        processor.onSubscribe(new IdleSubscription());
+        processor.onError(failure);
+
+        Assertions.assertSame(failure, subscriber.error);
+        Assertions.assertFalse(subscriber.completed);
+    }
+
+    @Test
+    void givenCancelledSubscriber_whenCancel_thenUpstreamCancelled() {
+        final BankAccountValidationProcessor processor = new BankAccountValidationProcessor(DIRECT, 2);
+        final ListPublisher publisher = new ListPublisher(INPUTS);
+        final RecordingSubscriber subscriber = new RecordingSubscriber(1);
+
+        processor.subscribe(subscriber);
+        publisher.subscribe(processor);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(10);
+
+        Assertions.assertTrue(publisher.cancelled);
+        Assertions.assertEquals(1, subscriber.results.size());
+        Assertions.assertFalse(subscriber.completed);
+    }
+
+    @Test
+    void givenSubmissionPublisherAndThreadPool_whenPublished_thenAllResultsEmittedInOrder() throws InterruptedException {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try (SubmissionPublisher<CharSequence> publisher = new SubmissionPublisher<>(executor, 16)) {
+            final BankAccountValidationProcessor processor = new BankAccountValidationProcessor(executor, 8);
+            final RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+            final List<String> inputs = new ArrayList<>();
+
+            for (int i = 0; i < 10_000; i++) {
+                inputs.add(INPUTS.get(i % INPUTS.size()));
+            }
+
+            processor.subscribe(subscriber);
+            publisher.subscribe(processor);
+            inputs.forEach(publisher::submit);
+            publisher.close();
+
+            Assertions.assertTrue(subscriber.terminated.await(10, TimeUnit.SECONDS));
+            Assertions.assertEquals(inputs, subscriber.inputs());
+            Assertions.assertTrue(subscriber.completed);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static final class RecordingSubscriber implements Flow.Subscriber<BankAccountValidationProcessor.Result> {
+        private final long initialRequest;
+        private final List<BankAccountValidationProcessor.Result> results = new CopyOnWriteArrayList<>();
+        private final CountDownLatch terminated = new CountDownLatch(1);
+
+        private Flow.Subscription subscription;
+        private volatile boolean completed;
+        private volatile Throwable error;
+
+        RecordingSubscriber(final long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            this.subscription = subscription;
+
+            if (initialRequest > 0) {
+                subscription.request(initialRequest);
+            }
+        }
+
+        @Override
+        public void onNext(final BankAccountValidationProcessor.Result item) {
+            results.add(item);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            error = throwable;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            terminated.countDown();
+        }
+
+        List<String> inputs() {
+            return results.stream()
+                .map(result -> result.getInput().toString())
+                .toList();
+        }
+
+        List<Boolean> validities() {
+            return results.stream()
+                .map(BankAccountValidationProcessor.Result::isValid)
+                .toList();
+        }
+    }
+
+    private static final class IdleSubscription implements Flow.Subscription {
+        @Override
+        public void request(final long n) {
+            // Never emits
+        }
+
+        @Override
+        public void cancel() {
+            // Nothing to cancel
+        }
+    }
+
+    /**
+     * Emits a list synchronously as it is requested, and records the total demand.
+     */
+    private static final class ListPublisher implements Flow.Publisher<CharSequence> {
+        private final List<String> items;
+
+        private long requested;
+        private boolean cancelled;
+
+        ListPublisher(final List<String> items) {
+            this.items = items;
+        }
+
+        @Override
+        public void subscribe(final Flow.Subscriber<? super CharSequence> subscriber) {
+            subscriber.onSubscribe(new ListSubscription(subscriber));
+        }
+
+        private final class ListSubscription implements Flow.Subscription {
+            private final Flow.Subscriber<? super CharSequence> subscriber;
+
+            private int index;
+            private long pending;
+            private boolean emitting;
+
+            ListSubscription(final Flow.Subscriber<? super CharSequence> subscriber) {
+                this.subscriber = subscriber;
+            }
+
+            @Override
+            public void request(final long n) {
+                requested += n;
+                pending += n;
+
+                if (emitting) {
+                    return;
+                }
+
+                emitting = true;
+                while (pending > 0 && index < items.size() && !cancelled) {
+                    pending--;
+                    subscriber.onNext(items.get(index++));
+                }
+                emitting = false;
+
+                if (index == items.size() && !cancelled) {
+                    cancelled = true;
+                    subscriber.onComplete();
+                }
+            }
+
+            @Override
+            public void cancel() {
+                cancelled = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package io.github.finoid.bank.domain;
+
+import io.github.finoid.generated.bank.domain.Bank;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.ref.WeakReference;
+import java.util.Optional;
+import java.util.Set;
+
+class BankAndTypeUnitTest {
+    @Test
+    void givenEveryClearingNumber_whenFindByClearingNumber_thenSameResultAsScanningAllBanks() {
+        for (int clearing = 1000; clearing <= 9999; clearing++) {
+            final Optional<BankAndType> expected = scanAllBanks(clearing);
+
+            final Optional<BankAndType> result = BankAndType.findByClearingNumber(ClearingNumber.ofNumber(clearing));
+
+            Assertions.assertEquals(expected, result, "Clearing number " + clearing);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3000, 3299, 3301})
+    void givenClearingNumbersOfSameBankType_whenFindByClearingNumber_thenSameInstanceReturned(final int clearing) {
+        final BankAndType expected = BankAndType.findByClearingNumber(ClearingNumber.ofNumber(3301))
+            .orElseThrow();
+
+        final BankAndType result = BankAndType.findByClearingNumber(ClearingNumber.ofNumber(clearing))
+            .orElseThrow();
+
+        Assertions.assertSame(expected, result);
+    }
+
+    @Test
+    void givenUnknownClearingNumber_whenOfClearingNumber_thenEmptyReturned() {
+        Assertions.assertEquals(Optional.empty(), Bank.ofClearingNumber(ClearingNumber.ofNumber(1000)));
+    }
+
+    @Test
+    void givenEqualBankAndType_whenOf_thenInternedInstanceReturned() {
+        final BankAndType expected = BankAndType.findByClearingNumber(ClearingNumber.ofNumber(3300))
+            .orElseThrow();
+
+        final BankAndType result = BankAndType.of(expected.getBank(), expected.getBankType());
+
+        Assertions.assertSame(expected, result);
+    }
+
+    @Test
+    void givenBankAndTypeNoLongerReferenced_whenCollected_thenReleasedByInterning() throws InterruptedException {
+        // A bank type of a reloaded table, with ranges no other table has
+        final BankType bankType = BankType.ofTypesAndRanges(BankAccountType.ONE, BankAccountSubType.ONE, IntRanges.of(IntRange.of(9990, 9991)));
+        final WeakReference<BankAndType> reference = new WeakReference<>(BankAndType.of(Bank.SWEDBANK, bankType));
+
+        for (int attempt = 0; attempt < 50 && reference.get() != null; attempt++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        Assertions.assertNull(reference.get());
+    }
+
+    @Test
+    void givenSeparateInstances_whenEquals_thenEqualWithSameHashCode() {
+        final BankAndType interned = BankAndType.findByClearingNumber(ClearingNumber.ofNumber(3300))
+            .orElseThrow();
+
+        final BankAndType result = new BankAndType(interned.getBank(), interned.getBankType());
+
+        Assertions.assertEquals(interned, result);
+        Assertions.assertEquals(interned.hashCode(), result.hashCode());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "ESSESESS, SEB",
+        "SWEDSESSXXX, SWEDBANK",
+        "NDEASESS, NORDEA",
+        "BCIRSE22XXX, BANKING_CIRCLE",
+        "swedsess, SWEDBANK",
+        "HandSESSxxx, HANDELSBANKEN"
+    })
+    void givenBic_whenOfBic_thenBankOfBic(final String bic, final Bank bank) {
+        Assertions.assertEquals(Optional.of(bank), Bank.ofBic(bic));
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"", "-", "DEUTDEFF", "SWEDSES", "SWEDSESSX", "SWEDSESSXX", "SWEDSESSXXXX"})
+    void givenUnknownBic_whenOfBic_thenEmptyReturned(final String bic) {
+        Assertions.assertEquals(Optional.empty(), Bank.ofBic(bic));
+    }
+
+    @Test
+    void givenBankWithoutBic_whenOptionalBic_thenEmptyReturned() {
+        Assertions.assertEquals(Optional.empty(), Bank.AION_BANK.optionalBic());
+        Assertions.assertEquals(Optional.of("DABASESX"), Bank.DANSKE_BANK.optionalBic());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "120, DANSKE_BANK",
+        "918, DANSKE_BANK",
+        "500, SEB",
+        "950, NORDEA_PLUSGIROT"
+    })
+    void givenIbanId_whenOfIbanId_thenBankOfIbanId(final int ibanId, final Bank bank) {
+        Assertions.assertEquals(Optional.of(bank), Bank.ofIbanId(ibanId));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 100, 999, -120})
+    void givenUnknownIbanId_whenOfIbanId_thenEmptyReturned(final int ibanId) {
+        Assertions.assertEquals(Optional.empty(), Bank.ofIbanId(ibanId));
+    }
+
+    @Test
+    void givenEveryBank_whenOfIbanIdAndOfBic_thenConsistentWithBankTypes() {
+        for (final Bank bank : Bank.values()) {
+            for (final BankType type : bank.getTypes()) {
+                Assertions.assertTrue(bank.getIbanIds().contains(type.getIbanId()), bank.name());
+            }
+
+            for (final int ibanId : bank.getIbanIds()) {
+                Assertions.assertEquals(Optional.of(bank), Bank.ofIbanId(ibanId));
+            }
+
+            bank.optionalBic()
+                .ifPresent(bic -> Assertions.assertEquals(bic, Bank.ofBic(bic).flatMap(Bank::optionalBic).orElseThrow()));
+        }
+    }
+
+    @Test
+    void givenFiveArgumentConstructor_whenNew_thenSameAsFactoryWithoutIbanConversion() {
+        final IntRanges ranges = IntRanges.of(IntRange.of(3300, 3300));
+
+        final BankType bankType = new BankType(BankAccountType.TWO, BankAccountSubType.ONE, 10, 10, Set.of(ranges));
+
+        Assertions.assertEquals(BankType.ofTypesAndRanges(BankAccountType.TWO, BankAccountSubType.ONE, 10, 10, ranges), bankType);
+        Assertions.assertEquals(0, bankType.getIbanId());
+        Assertions.assertNull(bankType.getIbanMethod());
+    }
+
+    private static Optional<BankAndType> scanAllBanks(final int clearing) {
+        for (final Bank bank : Bank.values()) {
+            for (final BankType type : bank.getTypes()) {
+                if (type.isWithinRange(clearing)) {
+                    return Optional.of(new BankAndType(bank, type));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,131 @@
+package io.github.finoid.bank.domain;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+class ChecksumKernelUnitTest {
+    private static final long[] BOUNDARY_ACCOUNTS = {
+        0L, 1L, 9L, 10L, 5L, 55L, 999_999_999L, 1_000_000_000L, 1_000_000_001L, 999_999_999_999_999_999L, 123_456_789_012_345_678L,
+        1_999_999_999L, 999_999_999_000_000_000L, 500_000_000_500_000_000L
+    };
+
+    @Test
+    void givenAccounts_whenVectorSums_thenSameAsMathUtilsSums() {
+        final ChecksumKernel kernel = ChecksumKernel.load();
+        Assumptions.assumeTrue(kernel instanceof VectorChecksumKernel, "jdk.incubator.vector is not resolved");
+
+        final Random random = new Random(42);
+        final long[] accounts = new long[1_000];
+
+        System.arraycopy(BOUNDARY_ACCOUNTS, 0, accounts, 0, BOUNDARY_ACCOUNTS.length);
+        for (int i = BOUNDARY_ACCOUNTS.length; i < accounts.length; i++) {
+            accounts[i] = random.nextLong(MathUtils.powerOfTen(1 + random.nextInt(18)));
+        }
+
+        // Uneven slices cover the rows summed by whole vectors and the rows left over
+        for (int from = 0; from < accounts.length; from += 61) {
+            final int to = Math.min(from + 61, accounts.length);
+
+            final long[][] sums = sums(kernel, accounts, from, to);
+
+            for (int row = from; row < to; row++) {
+                Assertions.assertEquals(MathUtils.mod11Sum(accounts[row], 0), sums[0][row - from], "Mod11 sum of " + accounts[row]);
+                Assertions.assertEquals(MathUtils.luhnSum(accounts[row]), sums[1][row - from], "Luhn sum of " + accounts[row]);
+            }
+        }
+    }
+
+    @Test
+    void givenMixedColumns_whenValidityMaskWithEachKernel_thenSameAsFailureReasonOfEveryRow() throws Exception {
+        final List<BankAccountNumber> valid = validAccounts();
+        final Random random = new Random(7);
+        final int[] clearingNumbers = new int[517];
+        final long[] accountNumbers = new long[clearingNumbers.length];
+
+        for (int i = 0; i < clearingNumbers.length; i++) {
+            final BankAccountNumber account = valid.get(random.nextInt(valid.size()));
+
+            clearingNumbers[i] = account.getClearingNumber().toInt();
+            accountNumbers[i] = account.getAccountNumber().toDigits() + (random.nextInt(3) == 0 ? random.nextInt(20) - 10 : 0);
+        }
+
+        final long[] scalar = BankAccountNumbers.validityMask(clearingNumbers, accountNumbers, ChecksumKernel.SCALAR);
+
+        Assertions.assertArrayEquals(scalar, BankAccountNumbers.validityMask(clearingNumbers, accountNumbers));
+        for (int i = 0; i < clearingNumbers.length; i++) {
+            final boolean expected = accountNumbers[i] >= 0 && BankAccountNumber.failureReasonOf(clearingNumbers[i], accountNumbers[i]) == null;
+
+            Assertions.assertEquals(expected, (scalar[i / Long.SIZE] >>> (i % Long.SIZE) & 1L) == 1L, "Row " + i);
+        }
+    }
+
+    @Test
+    void givenAccountsLongerThan18Digits_whenValidityMaskWithEachKernel_thenRejectedByBoth() {
+        // Enough rows for whole vectors, alternating a 2:2 clearing (Handelsbanken) and a 1:1 clearing (Danske Bank)
+        final int[] clearingNumbers = new int[64];
+        final long[] accountNumbers = new long[clearingNumbers.length];
+
+        for (int i = 0; i < clearingNumbers.length; i++) {
+            clearingNumbers[i] = i % 2 == 0 ? 6000 : 1200;
+            accountNumbers[i] = i % 4 < 2 ? 1_000_000_000_000_000_000L : Long.MAX_VALUE;
+        }
+
+        final long[] scalar = BankAccountNumbers.validityMask(clearingNumbers, accountNumbers, ChecksumKernel.SCALAR);
+
+        Assertions.assertArrayEquals(new long[] {0L}, scalar);
+        Assertions.assertArrayEquals(scalar, BankAccountNumbers.validityMask(clearingNumbers, accountNumbers, ChecksumKernel.load()));
+        Assertions.assertEquals(ParseFailureReason.ACCOUNT_NUMBER_TOO_LONG,
+            BankAccountNumber.failureReasonOf(6000, 1_000_000_000_000_000_000L));
+    }
+
+    @Test
+    void givenScalarKernel_whenSums_thenLeftToEveryRow() {
+        Assertions.assertArrayEquals(new long[][] {{-1, -1}, {-1, -1}}, sums(ChecksumKernel.SCALAR, BOUNDARY_ACCOUNTS, 3, 5));
+    }
+
+    @Test
+    void givenVectorPropertyFalse_whenLoad_thenScalarKernel() {
+        System.setProperty(ChecksumKernel.VECTOR_PROPERTY, "false");
+        try {
+            Assertions.assertSame(ChecksumKernel.SCALAR, ChecksumKernel.load());
+        } finally {
+            System.clearProperty(ChecksumKernel.VECTOR_PROPERTY);
+        }
+    }
+
+    private static long[][] sums(final ChecksumKernel kernel, final long[] accounts, final int from, final int to) {
+        final long[][] sums = new long[2][to - from];
+
+        kernel.sums(accounts, from, to, sums[0], sums[1]);
+
+        return sums;
+    }
+
+    private static List<BankAccountNumber> validAccounts() throws Exception {
+        final List<BankAccountNumber> accounts = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+            Objects.requireNonNull(ChecksumKernelUnitTest.class.getResourceAsStream("/valid-accounts.csv")), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final BankAccountNumber account = BankAccountNumber.ofString(line.substring(0, line.indexOf(';')));
+
+                // Leading zeros cannot be expressed in a numeric account column
+                if (account.getAccountNumber().getNumber().charAt(0) != '0') {
+                    accounts.add(account);
+                }
+            }
+        }
+
+        return accounts;
+    }
+}
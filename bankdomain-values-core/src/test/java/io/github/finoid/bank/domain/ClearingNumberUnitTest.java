@@ -0,0 +1,52 @@
+package io.github.finoid.bank.domain;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ClearingNumberUnitTest {
+    @ParameterizedTest
+    @ValueSource(ints = {1000, 3300, 9999, 81299, 84244})
+    void givenValidClearingNumber_whenOfNumber_thenSameInstanceReturned(final int number) {
+        final ClearingNumber expected = ClearingNumber.ofNumber(number);
+
+        final ClearingNumber result = ClearingNumber.ofString(String.valueOf(number));
+
+        Assertions.assertSame(expected, result);
+        Assertions.assertEquals(number, result.toInt());
+    }
+
+    @Test
+    void givenEveryFiveDigitNumber_whenOfNumber_thenAcceptedOnlyIfMod10() {
+        for (int number = 10_000; number <= 99_999; number++) {
+            final int candidate = number;
+
+            if (MathUtils.isMod10(number)) {
+                Assertions.assertEquals(number, ClearingNumber.ofNumber(number).toInt());
+            } else {
+                Assertions.assertThrows(IllegalNumberBankDomainException.class, () -> ClearingNumber.ofNumber(candidate));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "3300, 3300, 3300",
+        "81299, 81299, 8129-9"
+    })
+    void givenClearingNumber_whenToStringAndToFormatted_thenExpectedStringsReturned(final int number, final String expectedString,
+                                                                                  final String expectedFormatted) {
+        final ClearingNumber result = ClearingNumber.ofNumber(number);
+
+        Assertions.assertEquals(expectedString, result.toString());
+        Assertions.assertEquals(expectedFormatted, result.toFormatted());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 999, 81298})
+    void givenInvalidClearingNumber_whenOfNumber_thenExceptionThrown(final int number) {
+        Assertions.assertThrows(IllegalNumberBankDomainException.class, () -> ClearingNumber.ofNumber(number));
+    }
+}
@@ -0,0 +1,257 @@
+package io.github.finoid.bank.domain;
+
+import io.github.finoid.generated.bank.domain.Bank;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+class ClearingTableUnitTest {
+    private static final String SWEDBANK_9300 = "9300 - 9349;Swedbank;SWEDSESS;930;2:1;1";
+    private static final String LANDSHYPOTEK_9300 = "9300 - 9349;Landshypotek;LAHYSESS;939;1:2;1";
+
+    /**
+     * Valid as Swedbank 2:1 (mod10), invalid as Landshypotek 1:2 (mod11).
+     */
+    private static final String VALID_AS_SWEDBANK = "9340 321 4681";
+
+    /**
+     * Valid as Landshypotek 1:2 (mod11), invalid as Swedbank 2:1 (mod10).
+     */
+    private static final String VALID_AS_LANDSHYPOTEK = "9340 000 0010";
+
+    private static String csv;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    static void readCsv() throws Exception {
+        try (InputStream inputStream = Objects.requireNonNull(
+            ClearingTableUnitTest.class.getResourceAsStream("/clearingnummertabell-for-nedladdning.csv"))) {
+            csv = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @AfterEach
+    void reset() {
+        ClearingTable.reset();
+    }
+
+    @Test
+    void givenBundledCsv_whenLoad_thenSameAsGeneratedTable() throws Exception {
+        final ClearingTable table = load(csv);
+
+        for (int clearingNumber = 0; clearingNumber < 10_000; clearingNumber++) {
+            Assertions.assertSame(ClearingTable.generated().bankAndTypeOf(clearingNumber), table.bankAndTypeOf(clearingNumber),
+                "Clearing number " + clearingNumber);
+        }
+
+        Assertions.assertEquals(ClearingTable.generated().size(), table.size());
+        Assertions.assertTrue(table.getUnknownBanks().isEmpty());
+    }
+
+    @Test
+    void givenBinaryResource_whenRead_thenSameAsEnumTable() throws Exception {
+        final ClearingTable table = Objects.requireNonNull(ClearingTable.readBinary(binaryResource()));
+
+        for (int clearingNumber = 0; clearingNumber < 10_000; clearingNumber++) {
+            Assertions.assertSame(Bank.bankAndTypeOf(clearingNumber), table.bankAndTypeOf(clearingNumber), "Clearing number " + clearingNumber);
+            Assertions.assertSame(Bank.bankAndTypeOf(clearingNumber), ClearingTable.generated().bankAndTypeOf(clearingNumber));
+        }
+    }
+
+    @Test
+    void givenCorruptBinaryResource_whenRead_thenNull() throws Exception {
+        final byte[] bytes = binaryResource();
+        final byte[] wrongVersion = bytes.clone();
+        wrongVersion[4] = 1;
+
+        Assertions.assertNull(ClearingTable.readBinary(wrongVersion));
+        Assertions.assertNull(ClearingTable.readBinary(Arrays.copyOf(bytes, bytes.length - 1)));
+        Assertions.assertNull(ClearingTable.readBinary(new byte[0]));
+    }
+
+    @Test
+    void givenInstalledTable_whenParse_thenResolvedAndValidatedAgainstInstalledTable() throws Exception {
+        ClearingTable.install(load(csv.replace(SWEDBANK_9300, LANDSHYPOTEK_9300)));
+
+        Assertions.assertEquals(ParseFailureReason.MOD11_FAILURE, BankAccountNumber.tryParse(VALID_AS_SWEDBANK).optionalFailureReason().orElseThrow());
+        Assertions.assertEquals(Bank.LANDSHYPOTEK, BankAccountNumber.ofString(VALID_AS_LANDSHYPOTEK).getBankAndType().getBank());
+        Assertions.assertEquals(Bank.LANDSHYPOTEK, BankAndType.findByClearingNumber(ClearingNumber.ofNumber(9340)).orElseThrow().getBank());
+
+        ClearingTable.reset();
+
+        Assertions.assertEquals(Bank.SWEDBANK, BankAccountNumber.ofString(VALID_AS_SWEDBANK).getBankAndType().getBank());
+        Assertions.assertFalse(BankAccountNumber.isValid(VALID_AS_LANDSHYPOTEK));
+    }
+
+    @Test
+    void givenUnknownBank_whenLoad_thenRowsSkippedAndReported() throws Exception {
+        final ClearingTable table = load(csv.replace(SWEDBANK_9300, "9300 - 9349;Nybanken AB;NYBASESS;930;2:1;1"));
+
+        Assertions.assertNull(table.bankAndTypeOf(9340));
+        Assertions.assertEquals(Set.of("Nybanken AB"), table.getUnknownBanks());
+    }
+
+    @Test
+    void givenMalformedCsv_whenLoad_thenBankDomainException() {
+        final BankDomainException malformedRange = Assertions.assertThrows(BankDomainException.class,
+            () -> load(csv.replace(SWEDBANK_9300, "93x0 - 9349;Swedbank;SWEDSESS;930;2:1;1")));
+        final BankDomainException noKnownBanks = Assertions.assertThrows(BankDomainException.class,
+            () -> load("Clearingnummer;Aktör;BIC;IBAN ID;Konto-typ;Metod IBAN konvertering\n"));
+
+        Assertions.assertTrue(malformedRange.getMessage().contains("line 37"), malformedRange.getMessage());
+        Assertions.assertNotNull(noKnownBanks.getMessage());
+    }
+
+    @Test
+    void givenWatcher_whenFileReplaced_thenTableReloaded() throws Exception {
+        final Path file = tempDir.resolve("clearing.csv");
+        Files.writeString(file, csv);
+
+        final LinkedBlockingQueue<Object> outcomes = new LinkedBlockingQueue<>();
+        final ClearingTableWatcher.Listener listener = new ClearingTableWatcher.Listener() {
+            @Override
+            public void onReloaded(final ClearingTable table) {
+                outcomes.add(table);
+            }
+
+            @Override
+            public void onFailed(final Path failed, final Exception cause) {
+                outcomes.add(cause);
+            }
+        };
+
+        try (ClearingTableWatcher ignored = ClearingTableWatcher.start(file, listener)) {
+            Assertions.assertEquals(Bank.SWEDBANK, BankAccountNumber.ofString(VALID_AS_SWEDBANK).getBankAndType().getBank());
+
+            replace(file, csv.replace(SWEDBANK_9300, LANDSHYPOTEK_9300));
+
+            Assertions.assertInstanceOf(ClearingTable.class, awaitOutcome(outcomes, ClearingTable.class));
+            Assertions.assertEquals(Bank.LANDSHYPOTEK, BankAccountNumber.ofString(VALID_AS_LANDSHYPOTEK).getBankAndType().getBank());
+
+            final ClearingTable beforeFailure = ClearingTable.current();
+            replace(file, csv.replace(LANDSHYPOTEK_9300.substring(0, 11), "93x0 - 9349"));
+
+            Assertions.assertInstanceOf(BankDomainException.class, awaitOutcome(outcomes, BankDomainException.class));
+            Assertions.assertSame(beforeFailure, ClearingTable.current());
+        }
+    }
+
+    @Test
+    void givenConcurrentSwaps_whenParse_thenEveryResultMatchesOneTable() throws Exception {
+        final ClearingTable swedbank = ClearingTable.generated();
+        final ClearingTable landshypotek = load(csv.replace(SWEDBANK_9300, LANDSHYPOTEK_9300));
+        final List<String> inputs = List.of(VALID_AS_SWEDBANK, VALID_AS_LANDSHYPOTEK, "9349 000 0005", "3300 000620-5124");
+
+        final List<List<ParseResult>> expected = List.of(parseAll(swedbank, inputs), parseAll(landshypotek, inputs));
+        ClearingTable.reset();
+
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final AtomicLong parses = new AtomicLong();
+        final List<String> inconsistencies = new CopyOnWriteArrayList<>();
+        final int readerCount = 4;
+        final CountDownLatch readersDone = new CountDownLatch(readerCount);
+
+        for (int r = 0; r < readerCount; r++) {
+            final Thread reader = new Thread(() -> {
+                try {
+                    while (running.get()) {
+                        for (int i = 0; i < inputs.size(); i++) {
+                            final ParseResult result = BankAccountNumber.tryParse(inputs.get(i));
+
+                            if (!result.equals(expected.get(0).get(i)) && !result.equals(expected.get(1).get(i))) {
+                                inconsistencies.add(inputs.get(i) + " -> " + result);
+                            }
+                        }
+
+                        parses.addAndGet(inputs.size());
+
+                        final ClearingTable snapshot = ClearingTable.current();
+                        if (snapshot.bankAndTypeOf(9300) != snapshot.bankAndTypeOf(9349)) {
+                            inconsistencies.add("Torn snapshot " + snapshot);
+                        }
+                    }
+                } finally {
+                    readersDone.countDown();
+                }
+            });
+            reader.setDaemon(true);
+            reader.start();
+        }
+
+        // Swap until the readers have parsed enough inputs against the changing table
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(20);
+        for (int swap = 0; parses.get() < 200_000 && System.nanoTime() < deadline; swap++) {
+            ClearingTable.install(swap % 2 == 0 ? landshypotek : swedbank);
+
+            if (swap % 100 == 0) {
+                Thread.yield();
+            }
+        }
+
+        running.set(false);
+
+        Assertions.assertTrue(readersDone.await(30, TimeUnit.SECONDS));
+        Assertions.assertEquals(List.of(), inconsistencies);
+        Assertions.assertTrue(parses.get() >= 200_000, "Parsed " + parses.get());
+        Assertions.assertNotEquals(expected.get(0), expected.get(1));
+    }
+
+    private static byte[] binaryResource() throws Exception {
+        try (InputStream inputStream = Objects.requireNonNull(Bank.class.getResourceAsStream("clearing-table.bin"))) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    private static List<ParseResult> parseAll(final ClearingTable table, final List<String> inputs) {
+        ClearingTable.install(table);
+
+        return inputs.stream()
+            .map(BankAccountNumber::tryParse)
+            .toList();
+    }
+
+    private static Object awaitOutcome(final LinkedBlockingQueue<Object> outcomes, final Class<?> type) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+
+        while (System.nanoTime() < deadline) {
+            final Object outcome = outcomes.poll(100, TimeUnit.MILLISECONDS);
+
+            if (type.isInstance(outcome)) {
+                return outcome;
+            }
+        }
+
+        throw new AssertionError("No " + type.getSimpleName() + " reported");
+    }
+
+    private void replace(final Path file, final String content) throws Exception {
+        final Path written = Files.createTempFile(tempDir, "clearing", ".tmp");
+        Files.writeString(written, content);
+        Files.move(written, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static ClearingTable load(final String content) throws Exception {
+        return ClearingTable.load(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+}
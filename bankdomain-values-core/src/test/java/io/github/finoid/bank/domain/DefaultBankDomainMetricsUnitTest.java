@@ -0,0 +1,119 @@
+package io.github.finoid.bank.domain;
+
+import io.github.finoid.generated.bank.domain.Bank;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+class DefaultBankDomainMetricsUnitTest {
+    @AfterEach
+    void uninstall() {
+        BankDomainMetricsRegistry.uninstall();
+    }
+
+    @Test
+    void givenInstalledMetrics_whenParse_thenParsedRejectedAndResolvedCounted() {
+        final DefaultBankDomainMetrics metrics = new DefaultBankDomainMetrics();
+        BankDomainMetricsRegistry.install(metrics);
+
+        BankAccountNumber.tryParse("8129-9,043 386 711-6");
+        BankAccountNumber.isValid("3300 000620-5124");
+        BankAccountNumber.tryParse("1000 1234567");
+        BankAccountNumber.tryParse("abc");
+        Assertions.assertThrows(IllegalNumberBankDomainException.class, () -> BankAccountNumber.ofString("9340 321 4682"));
+
+        Assertions.assertEquals(2, metrics.getParsedCount());
+        Assertions.assertEquals(3, metrics.getRejectedCount());
+        Assertions.assertEquals(1, metrics.resolutionCount(Bank.SWEDBANK));
+        Assertions.assertEquals(1, metrics.resolutionCount(Bank.NORDEA));
+        Assertions.assertEquals(Map.of("UNKNOWN_CLEARING_NUMBER", 1L, "TOO_SHORT", 1L, "MOD10_FAILURE", 1L), metrics.getRejectionCounts());
+    }
+
+    @Test
+    void givenInstalledMetrics_whenFindByClearingNumber_thenResolutionCounted() {
+        final DefaultBankDomainMetrics metrics = new DefaultBankDomainMetrics();
+        BankDomainMetricsRegistry.install(metrics);
+
+        BankAndType.findByClearingNumber(ClearingNumber.ofNumber(8129));
+        Bank.ofClearingNumber(ClearingNumber.ofNumber(8129));
+        BankAndType.findByClearingNumber(ClearingNumber.ofNumber(1000));
+
+        Assertions.assertEquals(Map.of("SWEDBANK", 2L), metrics.getResolutionCounts());
+        Assertions.assertEquals(0, metrics.getParsedCount());
+    }
+
+    @Test
+    void givenInstalledMetrics_whenFormat_thenFormatCounted() throws Exception {
+        final BankAccountNumber account = BankAccountNumber.ofString("8129-9,043 386 711-6");
+        final DefaultBankDomainMetrics metrics = new DefaultBankDomainMetrics();
+        BankDomainMetricsRegistry.install(metrics);
+
+        account.toFormatted(BankAccountFormatter.Format.PRETTY);
+        BankAccountFormatter.formatTo(account, BankAccountFormatter.Format.PRETTY, new StringBuilder());
+        BankAccountFormatter.formatTo(account, BankAccountFormatter.Format.DEFAULT, new char[32], 0);
+
+        Assertions.assertEquals(2, metrics.formatCount(BankAccountFormatter.Format.PRETTY));
+        Assertions.assertEquals(1, metrics.formatCount(BankAccountFormatter.Format.DEFAULT));
+    }
+
+    @Test
+    void givenCombinedMetrics_whenParse_thenEachCounted() {
+        final DefaultBankDomainMetrics first = new DefaultBankDomainMetrics();
+        final DefaultBankDomainMetrics second = new DefaultBankDomainMetrics();
+        BankDomainMetricsRegistry.install(BankDomainMetrics.of(first, second));
+
+        BankAccountNumber.tryParse("8129-9,043 386 711-6");
+        BankAccountNumber.tryParse("abc");
+
+        Assertions.assertEquals(1, first.getParsedCount());
+        Assertions.assertEquals(1, second.getParsedCount());
+        Assertions.assertEquals(1, second.rejectionCount(ParseFailureReason.TOO_SHORT));
+        Assertions.assertFalse(BankDomainMetrics.of(first, second).isTimed());
+    }
+
+    @Test
+    void givenUninstalledMetrics_whenParse_thenNothingCounted() {
+        final DefaultBankDomainMetrics metrics = new DefaultBankDomainMetrics();
+        BankDomainMetricsRegistry.install(metrics);
+        BankDomainMetricsRegistry.uninstall();
+
+        BankAccountNumber.tryParse("8129-9,043 386 711-6");
+
+        Assertions.assertEquals(0, metrics.getParsedCount());
+        Assertions.assertTrue(BankDomainMetricsRegistry.installed().isEmpty());
+    }
+
+    @Test
+    void givenCountedEvents_whenReset_thenCountsCleared() {
+        final DefaultBankDomainMetrics metrics = new DefaultBankDomainMetrics();
+        BankDomainMetricsRegistry.install(metrics);
+
+        BankAccountNumber.tryParse("8129-9,043 386 711-6");
+        BankAccountNumber.tryParse("abc");
+        metrics.reset();
+
+        Assertions.assertEquals(0, metrics.getParsedCount());
+        Assertions.assertEquals(0, metrics.getRejectedCount());
+        Assertions.assertTrue(metrics.getResolutionCounts().isEmpty());
+    }
+
+    @Test
+    void givenEnabledDefault_whenParse_thenCountsReadableOverJmx() throws Exception {
+        final DefaultBankDomainMetrics metrics = BankDomainMetricsRegistry.enableDefault();
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        BankAccountNumber.tryParse("8129-9,043 386 711-6");
+
+        Assertions.assertSame(metrics, BankDomainMetricsRegistry.installed().orElseThrow());
+        Assertions.assertEquals(1L, server.getAttribute(DefaultBankDomainMetrics.objectName(), "ParsedCount"));
+        Assertions.assertNotNull(server.getAttribute(DefaultBankDomainMetrics.objectName(), "ResolutionCounts"));
+
+        server.invoke(DefaultBankDomainMetrics.objectName(), "reset", new Object[0], new String[0]);
+
+        Assertions.assertEquals(0, metrics.getParsedCount());
+    }
+}
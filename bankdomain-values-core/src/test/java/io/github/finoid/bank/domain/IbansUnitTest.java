@@ -0,0 +1,125 @@
+package io.github.finoid.bank.domain;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvFileSource;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+
+class IbansUnitTest {
+    @AfterEach
+    void reset() {
+        ClearingTable.reset();
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = ';', value = {
+        "5839 8257466; SE4550000000058398257466",
+        "3300 000620-5124; SE3130000000000006205124",
+        "8129-9,043 386 711-6; SE4280000812990433867116",
+        "9340 321 4681; SE0693000093400003214681",
+        "9530 364 8748; SE2995000095300003648748",
+        "6789123456789; SE7160000000000123456789"
+    })
+    void givenBankAccountNumber_whenToIban_thenConvertedWithIbanMethodOfBank(final String accountNumber, final String iban) {
+        Assertions.assertEquals(iban, BankAccountNumber.ofString(accountNumber).toIban());
+    }
+
+    @ParameterizedTest
+    @CsvFileSource(resources = "/valid-accounts.csv", delimiter = ';')
+    void givenValidAccount_whenToIban_thenCheckDigitsMatchMod97(final String accountNumber) {
+        final String iban = BankAccountNumber.ofString(accountNumber).toIban();
+        final BigInteger rearranged = new BigInteger(iban.substring(4) + "2814" + iban.substring(2, 4));
+
+        Assertions.assertEquals(Ibans.LENGTH, iban.length());
+        Assertions.assertEquals(1, rearranged.mod(BigInteger.valueOf(97)).intValue(), iban);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = ';', value = {
+        "SE4550000000058398257466; 5839 8257466",
+        "SE45 5000 0000 0583 9825 7466; 5839 8257466",
+        "SE3130000000000006205124; 3300 000620-5124",
+        "SE4280000812990433867116; 8129-9,043 386 711-6",
+        "SE0693000093400003214681; 9340 000 321 4681",
+        "SE1195500000095535894364; 9553-5894364"
+    })
+    void givenIban_whenOfIban_thenBankAccountNumberOfIban(final String iban, final String accountNumber) {
+        Assertions.assertEquals(BankAccountNumber.ofString(accountNumber), BankAccountNumber.ofIban(iban));
+    }
+
+    @ParameterizedTest
+    @CsvFileSource(resources = "/valid-accounts.csv", delimiter = ';')
+    void givenIbanOfValidAccount_whenOfIban_thenSameIbanAndBank(final String accountNumber) {
+        final BankAccountNumber bankAccountNumber = BankAccountNumber.ofString(accountNumber);
+        final BankAccountNumber parsed = BankAccountNumber.ofIban(bankAccountNumber.toIban());
+
+        Assertions.assertEquals(bankAccountNumber.toIban(), parsed.toIban());
+        Assertions.assertSame(bankAccountNumber.getBankAndType(), parsed.getBankAndType());
+    }
+
+    @Test
+    void givenIbanWithoutClearingNumber_whenOfIban_thenFirstClearingNumberOfBankType() {
+        final BankAccountNumber parsed = BankAccountNumber.ofIban(BankAccountNumber.ofString("6789123456789").toIban());
+
+        Assertions.assertEquals(BankAccountNumber.ofString("6000 123456789"), parsed);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = ';', value = {
+        "SE4450000000058398257466; IBAN_CHECK_DIGITS_FAILURE",
+        "SE455000000005839825746; INVALID_IBAN",
+        "SE45500000000583982574661; INVALID_IBAN",
+        "DE4550000000058398257466; INVALID_IBAN",
+        "SE45-5000-0000-0583-9825-7466; INVALID_IBAN",
+        "SE5300100000058398257466; UNKNOWN_IBAN_ID",
+        "SE7450000000010008257466; UNKNOWN_CLEARING_NUMBER",
+        "SE1850000000058398257467; MOD11_FAILURE"
+    })
+    void givenInvalidIban_whenTryParseIban_thenFailureReason(final String iban, final ParseFailureReason failureReason) {
+        Assertions.assertEquals(failureReason, BankAccountNumber.tryParseIban(iban).optionalFailureReason().orElseThrow());
+        Assertions.assertThrows(IllegalNumberBankDomainException.class, () -> BankAccountNumber.ofIban(iban));
+    }
+
+    @Test
+    void givenAccounts_whenToIbans_thenSameAsToIban() {
+        final List<BankAccountNumber> accounts = List.of(BankAccountNumber.ofString("3300 000620-5124"),
+            BankAccountNumber.ofString("8129-9,043 386 711-6"), BankAccountNumber.ofString("9553-5894364"));
+
+        Assertions.assertEquals(accounts.stream().map(BankAccountNumber::toIban).toList(), BankAccountNumbers.toIbans(accounts));
+    }
+
+    @Test
+    void givenOffset_whenWriteIban_thenWrittenAtOffset() {
+        final char[] buffer = new char[Ibans.LENGTH + 2];
+
+        Ibans.writeIban(BankAccountNumber.ofString("5839 8257466"), buffer, 2);
+
+        Assertions.assertEquals("SE4550000000058398257466", new String(buffer, 2, Ibans.LENGTH));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Ibans.writeIban(BankAccountNumber.ofString("5839 8257466"), buffer, 3));
+    }
+
+    @Test
+    void givenTableWithoutIbanColumns_whenToIban_thenBankDomainException() throws Exception {
+        final String csv;
+        try (InputStream inputStream = Objects.requireNonNull(IbansUnitTest.class.getResourceAsStream("/clearingnummertabell-for-nedladdning.csv"))) {
+            csv = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        final String withoutIban = csv.replaceAll(";\\d{3};(\\d:\\d);\\d", ";;$1;");
+        ClearingTable.install(ClearingTable.load(new ByteArrayInputStream(withoutIban.getBytes(StandardCharsets.UTF_8))));
+
+        final BankAccountNumber accountNumber = BankAccountNumber.ofString("3300 000620-5124");
+
+        Assertions.assertNull(accountNumber.getBankAndType().getBankType().getIbanMethod());
+        Assertions.assertThrows(BankDomainException.class, accountNumber::toIban);
+    }
+}
@@ -0,0 +1,119 @@
+package io.github.finoid.bank.domain;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+class IntRangesUnitTest {
+    private static final IntRanges RANGES = IntRanges.of(IntRange.of(3410, 3781), IntRange.of(1100, 1199), IntRange.of(3000, 3299),
+        IntRange.of(3301, 3399), IntRange.of(1400, 2099));
+
+    @Test
+    void givenUnorderedOverlappingAndAdjacentRanges_whenOf_thenSortedAndMerged() {
+        final IntRanges ranges = IntRanges.of(IntRange.of(20, 30), IntRange.of(1, 5), IntRange.of(6, 10), IntRange.of(25, 40), IntRange.of(3, 4));
+
+        Assertions.assertEquals(Set.of(IntRange.of(1, 10), IntRange.of(20, 40)), ranges.getRanges());
+        Assertions.assertEquals(List.of(IntRange.of(1, 10), IntRange.of(20, 40)), List.copyOf(ranges.getRanges()));
+        Assertions.assertEquals(IntRanges.of(IntRange.of(1, 10), IntRange.of(20, 40)), ranges);
+        Assertions.assertEquals(IntRanges.of(IntRange.of(1, 10), IntRange.of(20, 40)).hashCode(), ranges.hashCode());
+    }
+
+    @Test
+    void givenEmptyRanges_whenOf_thenEmpty() {
+        Assertions.assertTrue(IntRanges.of().isEmpty());
+        Assertions.assertTrue(IntRanges.of(IntRange.of(10, 9)).isEmpty());
+        Assertions.assertEquals(IntRanges.empty(), IntRanges.of(IntRange.of(10, 9)));
+        Assertions.assertFalse(IntRanges.empty().isWithinRange(0));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "1099, false",
+        "1100, true",
+        "1199, true",
+        "1200, false",
+        "3299, true",
+        "3300, false",
+        "3301, true",
+        "3781, true",
+        "3782, false",
+        "-1, false"
+    })
+    void givenNumber_whenIsWithinRange_thenWithinAnyRange(final int number, final boolean withinRange) {
+        Assertions.assertEquals(withinRange, RANGES.isWithinRange(number));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "1100, 1199, true",
+        "3200, 3299, true",
+        "3200, 3301, false",
+        "1050, 1150, false",
+        "5000, 5001, false",
+        "5001, 5000, true"
+    })
+    void givenRange_whenContainsRange_thenWholeRangeWithinOneRange(final int start, final int end, final boolean contained) {
+        Assertions.assertEquals(contained, RANGES.containsRange(IntRange.of(start, end)));
+    }
+
+    @Test
+    void givenSets_whenUnionAndIntersection_thenSetOperations() {
+        final IntRanges other = IntRanges.of(IntRange.of(1150, 1450), IntRange.of(3300, 3300), IntRange.of(9000, 9999));
+
+        Assertions.assertEquals(IntRanges.of(IntRange.of(1100, 2099), IntRange.of(3000, 3399), IntRange.of(3410, 3781), IntRange.of(9000, 9999)),
+            RANGES.union(other));
+        Assertions.assertEquals(IntRanges.of(IntRange.of(1150, 1199), IntRange.of(1400, 1450)), RANGES.intersection(other));
+        Assertions.assertTrue(RANGES.union(other).containsAll(RANGES));
+        Assertions.assertTrue(RANGES.containsAll(RANGES.intersection(other)));
+        Assertions.assertFalse(RANGES.containsAll(other));
+        Assertions.assertEquals(IntRanges.empty(), RANGES.intersection(IntRanges.empty()));
+    }
+
+    @Test
+    void givenRandomRanges_whenSetOperations_thenSameAsCheckingEveryNumber() {
+        final Random random = new Random(42);
+
+        for (int round = 0; round < 200; round++) {
+            final IntRanges left = randomRanges(random);
+            final IntRanges right = randomRanges(random);
+            final IntRanges union = left.union(right);
+            final IntRanges intersection = left.intersection(right);
+
+            for (int number = -5; number <= 105; number++) {
+                Assertions.assertEquals(left.isWithinRange(number) || right.isWithinRange(number), union.isWithinRange(number));
+                Assertions.assertEquals(left.isWithinRange(number) && right.isWithinRange(number), intersection.isWithinRange(number));
+            }
+
+            Assertions.assertEquals(union, right.union(left));
+            Assertions.assertEquals(intersection, right.intersection(left));
+        }
+    }
+
+    @Test
+    void givenExtremeBounds_whenOf_thenNoOverflow() {
+        final IntRanges ranges = IntRanges.of(IntRange.of(Integer.MIN_VALUE, 0), IntRange.of(1, Integer.MAX_VALUE));
+
+        Assertions.assertEquals(Set.of(IntRange.of(Integer.MIN_VALUE, Integer.MAX_VALUE)), ranges.getRanges());
+        Assertions.assertTrue(ranges.isWithinRange(Integer.MIN_VALUE));
+        Assertions.assertTrue(ranges.isWithinRange(Integer.MAX_VALUE));
+    }
+
+    private static IntRanges randomRanges(final Random random) {
+        final List<IntRange> ranges = new ArrayList<>();
+        final int count = random.nextInt(6);
+
+        for (int i = 0; i < count; i++) {
+            final int start = random.nextInt(100);
+
+            ranges.add(IntRange.of(start, start + random.nextInt(15) - 2));
+        }
+
+        return IntRanges.of(ranges.toArray(IntRange[]::new));
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.finoid.bank.domain;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class MathUtilsUnitTest {
+    @Test
+    void givenNumbersUpToSevenDigits_whenIsMod11_thenSameAsPaddedString() {
+        for (long number = 0; number < 10_000_000; number += 7) {
+            final String padded = String.format("%07d", number);
+
+            Assertions.assertEquals(MathUtils.isMod11(padded), MathUtils.isMod11(number), padded);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"6789123456789", "3000123456789012345", "5556600000001"})
+    void givenLongNumber_whenIsMod11_thenSameAsString(final String digits) {
+        Assertions.assertEquals(MathUtils.isMod11(digits), MathUtils.isMod11(Long.parseLong(digits)));
+    }
+
+    @Test
+    void givenClearingDigitsAfterAccount_whenMod11Sum_thenSameAsWeightingConcatenatedDigits() {
+        final int sum = MathUtils.mod11Sum(1234567, 0) + MathUtils.mod11Sum(3300, 7);
+
+        Assertions.assertEquals(MathUtils.mod11Sum(33001234567L, 0), sum);
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.finoid.bank.domain.jfr;
+
+import io.github.finoid.bank.domain.BankAccountFormatter;
+import io.github.finoid.bank.domain.BankAccountNumber;
+import io.github.finoid.bank.domain.BankAndType;
+import io.github.finoid.bank.domain.BankDomainMetricsRegistry;
+import io.github.finoid.bank.domain.ClearingNumber;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+class JfrBankDomainMetricsUnitTest {
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void uninstall() {
+        BankDomainMetricsRegistry.uninstall();
+    }
+
+    @Test
+    void givenNoRecording_whenIsTimed_thenFalse() {
+        Assertions.assertFalse(new JfrBankDomainMetrics().isTimed());
+    }
+
+    @Test
+    void givenRecordingEnablingFormatEvent_whenIsTimed_thenTrueUntilRecordingStops() {
+        final JfrBankDomainMetrics metrics = new JfrBankDomainMetrics();
+
+        try (Recording recording = new Recording()) {
+            recording.setSettings(Map.of("io.github.finoid.bank.domain.AccountFormat#enabled", "true"));
+            recording.start();
+            Assertions.assertTrue(metrics.isTimed());
+
+            recording.stop();
+            Assertions.assertFalse(metrics.isTimed());
+        }
+    }
+
+    @Test
+    void givenEnabledParseEvent_whenParse_thenValidAndRejectedInputsRecorded() throws Exception {
+        BankDomainMetricsRegistry.install(new JfrBankDomainMetrics());
+
+        final List<RecordedEvent> events = record(Map.of("io.github.finoid.bank.domain.AccountParse#enabled", "true"), () -> {
+            BankAccountNumber.tryParse("8129-9,043 386 711-6");
+            BankAccountNumber.tryParse("9340 321 4682");
+            BankAccountNumber.tryParse("abc");
+        });
+
+        Assertions.assertEquals(3, events.size());
+
+        final RecordedEvent valid = events.get(0);
+        Assertions.assertEquals("SWEDBANK", valid.getString("bank"));
+        Assertions.assertEquals("2:3", valid.getString("rule"));
+        Assertions.assertEquals("VALID", valid.getString("outcome"));
+        Assertions.assertEquals("8129-9,043 386 711-6".length(), valid.getInt("inputLength"));
+        Assertions.assertTrue(valid.getDuration("processingTime").toNanos() > 0);
+
+        Assertions.assertEquals("MOD10_FAILURE", events.get(1).getString("outcome"));
+        Assertions.assertEquals("2:1", events.get(1).getString("rule"));
+        Assertions.assertEquals("TOO_SHORT", events.get(2).getString("outcome"));
+        Assertions.assertNull(events.get(2).getString("bank"));
+    }
+
+    @Test
+    void givenEnabledLookupAndFormatEvents_whenLookupAndFormat_thenRecorded() throws Exception {
+        final BankAccountNumber account = BankAccountNumber.ofString("3300 000620-5124");
+        BankDomainMetricsRegistry.install(new JfrBankDomainMetrics());
+
+        final List<RecordedEvent> events = record(Map.of(
+            "io.github.finoid.bank.domain.ClearingNumberLookup#enabled", "true",
+            "io.github.finoid.bank.domain.AccountFormat#enabled", "true"), () -> {
+            BankAndType.findByClearingNumber(ClearingNumber.ofNumber(1000));
+            account.toFormatted(BankAccountFormatter.Format.PRETTY);
+        });
+
+        Assertions.assertEquals(2, events.size());
+        Assertions.assertEquals(1000, events.get(0).getInt("clearingNumber"));
+        Assertions.assertFalse(events.get(0).getBoolean("found"));
+        Assertions.assertEquals("PRETTY", events.get(1).getString("format"));
+        Assertions.assertEquals("NORDEA", events.get(1).getString("bank"));
+        Assertions.assertEquals(account.toFormatted(BankAccountFormatter.Format.PRETTY).length(), events.get(1).getInt("length"));
+    }
+
+    @Test
+    void givenProcessingTimeThreshold_whenParseFasterThanThreshold_thenNotRecorded() throws Exception {
+        BankDomainMetricsRegistry.install(new JfrBankDomainMetrics());
+
+        final List<RecordedEvent> events = record(Map.of(
+            "io.github.finoid.bank.domain.AccountParse#enabled", "true",
+            "io.github.finoid.bank.domain.AccountParse#processingTimeThreshold", "10 s"),
+            () -> BankAccountNumber.tryParse("8129-9,043 386 711-6"));
+
+        Assertions.assertTrue(events.isEmpty());
+    }
+
+    @Test
+    void givenThresholds_whenCombine_thenLowestApplies() {
+        final ProcessingTimeThreshold threshold = new ProcessingTimeThreshold();
+
+        Assertions.assertEquals("20 us", threshold.combine(Set.of("1 ms", "20 us", "2 s")));
+        Assertions.assertEquals(20_000L, ProcessingTimeThreshold.nanosOf("20 us"));
+        Assertions.assertEquals(0L, ProcessingTimeThreshold.nanosOf("soon"));
+    }
+
+    private List<RecordedEvent> record(final Map<String, String> settings, final Runnable action) throws Exception {
+        final Path file = tempDir.resolve("recording.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.setSettings(settings);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        return RecordingFile.readAllEvents(file).stream()
+            .filter(event -> event.getEventType().getName().startsWith("io.github.finoid.bank.domain."))
+            .toList();
+    }
+}
@@ -0,0 +1,290 @@
+package io.github.finoid.bank.domain.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import io.github.finoid.bank.domain.BankAccountFormatter;
+import io.github.finoid.bank.domain.BankAccountNumber;
+import io.github.finoid.bank.domain.BankAndType;
+import io.github.finoid.bank.domain.BankDomainException;
+import io.github.finoid.bank.domain.ClearingNumber;
+import io.github.finoid.bank.domain.ParseFailureReason;
+import io.github.finoid.bank.domain.ParseResult;
+import org.jspecify.annotations.Nullable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The request handlers of the {@link BankDomainServer}.
+ * <p>
+ * Single accounts are passed in the {@code account} query parameter and answered with a small JSON object. Inputs that
+ * are not valid bank account numbers are answered with {@code 422 Unprocessable Content} and the
+ * {@link ParseFailureReason}, except by the validate endpoint, for which a rejected input is a regular answer.
+ */
+final class BankDomainEndpoints {
+    static final String JSON = "application/json; charset=utf-8";
+    private static final String TEXT = "text/plain; charset=utf-8";
+    private static final String METRICS = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final int BATCH_BUFFER_SIZE = 16 * 1024;
+
+    private final ServerMetrics metrics;
+
+    BankDomainEndpoints(final ServerMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * {@code GET /validate?account=...}: whether the account is valid and, if not, why.
+     */
+    void validate(final HttpExchange exchange) throws IOException {
+        final ParseResult result = BankAccountNumber.tryParse(requiredParameter(exchange, "account"));
+
+        send(exchange, 200, JSON, result.optionalFailureReason()
+            .map(BankDomainEndpoints::failureJson)
+            .orElse("{\"valid\":true}"));
+    }
+
+    /**
+     * {@code GET /parse?account=...}: the components and resolved bank of a valid account.
+     */
+    void parse(final HttpExchange exchange) throws IOException {
+        final ParseResult result = BankAccountNumber.tryParse(requiredParameter(exchange, "account"));
+        final Optional<BankAccountNumber> account = result.optionalBankAccountNumber();
+
+        if (account.isEmpty()) {
+            sendFailure(exchange, result);
+            return;
+        }
+
+        final BankAccountNumber bankAccountNumber = account.get();
+        final ClearingNumber clearingNumber = bankAccountNumber.getClearingNumber();
+        final StringBuilder json = new StringBuilder(256)
+            .append("{\"valid\":true,\"clearingNumber\":")
+            .append(quoted(String.valueOf(clearingNumber.getClearingNumber())));
+
+        clearingNumber.optionalSortingNumber()
+            .ifPresent(sortingNumber -> json.append(",\"sortingNumber\":").append(sortingNumber));
+
+        json.append(",\"accountNumber\":")
+            .append(quoted(bankAccountNumber.getAccountNumber().getNumber()))
+            .append(',');
+        appendBankAndType(json, bankAccountNumber.getBankAndType());
+        json.append(",\"pretty\":")
+            .append(quoted(bankAccountNumber.toFormatted(BankAccountFormatter.Format.PRETTY)))
+            .append(",\"default\":")
+            .append(quoted(bankAccountNumber.toFormatted(BankAccountFormatter.Format.DEFAULT)))
+            .append('}');
+
+        send(exchange, 200, JSON, json.toString());
+    }
+
+    /**
+     * {@code GET /format?account=...&format=PRETTY|DEFAULT}: the formatted account as plain text. The format defaults
+     * to {@link BankAccountFormatter.Format#PRETTY}.
+     */
+    void format(final HttpExchange exchange) throws IOException {
+        final BankAccountFormatter.Format format;
+
+        try {
+            format = BankAccountFormatter.Format.valueOf(
+                Objects.requireNonNullElse(parameter(exchange, "format"), "PRETTY").toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException e) {
+            throw new BadRequestException("Unknown format: " + parameter(exchange, "format"));
+        }
+
+        final ParseResult result = BankAccountNumber.tryParse(requiredParameter(exchange, "account"));
+        final Optional<BankAccountNumber> account = result.optionalBankAccountNumber();
+
+        if (account.isEmpty()) {
+            sendFailure(exchange, result);
+            return;
+        }
+
+        send(exchange, 200, TEXT, BankAccountFormatter.format(account.get(), format));
+    }
+
+    /**
+     * {@code GET /bank?clearing=...}: the bank and account type of a 4- or 5-digit clearing number, or {@code 404} if no
+     * bank is registered for it.
+     */
+    void bank(final HttpExchange exchange) throws IOException {
+        final String clearing = requiredParameter(exchange, "clearing");
+        final Optional<BankAndType> bankAndType;
+
+        try {
+            bankAndType = BankAndType.findByClearingNumber(ClearingNumber.ofString(clearing.trim()));
+        } catch (final BankDomainException e) {
+            throw new BadRequestException(Objects.requireNonNullElse(e.getMessage(), "Invalid clearing number: " + clearing));
+        }
+
+        if (bankAndType.isEmpty()) {
+            send(exchange, 404, JSON, errorJson("Unknown clearing number: " + clearing));
+            return;
+        }
+
+        final StringBuilder json = new StringBuilder(128).append('{');
+        appendBankAndType(json, bankAndType.get());
+
+        send(exchange, 200, JSON, json.append('}').toString());
+    }
+
+    /**
+     * {@code POST /validate/batch}: validates a newline-delimited request body and streams one
+     * {@code <input>;<VALID|REASON>} line back per non-blank input line, in input order, as the body is read.
+     */
+    void validateBatch(final HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", TEXT);
+        exchange.sendResponseHeaders(200, 0);
+
+        long valid = 0;
+        long invalid = 0;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8),
+            BATCH_BUFFER_SIZE);
+             Writer writer = new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8)) {
+            final StringBuilder out = new StringBuilder(BATCH_BUFFER_SIZE);
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                final Optional<ParseFailureReason> failureReason = BankAccountNumber.tryParse(line).optionalFailureReason();
+
+                out.append(line)
+                    .append(';')
+                    .append(failureReason.map(Enum::name).orElse("VALID"))
+                    .append('\n');
+
+                if (failureReason.isPresent()) {
+                    invalid++;
+                } else {
+                    valid++;
+                }
+
+                if (out.length() >= BATCH_BUFFER_SIZE) {
+                    writer.append(out);
+                    out.setLength(0);
+                }
+            }
+
+            writer.append(out);
+        } finally {
+            metrics.recordBatch(valid, invalid);
+        }
+    }
+
+    /**
+     * {@code GET /metrics}: the request counters in the Prometheus text exposition format.
+     */
+    void metrics(final HttpExchange exchange) throws IOException {
+        send(exchange, 200, METRICS, metrics.render());
+    }
+
+    static void send(final HttpExchange exchange, final int status, final String contentType, final String body) throws IOException {
+        final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    static String errorJson(final String message) {
+        return "{\"error\":" + quoted(message) + "}";
+    }
+
+    private static void sendFailure(final HttpExchange exchange, final ParseResult result) throws IOException {
+        send(exchange, 422, JSON, failureJson(result.optionalFailureReason().orElseThrow()));
+    }
+
+    private static String failureJson(final ParseFailureReason failureReason) {
+        return "{\"valid\":false,\"reason\":\"" + failureReason.name() + "\",\"description\":" + quoted(failureReason.getDescription())
+               + "}";
+    }
+
+    private static void appendBankAndType(final StringBuilder json, final BankAndType bankAndType) {
+        json.append("\"bank\":\"")
+            .append(bankAndType.getBank().name())
+            .append("\",\"bankName\":")
+            .append(quoted(bankAndType.getBank().getName()))
+            .append(",\"type\":\"")
+            .append(bankAndType.getBankType().typesAsString())
+            .append('"');
+    }
+
+    private static String requiredParameter(final HttpExchange exchange, final String name) {
+        final String value = parameter(exchange, name);
+
+        if (value == null || value.isBlank()) {
+            throw new BadRequestException("Missing query parameter: " + name);
+        }
+
+        return value;
+    }
+
+    private static @Nullable String parameter(final HttpExchange exchange, final String name) {
+        final String query = exchange.getRequestURI().getRawQuery();
+
+        if (query == null) {
+            return null;
+        }
+
+        for (final String pair : query.split("&")) {
+            final int separator = pair.indexOf('=');
+            final String key = separator < 0 ? pair : pair.substring(0, separator);
+
+            if (key.equals(name)) {
+                return separator < 0 ? "" : URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8);
+            }
+        }
+
+        return null;
+    }
+
+    private static String quoted(final String value) {
+        final StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+
+        return builder.append('"').toString();
+    }
+
+    /**
+     * A request that cannot be answered because of missing or malformed parameters, answered with {@code 400}.
+     */
+    static final class BadRequestException extends RuntimeException {
+        BadRequestException(final String message) {
+            super(message);
+        }
+    }
+}
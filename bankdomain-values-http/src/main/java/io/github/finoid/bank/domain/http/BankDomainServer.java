@@ -0,0 +1,167 @@
+package io.github.finoid.bank.domain.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.finoid.bank.domain.BankAccountNumber;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * A long-lived HTTP service exposing parsing, validation, formatting and bank resolution of Swedish bank account
+ * numbers, for callers that cannot run on the JVM themselves.
+ * <p>
+ * The service runs on the JDK's built-in {@link HttpServer} and handles every request on its own virtual thread. It is
+ * meant to be run as a sidecar, so {@link #main(String[])} binds to the loopback address unless told otherwise.
+ *
+ * <pre>{@code
+ * GET  /validate?account=8129-9,043 386 711-6    {"valid":true}
+ * GET  /parse?account=...                        clearing number, account number, bank and formatted forms
+ * GET  /format?account=...&format=PRETTY         8129-9,043 386 711-6
+ * GET  /bank?clearing=8129                       {"bank":"SWEDBANK","bankName":"Swedbank","type":"2:3"}
+ * POST /validate/batch                           newline-delimited accounts in, "<account>;<VALID|REASON>" lines out
+ * GET  /metrics                                  request counters in the Prometheus text format
+ * }</pre>
+ */
+public final class BankDomainServer implements AutoCloseable {
+    private static final int DEFAULT_PORT = 8080;
+    private static final int BACKLOG = 1024;
+
+    private static final System.Logger LOGGER = System.getLogger(BankDomainServer.class.getName());
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ServerMetrics metrics;
+
+    private BankDomainServer(final HttpServer server, final ExecutorService executor, final ServerMetrics metrics) {
+        this.server = server;
+        this.executor = executor;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Starts a server on the given address. Use port {@code 0} to bind to any free port, and {@link #getAddress()} to
+     * find it.
+     *
+     * @param address the address to bind to
+     * @return the started server
+     * @throws IOException if the server cannot be bound to the address
+     */
+    public static BankDomainServer start(final InetSocketAddress address) throws IOException {
+        final HttpServer server = HttpServer.create(address, BACKLOG);
+        final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        final ServerMetrics metrics = new ServerMetrics();
+        final BankDomainEndpoints endpoints = new BankDomainEndpoints(metrics);
+
+        route(server, metrics, "GET", "/validate", endpoints::validate);
+        route(server, metrics, "GET", "/parse", endpoints::parse);
+        route(server, metrics, "GET", "/format", endpoints::format);
+        route(server, metrics, "GET", "/bank", endpoints::bank);
+        route(server, metrics, "POST", "/validate/batch", endpoints::validateBatch);
+        route(server, metrics, "GET", "/metrics", endpoints::metrics);
+
+        // Resolve the bank tables before the first request rather than during it
+        BankAccountNumber.isValid("8129-9,043 386 711-6");
+
+        server.setExecutor(executor);
+        server.start();
+
+        return new BankDomainServer(server, executor, metrics);
+    }
+
+    /**
+     * Starts a server from the command line, on the port given as the first argument (8080 by default) and the host
+     * given as the second argument (the loopback address by default).
+     *
+     * @param args the optional port and host
+     * @throws IOException if the server cannot be bound to the address
+     */
+    public static void main(final String[] args) throws IOException {
+        final int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        final InetSocketAddress address = args.length > 1
+            ? new InetSocketAddress(args[1], port)
+            : new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+
+        final BankDomainServer server = start(address);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+
+        LOGGER.log(System.Logger.Level.INFO, () -> "Listening on http://" + server.getAddress().getHostString() + ":"
+                                                   + server.getAddress().getPort());
+    }
+
+    /**
+     * Returns the address the server is bound to, including the actual port if it was started on port {@code 0}.
+     *
+     * @return the bound address
+     */
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    ServerMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * Stops accepting requests, waits up to a second for exchanges in flight, and stops the virtual thread executor.
+     */
+    @Override
+    public void close() {
+        server.stop(1);
+        executor.close();
+    }
+
+    private static void route(final HttpServer server, final ServerMetrics metrics, final String method, final String path,
+                              final Endpoint endpoint) {
+        metrics.register(path);
+
+        server.createContext(path, exchange -> {
+            final long start = System.nanoTime();
+
+            try (exchange) {
+                handle(exchange, method, path, endpoint);
+            } finally {
+                metrics.recordRequest(path, exchange.getResponseCode(), System.nanoTime() - start);
+            }
+        });
+    }
+
+    private static void handle(final HttpExchange exchange, final String method, final String path, final Endpoint endpoint)
+        throws IOException {
+        // Contexts match by prefix, so "/validate" would otherwise also answer "/validate/anything"
+        if (!exchange.getRequestURI().getPath().equals(path)) {
+            BankDomainEndpoints.send(exchange, 404, BankDomainEndpoints.JSON, BankDomainEndpoints.errorJson("Not found"));
+            return;
+        }
+
+        if (!exchange.getRequestMethod().equals(method)) {
+            exchange.getResponseHeaders().set("Allow", method);
+            BankDomainEndpoints.send(exchange, 405, BankDomainEndpoints.JSON,
+                BankDomainEndpoints.errorJson("Method not allowed: " + exchange.getRequestMethod()));
+            return;
+        }
+
+        try {
+            endpoint.handle(exchange);
+        } catch (final BankDomainEndpoints.BadRequestException e) {
+            BankDomainEndpoints.send(exchange, 400, BankDomainEndpoints.JSON,
+                BankDomainEndpoints.errorJson(Objects.requireNonNullElse(e.getMessage(), "Bad request")));
+        } catch (final RuntimeException e) {
+            LOGGER.log(System.Logger.Level.ERROR, "Failed to handle " + exchange.getRequestMethod() + " " + path, e);
+
+            if (exchange.getResponseCode() == -1) {
+                BankDomainEndpoints.send(exchange, 500, BankDomainEndpoints.JSON,
+                    BankDomainEndpoints.errorJson("Internal server error"));
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Endpoint {
+        void handle(HttpExchange exchange) throws IOException;
+    }
+}
@@ -0,0 +1,103 @@
+package io.github.finoid.bank.domain.http;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request counters of the {@link BankDomainServer}, rendered in the Prometheus text exposition format.
+ * <p>
+ * Endpoints are registered before the server starts, so recording a request only touches {@link LongAdder}s and never
+ * contends between request threads.
+ */
+final class ServerMetrics {
+    private final Map<String, EndpointMetrics> endpoints = new LinkedHashMap<>();
+    private final LongAdder batchValid = new LongAdder();
+    private final LongAdder batchInvalid = new LongAdder();
+
+    void register(final String path) {
+        endpoints.putIfAbsent(path, new EndpointMetrics());
+    }
+
+    void recordRequest(final String path, final int status, final long nanos) {
+        final EndpointMetrics metrics = Objects.requireNonNull(endpoints.get(path), path);
+
+        metrics.requests.increment();
+        metrics.nanos.add(nanos);
+
+        if (status >= 500) {
+            metrics.serverErrors.increment();
+        } else if (status >= 400) {
+            metrics.clientErrors.increment();
+        }
+    }
+
+    void recordBatch(final long valid, final long invalid) {
+        batchValid.add(valid);
+        batchInvalid.add(invalid);
+    }
+
+    long requestCount(final String path) {
+        return Objects.requireNonNull(endpoints.get(path), path).requests.sum();
+    }
+
+    Map<String, Long> batchCounts() {
+        final Map<String, Long> counts = new LinkedHashMap<>();
+        counts.put("valid", batchValid.sum());
+        counts.put("invalid", batchInvalid.sum());
+
+        return Collections.unmodifiableMap(counts);
+    }
+
+    String render() {
+        final StringBuilder builder = new StringBuilder(1024);
+
+        builder.append("# HELP bankdomain_requests_total Requests handled per endpoint.\n")
+            .append("# TYPE bankdomain_requests_total counter\n");
+        endpoints.forEach((path, metrics) -> sample(builder, "bankdomain_requests_total", "endpoint", path, metrics.requests.sum()));
+
+        builder.append("# HELP bankdomain_client_errors_total Requests answered with a 4xx status per endpoint.\n")
+            .append("# TYPE bankdomain_client_errors_total counter\n");
+        endpoints.forEach((path, metrics) -> sample(builder, "bankdomain_client_errors_total", "endpoint", path,
+            metrics.clientErrors.sum()));
+
+        builder.append("# HELP bankdomain_server_errors_total Requests answered with a 5xx status per endpoint.\n")
+            .append("# TYPE bankdomain_server_errors_total counter\n");
+        endpoints.forEach((path, metrics) -> sample(builder, "bankdomain_server_errors_total", "endpoint", path,
+            metrics.serverErrors.sum()));
+
+        builder.append("# HELP bankdomain_request_seconds_total Time spent handling requests per endpoint.\n")
+            .append("# TYPE bankdomain_request_seconds_total counter\n");
+        endpoints.forEach((path, metrics) -> builder.append("bankdomain_request_seconds_total{endpoint=\"")
+            .append(path)
+            .append("\"} ")
+            .append(metrics.nanos.sum() / 1e9)
+            .append('\n'));
+
+        builder.append("# HELP bankdomain_batch_accounts_total Accounts validated by the batch endpoint.\n")
+            .append("# TYPE bankdomain_batch_accounts_total counter\n");
+        batchCounts().forEach((result, count) -> sample(builder, "bankdomain_batch_accounts_total", "result", result, count));
+
+        return builder.toString();
+    }
+
+    private static void sample(final StringBuilder builder, final String name, final String label, final String value, final long count) {
+        builder.append(name)
+            .append('{')
+            .append(label)
+            .append("=\"")
+            .append(value)
+            .append("\"} ")
+            .append(count)
+            .append('\n');
+    }
+
+    private static final class EndpointMetrics {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder clientErrors = new LongAdder();
+        private final LongAdder serverErrors = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+    }
+}
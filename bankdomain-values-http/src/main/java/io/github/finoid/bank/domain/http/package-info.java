@@ -0,0 +1,4 @@
+@NullMarked
+package io.github.finoid.bank.domain.http;
+
+import org.jspecify.annotations.NullMarked;
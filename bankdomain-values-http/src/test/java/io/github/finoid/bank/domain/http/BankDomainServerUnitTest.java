@@ -0,0 +1,153 @@
+package io.github.finoid.bank.domain.http;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+class BankDomainServerUnitTest {
+    private static BankDomainServer server;
+    private static HttpClient client;
+
+    @BeforeAll
+    static void start() throws IOException {
+        server = BankDomainServer.start(new InetSocketAddress("127.0.0.1", 0));
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterAll
+    static void stop() {
+        client.close();
+        server.close();
+    }
+
+    @Test
+    void givenValidAccount_whenValidate_thenValidReturned() throws Exception {
+        final HttpResponse<String> response = get("/validate?account=" + encode("8129-9,043 386 711-6"));
+
+        Assertions.assertEquals(200, response.statusCode());
+        Assertions.assertEquals("{\"valid\":true}", response.body());
+    }
+
+    @Test
+    void givenInvalidAccount_whenValidate_thenReasonReturned() throws Exception {
+        final HttpResponse<String> response = get("/validate?account=" + encode("1000-1234567"));
+
+        Assertions.assertEquals(200, response.statusCode());
+        Assertions.assertTrue(response.body().startsWith("{\"valid\":false,\"reason\":\"UNKNOWN_CLEARING_NUMBER\""), response.body());
+    }
+
+    @Test
+    void givenValidAccount_whenParse_thenComponentsReturned() throws Exception {
+        final HttpResponse<String> response = get("/parse?account=" + encode("8129-9,043 386 711-6"));
+
+        Assertions.assertEquals(200, response.statusCode());
+        Assertions.assertEquals("{\"valid\":true,\"clearingNumber\":\"8129\",\"sortingNumber\":9,\"accountNumber\":\"0433867116\","
+                                + "\"bank\":\"SWEDBANK\",\"bankName\":\"Swedbank\",\"type\":\"2:3\",\"pretty\":\"8129-9,043 386 711-6\","
+                                + "\"default\":\"8129900433867116\"}", response.body());
+    }
+
+    @Test
+    void givenInvalidAccount_whenParse_thenUnprocessableContentReturned() throws Exception {
+        final HttpResponse<String> response = get("/parse?account=abc");
+
+        Assertions.assertEquals(422, response.statusCode());
+        Assertions.assertTrue(response.body().contains("\"reason\":\"TOO_SHORT\""), response.body());
+    }
+
+    @Test
+    void givenAccountAndFormat_whenFormat_thenFormattedAccountReturned() throws Exception {
+        Assertions.assertEquals("9340,32-14681", get("/format?account=" + encode("9340 321 4681")).body());
+        Assertions.assertEquals("9340 00003214681", get("/format?account=" + encode("9340 321 4681") + "&format=default").body());
+        Assertions.assertEquals(400, get("/format?account=93403214681&format=UGLY").statusCode());
+    }
+
+    @Test
+    void givenClearingNumber_whenBank_thenBankReturned() throws Exception {
+        Assertions.assertEquals("{\"bank\":\"SWEDBANK\",\"bankName\":\"Swedbank\",\"type\":\"2:3\"}", get("/bank?clearing=8129").body());
+        Assertions.assertEquals(404, get("/bank?clearing=1000").statusCode());
+        Assertions.assertEquals(400, get("/bank?clearing=abc").statusCode());
+    }
+
+    @Test
+    void givenMissingParameter_whenValidate_thenBadRequestReturned() throws Exception {
+        Assertions.assertEquals(400, get("/validate").statusCode());
+    }
+
+    @Test
+    void givenUnknownPathOrMethod_whenRequested_thenNotFoundOrMethodNotAllowedReturned() throws Exception {
+        Assertions.assertEquals(404, get("/validate/other").statusCode());
+        Assertions.assertEquals(405, get("/validate/batch").statusCode());
+    }
+
+    @Test
+    void givenNewlineDelimitedAccounts_whenValidateBatch_thenOneLinePerAccountReturnedInOrder() throws Exception {
+        final StringBuilder body = new StringBuilder();
+        final StringBuilder expected = new StringBuilder();
+
+        for (int i = 0; i < 5_000; i++) {
+            body.append("3300 000620-5124\r\n1000 1234567\n\n");
+            expected.append("3300 000620-5124;VALID\n1000 1234567;UNKNOWN_CLEARING_NUMBER\n");
+        }
+
+        final HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri("/validate/batch"))
+            .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+            .build(), HttpResponse.BodyHandlers.ofString());
+
+        Assertions.assertEquals(200, response.statusCode());
+        Assertions.assertEquals(expected.toString(), response.body());
+    }
+
+    @Test
+    void givenConcurrentRequests_whenValidate_thenAllAnsweredAndCounted() throws Exception {
+        final long before = server.metrics().requestCount("/validate");
+        final List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+
+        for (int i = 0; i < 200; i++) {
+            responses.add(client.sendAsync(HttpRequest.newBuilder(uri("/validate?account=9553-5894364")).build(),
+                HttpResponse.BodyHandlers.ofString()));
+        }
+
+        for (final CompletableFuture<HttpResponse<String>> response : responses) {
+            Assertions.assertEquals("{\"valid\":true}", response.join().body());
+        }
+
+        Assertions.assertEquals(before + 200, server.metrics().requestCount("/validate"));
+    }
+
+    @Test
+    void givenRequests_whenMetrics_thenCountersRendered() throws Exception {
+        get("/validate?account=9553-5894364");
+
+        final HttpResponse<String> response = get("/metrics");
+
+        Assertions.assertEquals(200, response.statusCode());
+        Assertions.assertTrue(response.body().contains("# TYPE bankdomain_requests_total counter"), response.body());
+        Assertions.assertTrue(response.body().contains("bankdomain_requests_total{endpoint=\"/validate\"}"), response.body());
+        Assertions.assertTrue(response.body().contains("bankdomain_batch_accounts_total{result=\"valid\"}"), response.body());
+    }
+
+    private static HttpResponse<String> get(final String pathAndQuery) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(uri(pathAndQuery)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static URI uri(final String pathAndQuery) {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort() + pathAndQuery);
+    }
+
+    private static String encode(final String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
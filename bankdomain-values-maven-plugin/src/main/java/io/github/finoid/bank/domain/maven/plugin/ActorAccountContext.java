@@ -7,6 +7,8 @@ import io.github.finoid.bank.domain.maven.plugin.parser.csv.AccountTypesConverte
 import io.github.finoid.bank.domain.maven.plugin.parser.csv.ActorConverter;
 import io.github.finoid.bank.domain.maven.plugin.parser.csv.Column;
 import io.github.finoid.bank.domain.maven.plugin.parser.csv.ColumnValueConverter;
+import io.github.finoid.bank.domain.maven.plugin.parser.csv.IntegerConverter;
+import io.github.finoid.bank.domain.maven.plugin.parser.csv.NoOpConverter;
 import io.github.finoid.bank.domain.maven.plugin.parser.csv.RangeConverter;
 
 @Value
@@ -18,9 +20,18 @@ public class ActorAccountContext {
     @Column(indice = 1, converter = @ColumnValueConverter(type = ActorConverter.class))
     Actor actor;
 
+    @Column(indice = 2, converter = @ColumnValueConverter(type = NoOpConverter.class))
+    String bic;
+
+    @Column(indice = 3, converter = @ColumnValueConverter(type = IntegerConverter.class))
+    int ibanId;
+
     @Column(indice = 4, converter = @ColumnValueConverter(type = AccountTypesConverter.class, context = "delimiter=:"))
     AccountTypes accountType;
 
+    @Column(indice = 5, converter = @ColumnValueConverter(type = IntegerConverter.class))
+    int ibanMethod;
+
     public Type toPrimaryTypeOrThrow() {
         return accountType.primary();
     }
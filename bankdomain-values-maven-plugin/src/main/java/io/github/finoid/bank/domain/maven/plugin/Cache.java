@@ -32,23 +32,15 @@ public final class Cache<K, V> {
 
     /**
      * Returns a cached value by key, or inserts a new via the provided supplier.
+     * The lookup and insertion are atomic, so the supplier is called at most once per key.
      *
      * @param key             the cache key
      * @param defaultSupplier the default value supplier
      * @return the cache value
      */
     @Nullable
-    @SuppressWarnings("return")
     public V getOrDefault(final K key, final Supplier<V> defaultSupplier) {
-        if (contains(key)) {
-            return cache.get(key);
-        }
-
-        final V value = defaultSupplier.get();
-
-        cache.put(key, value);
-
-        return value;
+        return cache.computeIfAbsent(key, ignored -> defaultSupplier.get());
     }
 
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package io.github.finoid.bank.domain.maven.plugin;
 
 import com.google.errorprone.annotations.MustBeClosed;
 import io.github.finoid.bank.domain.maven.plugin.codegen.BankEnumGenerator;
+import io.github.finoid.bank.domain.maven.plugin.codegen.ClearingTableResourceGenerator;
 import io.github.finoid.bank.domain.maven.plugin.exceptions.BankDomainMavenPluginException;
 import io.github.finoid.bank.domain.maven.plugin.parser.Parser;
 import io.github.finoid.bank.domain.maven.plugin.parser.csv.BankAccountLineValidator;
@@ -11,16 +12,21 @@ import io.github.finoid.bank.domain.maven.plugin.util.Precondition;
 import io.github.finoid.bank.domain.maven.plugin.util.ResourceUtils;
 import lombok.SneakyThrows;
 import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.Resource;
 import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.ResolutionScope;
 import org.apache.maven.project.MavenProject;
+import org.jspecify.annotations.Nullable;
 
 import javax.inject.Inject;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.LinkedHashMap;
@@ -29,40 +35,90 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
- * Maven plugin for parsing a CSV-based domain model and generating Java enum classes.
+ * Maven plugin for parsing a CSV-based domain model and generating Java enum classes, along with a compact binary
+ * clearing number table resource the core library loads on first use.
  */
 @Mojo(name = "code-generation", defaultPhase = LifecyclePhase.GENERATE_SOURCES, requiresDependencyResolution = ResolutionScope.COMPILE)
 public class CodeGeneration extends AbstractMojo {
     private static final String DEFAULT_CSV_RESOURCE = "clearingnummertabell-for-nedladdning.csv";
 
+    /**
+     * The fingerprint of the last generation, relative to the build directory.
+     */
+    private static final String FINGERPRINT_FILE = "bank-domain-values/code-generation.sha256";
+
     @Parameter(alias = "codeQuality")
     private final Configuration configuration;
     private final MavenSession mavenSession;
     private final MavenProject mavenProject;
     private final BankEnumGenerator bankEnumGenerator;
+    private final ClearingTableResourceGenerator clearingTableResourceGenerator;
     private final Parser<ActorAccountContext> parser;
 
+    @Nullable
+    @Parameter(defaultValue = "${plugin}", readonly = true)
+    private PluginDescriptor plugin;
+
     @Inject
     public CodeGeneration(final Configuration configuration,
                           final MavenSession mavenSession,
                           final MavenProject mavenProject,
                           final BankEnumGenerator bankEnumGenerator,
+                          final ClearingTableResourceGenerator clearingTableResourceGenerator,
                           final Parser<ActorAccountContext> parser) {
         this.configuration = Precondition.nonNull(configuration, "Configuration must not be null.");
         this.mavenSession = Precondition.nonNull(mavenSession, "MavenSession must not be null.");
         this.mavenProject = Precondition.nonNull(mavenProject, "MavenProject must not be null.");
         this.bankEnumGenerator = Precondition.nonNull(bankEnumGenerator, "BankEnumGenerator must not be null.");
+        this.clearingTableResourceGenerator = Precondition.nonNull(clearingTableResourceGenerator,
+            "ClearingTableResourceGenerator must not be null.");
         this.parser = Precondition.nonNull(parser, "Parser must not be null.");
     }
 
     @Override
     @SneakyThrows
     public void execute() {
+        final String buildDirectory = mavenSession.getCurrentProject().getBuild().getDirectory();
+
         final String sourceRoot = ObjectUtils.valueOrFallback(configuration.getSourceRoot(),
-            () -> mavenSession.getCurrentProject().getBuild().getDirectory() + "/generated-sources");
+            () -> buildDirectory + "/generated-sources");
+
+        final String resourceRoot = ObjectUtils.valueOrFallback(configuration.getResourceRoot(),
+            () -> buildDirectory + "/generated-resources/bank-domain");
 
         final Path outputDirectory = Paths.get(sourceRoot);
+        final Path resourceDirectory = Paths.get(resourceRoot);
+        final Path fingerprintFile = Paths.get(buildDirectory, FINGERPRINT_FILE);
+
+        final long startTime = System.nanoTime();
+
+        try {
+            final byte[] csv = readCsv();
+            final GenerationFingerprint fingerprint = GenerationFingerprint.of(csv, pluginVersion(),
+                GenerationFingerprint.codeDigestOf(CodeGeneration.class), outputDirectory.toAbsolutePath().toString(),
+                resourceDirectory.toAbsolutePath().toString());
+
+            if (fingerprint.isRecordedIn(fingerprintFile)
+                && Files.isRegularFile(BankEnumGenerator.sourceFileOf(outputDirectory))
+                && Files.isRegularFile(resourceDirectory.resolve(ClearingTableResourceGenerator.RESOURCE_PATH))) {
+                getLog().info("Bank domain sources are up to date, skipping code generation (" + elapsedMillis(startTime) + " ms)");
+            } else {
+                generate(csv, outputDirectory, resourceDirectory, startTime);
+                fingerprint.writeTo(fingerprintFile);
+            }
+        } catch (final IOException e) {
+            throw new BankDomainMavenPluginException("Unable to access the csv file. Cause: " + e.getMessage(), e);
+        }
+
+        mavenProject.addCompileSourceRoot(outputDirectory.toAbsolutePath().toString());
+
+        final Resource resource = new Resource();
+        resource.setDirectory(resourceDirectory.toAbsolutePath().toString());
+        mavenProject.addResource(resource);
+    }
 
+    private void generate(final byte[] csv, final Path outputDirectory, final Path resourceDirectory, final long startTime)
+        throws IOException {
         final LineParserContext<ActorAccountContext> context = LineParserContext.<ActorAccountContext>builder()
             .delimiter(";")
             .expectedColumnCount(6)
@@ -71,16 +127,34 @@ public class CodeGeneration extends AbstractMojo {
             .lineValidator(new BankAccountLineValidator())
             .build();
 
-        try (final InputStream inputStream = csvFileInputStream()) {
-            final Map<Actor, List<ActorAccountContext>> grouped = parser.parse(inputStream, context)
+        final Map<Actor, List<ActorAccountContext>> grouped;
+        try (final InputStream inputStream = new ByteArrayInputStream(csv)) {
+            grouped = parser.parse(inputStream, context)
                 .collect(Collectors.groupingBy(ActorAccountContext::getActor, LinkedHashMap::new, Collectors.toList()));
+        }
 
-            bankEnumGenerator.generate(grouped, outputDirectory);
-        } catch (final IOException e) {
-            throw new BankDomainMavenPluginException("Unable to access the csv file. Cause: " + e.getMessage(), e);
+        final long parsedTime = System.nanoTime();
+
+        final boolean sourceWritten = bankEnumGenerator.generate(grouped, outputDirectory);
+        final boolean resourceWritten = clearingTableResourceGenerator.generate(grouped, resourceDirectory);
+
+        getLog().info(String.format("Generated %d banks in %d ms (parse %d ms, generate %d ms), %s",
+            grouped.size(), elapsedMillis(startTime), (parsedTime - startTime) / 1_000_000, elapsedMillis(parsedTime),
+            sourceWritten || resourceWritten ? "output updated" : "output unchanged"));
+    }
+
+    private String pluginVersion() {
+        return plugin == null ? "unknown" : plugin.getVersion();
+    }
+
+    private byte[] readCsv() throws IOException {
+        try (final InputStream inputStream = csvFileInputStream()) {
+            return inputStream.readAllBytes();
         }
+    }
 
-        mavenProject.addCompileSourceRoot(outputDirectory.toAbsolutePath().toString());
+    private static long elapsedMillis(final long startTime) {
+        return (System.nanoTime() - startTime) / 1_000_000;
     }
 
     @MustBeClosed
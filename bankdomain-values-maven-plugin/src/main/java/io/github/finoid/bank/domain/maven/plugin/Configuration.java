@@ -16,6 +16,9 @@ public class Configuration {
     @Parameter(property = "bd.sourceRoot", defaultValue = "${project.build.directory}/generated-sources")
     private String sourceRoot;
 
+    @Parameter(property = "bd.resourceRoot", defaultValue = "${project.build.directory}/generated-resources/bank-domain")
+    private String resourceRoot;
+
     @Nullable
     @Parameter(property = "bd.csvFilePath")
     private String csvFilePath;
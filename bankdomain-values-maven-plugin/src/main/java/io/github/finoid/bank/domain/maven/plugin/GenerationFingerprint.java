@@ -0,0 +1,153 @@
+package io.github.finoid.bank.domain.maven.plugin;
+
+import io.github.finoid.bank.domain.maven.plugin.exceptions.BankDomainMavenPluginException;
+import lombok.Value;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * A SHA-256 fingerprint of everything the generated sources depend on: the CSV content, the plugin version, the
+ * content of the plugin's own classes and the generator settings. When the fingerprint recorded by the previous build matches, code generation is skipped and the
+ * generated files keep their timestamps, so incremental builds do not recompile anything downstream.
+ */
+@Value
+public class GenerationFingerprint {
+    /**
+     * Bumped whenever the generated output changes for the same inputs, such as a new layout of the generated sources.
+     */
+    private static final int FORMAT_VERSION = 4;
+
+    String value;
+
+    /**
+     * Computes the fingerprint of a code generation.
+     *
+     * @param csv           the CSV content
+     * @param pluginVersion the version of this plugin
+     * @param codeDigest    the {@link #codeDigestOf(Class) digest} of the generator classes
+     * @param settings      the generator settings that affect the output, such as output directories
+     * @return the fingerprint
+     */
+    public static GenerationFingerprint of(final byte[] csv, final String pluginVersion, final String codeDigest, final String... settings) {
+        final MessageDigest digest = sha256();
+
+        update(digest, Integer.toString(FORMAT_VERSION));
+        update(digest, pluginVersion);
+        update(digest, codeDigest);
+
+        for (final String setting : settings) {
+            update(digest, setting);
+        }
+
+        digest.update(csv);
+
+        return new GenerationFingerprint(HexFormat.of().formatHex(digest.digest()));
+    }
+
+    /**
+     * Computes a digest of the code the given class was loaded from: the bytes of its jar, or of every file below its
+     * class directory. The version of a plugin is not enough to tell whether its generators changed, as a release
+     * version can be rebuilt locally with different generators. If the code source cannot be read as a path, a random
+     * digest is returned, so the generation is never skipped.
+     *
+     * @param type a class of the code to digest
+     * @return the hex-encoded digest
+     * @throws IOException if the code source cannot be read
+     */
+    public static String codeDigestOf(final Class<?> type) throws IOException {
+        final CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+
+        if (codeSource == null || codeSource.getLocation() == null) {
+            return UUID.randomUUID().toString();
+        }
+
+        try {
+            return codeDigestOf(Paths.get(codeSource.getLocation().toURI()));
+        } catch (final URISyntaxException | FileSystemNotFoundException | IllegalArgumentException e) {
+            return UUID.randomUUID().toString();
+        }
+    }
+
+    /**
+     * Computes a digest of a jar, or of every file below a class directory together with its relative path.
+     */
+    static String codeDigestOf(final Path location) throws IOException {
+        final MessageDigest digest = sha256();
+
+        if (!Files.isDirectory(location)) {
+            digest.update(Files.readAllBytes(location));
+
+            return HexFormat.of().formatHex(digest.digest());
+        }
+
+        final List<Path> files;
+        try (Stream<Path> paths = Files.walk(location)) {
+            files = paths.filter(Files::isRegularFile).sorted().toList();
+        }
+
+        for (final Path file : files) {
+            update(digest, location.relativize(file).toString().replace('\\', '/'));
+            digest.update(Files.readAllBytes(file));
+        }
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Returns whether the given file holds this fingerprint.
+     *
+     * @param file the fingerprint file written by a previous generation
+     * @return {@code true} if the file exists and holds this fingerprint
+     * @throws IOException if the file exists but cannot be read
+     */
+    public boolean isRecordedIn(final Path file) throws IOException {
+        return Files.isRegularFile(file) && value.equals(Files.readString(file, StandardCharsets.UTF_8).trim());
+    }
+
+    /**
+     * Records this fingerprint in the given file, creating its directory if needed.
+     *
+     * @param file the fingerprint file
+     * @throws IOException if the file cannot be written
+     */
+    public void writeTo(final Path file) throws IOException {
+        final Path directory = file.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+
+        Files.writeString(file, value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Separates the inputs by their length, so that no two different input lists hash the same bytes.
+     */
+    private static void update(final MessageDigest digest, final String input) {
+        final byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+
+        digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) ':');
+        digest.update(bytes);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new BankDomainMavenPluginException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package io.github.finoid.bank.domain.maven.plugin.codegen;
 
+import com.palantir.javapoet.AnnotationSpec;
 import com.palantir.javapoet.ArrayTypeName;
 import com.palantir.javapoet.ClassName;
 import com.palantir.javapoet.CodeBlock;
+import com.palantir.javapoet.FieldSpec;
 import com.palantir.javapoet.JavaFile;
 import com.palantir.javapoet.MethodSpec;
 import com.palantir.javapoet.ParameterSpec;
@@ -12,17 +14,22 @@ import com.palantir.javapoet.TypeSpec;
 import io.github.finoid.bank.domain.maven.plugin.Actor;
 import io.github.finoid.bank.domain.maven.plugin.ActorAccountContext;
 import io.github.finoid.bank.domain.maven.plugin.Type;
+import io.github.finoid.bank.domain.maven.plugin.exceptions.BankDomainMavenPluginException;
 import lombok.NoArgsConstructor;
 import javax.inject.Named;
 import javax.inject.Singleton;
 import javax.lang.model.element.Modifier;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 /**
@@ -36,40 +43,89 @@ import java.util.stream.Collectors;
 @NoArgsConstructor
 @Named
 public class BankEnumGenerator {
+    private static final String TARGET_PACKAGE = "io.github.finoid.generated.bank.domain";
+
     private static final ClassName BANK_ACCOUNT_TYPE = ClassName.get("io.github.finoid.bank.domain", "BankAccountType");
     private static final ClassName BANK_ACCOUNT_SUB_TYPE = ClassName.get("io.github.finoid.bank.domain", "BankAccountSubType");
     private static final ClassName BANK_TYPE = ClassName.get("io.github.finoid.bank.domain", "BankType");
+    private static final ClassName IBAN_METHOD = ClassName.get("io.github.finoid.bank.domain", "IbanMethod");
+    private static final ClassName BANK_AND_TYPE = ClassName.get("io.github.finoid.bank.domain", "BankAndType");
+    private static final ClassName INTERNAL = ClassName.get("io.github.finoid.bank.domain.internal", "Internal");
+    private static final ClassName NULLABLE = ClassName.get("org.jspecify.annotations", "Nullable");
     private static final ClassName INT_RANGE = ClassName.get("io.github.finoid.bank.domain", "IntRange");
     private static final ClassName INT_RANGES = ClassName.get("io.github.finoid.bank.domain", "IntRanges");
+    private static final ArrayTypeName CLEARING_TABLE_TYPE = ArrayTypeName.of(BANK_AND_TYPE.annotated(AnnotationSpec.builder(NULLABLE).build()));
+
+    /**
+     * Number of slots in the generated clearing number lookup table, one per 4-digit clearing number.
+     */
+    private static final int CLEARING_TABLE_SIZE = 10_000;
+
+    private static final String CLEARING_TABLE_HOLDER = "ClearingTableHolder";
+
+    /**
+     * The constants of {@code IbanMethod}, in the order of the methods of the {@code Metod IBAN konvertering} column.
+     */
+    private static final List<String> IBAN_METHODS = List.of("ONE", "TWO", "THREE", "FOUR");
+
+    /**
+     * The length of a BIC without branch code, which identifies the institution.
+     */
+    private static final int BIC_INSTITUTION_LENGTH = 8;
+
+    /**
+     * The length of a BIC with branch code.
+     */
+    private static final int BIC_BRANCH_LENGTH = 11;
+
+    /**
+     * Placeholder of the CSV for banks without a BIC.
+     */
+    private static final String NO_BIC = "-";
 
     /**
      * Generates the {@code Bank} enum class source file, based on the provided map of actors and their bank contexts.
+     * <p>
+     * An existing file with the same content is left untouched, keeping its timestamp.
      *
      * @param actors     a map from {@link Actor} to the corresponding list of {@link ActorAccountContext}
      * @param outputPath the file system path to which the generated file should be written
+     * @return {@code true} if the file was written, {@code false} if it was already up to date
      * @throws IOException if writing the file fails
      */
-    public void generate(final Map<Actor, List<ActorAccountContext>> actors, final Path outputPath) throws IOException {
-        final String targetPackage = "io.github.finoid.generated.bank.domain";
-
+    public boolean generate(final Map<Actor, List<ActorAccountContext>> actors, final Path outputPath) throws IOException {
         final TypeSpec.Builder enumBuilder = enumBuilder();
 
         enumBuilder
             .addField(String.class, "name", Modifier.PRIVATE, Modifier.FINAL)
+            .addField(FieldSpec.builder(String.class, "bic", Modifier.PRIVATE, Modifier.FINAL).addAnnotation(NULLABLE).build())
+            .addField(ParameterizedTypeName.get(ClassName.get(Set.class), ClassName.get(Integer.class)), "ibanIds", Modifier.PRIVATE, Modifier.FINAL)
             .addField(ParameterizedTypeName.get(ClassName.get(Set.class), ClassName.get("", "BankType")), "types", Modifier.PRIVATE, Modifier.FINAL)
-            .addMethods(List.of(constructorMethodSpec(), getNameMethodSpec(), getTypesMethodSpec(), isWithinRangeMethodSpec(),
-                ofClearingNumberMethodSpec(targetPackage)));
+            .addType(clearingTableHolderTypeSpec())
+            .addMethods(List.of(constructorMethodSpec(), getNameMethodSpec(), optionalBicMethodSpec(), getIbanIdsMethodSpec(), getTypesMethodSpec(),
+                isWithinRangeMethodSpec(), ofClearingNumberMethodSpec(TARGET_PACKAGE), ofBicMethodSpec(actors), ofIbanIdMethodSpec(actors),
+                bankAndTypeOfMethodSpec(), clearingTableMethodSpec()));
 
         // Enum constants
         actors.entrySet().stream()
             .sorted(Map.Entry.comparingByKey())
             .forEachOrdered(entry -> enumBuilder.addEnumConstant(entry.getKey().getNormalizedName(), enumConstantTypeSpec(entry)));
 
-        final JavaFile javaFile = JavaFile.builder(targetPackage, enumBuilder.build())
+        final JavaFile javaFile = JavaFile.builder(TARGET_PACKAGE, enumBuilder.build())
             .indent("    ") // four spaces
             .build();
 
-        javaFile.writeTo(outputPath);
+        return GeneratedFiles.writeIfChanged(sourceFileOf(outputPath), javaFile.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the path of the generated {@code Bank} source file below the given source root.
+     *
+     * @param outputPath the source root
+     * @return the path of {@code Bank.java}
+     */
+    public static Path sourceFileOf(final Path outputPath) {
+        return outputPath.resolve(TARGET_PACKAGE.replace('.', '/')).resolve("Bank.java");
     }
 
     private static TypeSpec enumConstantTypeSpec(final Map.Entry<Actor, List<ActorAccountContext>> entry) {
@@ -85,7 +141,9 @@ public class BankEnumGenerator {
         // TODO (nw) särhantera banker med kortare nummerserier, typ HANDELSBANK?
 
         final CodeBlock.Builder enumConstantCodeBlockBuilder = CodeBlock.builder()
-            .add("$S, ", label);
+            .add("$S, ", label)
+            .add(bicOf(entry.getValue()).map(bic -> CodeBlock.of("$S, ", bic)).orElse(CodeBlock.of("null, ")))
+            .add("$T.of($L), ", Set.class, ibanIdsOf(entry.getValue()).stream().map(String::valueOf).collect(Collectors.joining(", ")));
 
         for (int i = 0; i < bankTypeCodeBlocks.size(); i++) {
             enumConstantCodeBlockBuilder.add("\n$>$L$<", bankTypeCodeBlocks.get(i));
@@ -101,6 +159,24 @@ public class BankEnumGenerator {
             .build();
     }
 
+    /**
+     * Returns the BIC of a bank, the first BIC listed in its rows, if any.
+     */
+    private static Optional<String> bicOf(final List<ActorAccountContext> contexts) {
+        return contexts.stream()
+            .map(ActorAccountContext::getBic)
+            .filter(Objects::nonNull)
+            .map(String::trim)
+            .filter(bic -> !bic.isEmpty() && !NO_BIC.equals(bic))
+            .findFirst();
+    }
+
+    private static Set<Integer> ibanIdsOf(final List<ActorAccountContext> contexts) {
+        return contexts.stream()
+            .map(ActorAccountContext::getIbanId)
+            .collect(Collectors.toCollection(TreeSet::new));
+    }
+
     @SuppressWarnings("EnumOrdinal")
     private static String enumConstantJavaDocDescription(final Map<BankEntryKey, List<ActorAccountContext>> byType) {
         return byType.entrySet().stream()
@@ -125,9 +201,27 @@ public class BankEnumGenerator {
         final CodeBlock rangeList = CodeBlock.join(rangeBlocks, ", ");
         final CodeBlock typeEnumBlock = CodeBlock.of("$T.$L", BANK_ACCOUNT_TYPE, key.primaryType());
         final CodeBlock subTypeEnumBlock = CodeBlock.of("$T.$L", BANK_ACCOUNT_SUB_TYPE, key.secondaryType());
+        final CodeBlock ibanMethodEnumBlock = CodeBlock.of("$T.$L", IBAN_METHOD, ibanMethodConstantOf(key.ibanMethod()));
 
         return CodeBlock.builder()
-            .add("$T.ofTypesAndRanges($L, $L, $T.of($L))", BANK_TYPE, typeEnumBlock, subTypeEnumBlock, INT_RANGES, rangeList).build();
+            .add("$T.ofTypesIbanAndRanges($L, $L, $L, $L, $T.of($L))", BANK_TYPE, typeEnumBlock, subTypeEnumBlock, key.ibanId(),
+                ibanMethodEnumBlock, INT_RANGES, rangeList)
+            .build();
+    }
+
+    /**
+     * Returns the {@code IbanMethod} constant of a method of the {@code Metod IBAN konvertering} column.
+     *
+     * @param ibanMethod the method, between 1 and 4
+     * @return the name of the constant
+     * @throws BankDomainMavenPluginException if the method is unknown
+     */
+    private static String ibanMethodConstantOf(final int ibanMethod) {
+        if (ibanMethod < 1 || ibanMethod > IBAN_METHODS.size()) {
+            throw new BankDomainMavenPluginException("Unknown IBAN conversion method: " + ibanMethod);
+        }
+
+        return IBAN_METHODS.get(ibanMethod - 1);
     }
 
     private static TypeSpec.Builder enumBuilder() {
@@ -144,10 +238,14 @@ public class BankEnumGenerator {
             .addModifiers(Modifier.PRIVATE)
             .varargs(true)
             .addParameter(ParameterSpec.builder(String.class, "name").build())
+            .addParameter(ParameterSpec.builder(String.class, "bic").addAnnotation(NULLABLE).build())
+            .addParameter(ParameterSpec.builder(ParameterizedTypeName.get(ClassName.get(Set.class), ClassName.get(Integer.class)), "ibanIds").build())
             .addParameter(ParameterSpec.builder(ArrayTypeName.of(ClassName.get("io.github.finoid.bank.domain", "BankType")), "types")
                 .addModifiers(Modifier.FINAL)
                 .build())
             .addStatement("this.name = name")
+            .addStatement("this.bic = bic")
+            .addStatement("this.ibanIds = ibanIds")
             .addStatement("this.types = Set.of(types)")
             .build();
     }
@@ -160,6 +258,26 @@ public class BankEnumGenerator {
             .build();
     }
 
+    private static MethodSpec optionalBicMethodSpec() {
+        return MethodSpec.methodBuilder("optionalBic")
+            .addModifiers(Modifier.PUBLIC)
+            .returns(ParameterizedTypeName.get(ClassName.get(Optional.class), ClassName.get(String.class)))
+            .addJavadoc("Returns the BIC of this bank, as published in the clearing number table.\n"
+                        + " @return an {@link Optional} containing the BIC, or empty if the bank has none\n")
+            .addStatement("return $T.ofNullable(bic)", Optional.class)
+            .build();
+    }
+
+    private static MethodSpec getIbanIdsMethodSpec() {
+        return MethodSpec.methodBuilder("getIbanIds")
+            .addModifiers(Modifier.PUBLIC)
+            .returns(ParameterizedTypeName.get(ClassName.get(Set.class), ClassName.get(Integer.class)))
+            .addJavadoc("Returns the 3-digit IBAN IDs of this bank, one per IBAN conversion of its {@link BankType}s.\n"
+                        + " @return the IBAN IDs\n")
+            .addStatement("return ibanIds")
+            .build();
+    }
+
     private static MethodSpec getTypesMethodSpec() {
         return MethodSpec.methodBuilder("getTypes")
             .addModifiers(Modifier.PUBLIC)
@@ -179,7 +297,12 @@ public class BankEnumGenerator {
             .addJavadoc("Checks if the given clearing number falls within any of this bank’s {@link BankType}s.\n"
                         + " @param clearingNumber the clearing number to check\n"
                         + " @return {@code true} if within range; {@code false} otherwise\n")
-            .addStatement("return types.stream().anyMatch(type -> type.isWithinRange(clearingNumber))")
+            .beginControlFlow("for (final $T type : types)", BANK_TYPE)
+            .beginControlFlow("if (type.isWithinRange(clearingNumber))")
+            .addStatement("return true")
+            .endControlFlow()
+            .endControlFlow()
+            .addStatement("return false")
             .build();
     }
 
@@ -197,15 +320,141 @@ public class BankEnumGenerator {
             .addJavadoc("Resolves a {@link Bank} instance based on the provided {@link ClearingNumber}.\n"
                         + " @param clearingNumber the clearing number to match\n"
                         + " @return an {@link Optional} containing the matching bank, or empty if none match\n")
-            .addStatement("return java.util.Arrays.stream(values())\n"
-                          + "    .filter(bank -> bank.isWithinRange(clearingNumber.getClearingNumber()))\n"
-                          + "    .findFirst()")
+            // Resolved through BankAndType so that the lookup is reported to the installed BankDomainMetrics
+            .addStatement("return $T.findByClearingNumber(clearingNumber).map($T::getBank)", BANK_AND_TYPE, BANK_AND_TYPE)
+            .build();
+    }
+
+    private static MethodSpec ofBicMethodSpec(final Map<Actor, List<ActorAccountContext>> actors) {
+        // A BIC shared by several banks resolves to the first bank, in enum declaration order
+        final Map<String, Actor> banksByBic = new LinkedHashMap<>();
+
+        actors.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .forEachOrdered(entry -> bicOf(entry.getValue())
+                .ifPresent(bic -> banksByBic.putIfAbsent(institutionOf(bic), entry.getKey())));
+
+        final CodeBlock.Builder cases = CodeBlock.builder();
+        banksByBic.forEach((bic, actor) -> cases.add("case $S -> $L;\n", bic, actor.getNormalizedName()));
+
+        return MethodSpec.methodBuilder("ofBic")
+            .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+            .returns(ParameterizedTypeName.get(ClassName.get(Optional.class), ClassName.get(TARGET_PACKAGE, "Bank")))
+            .addParameter(ParameterSpec.builder(String.class, "bic").addAnnotation(NULLABLE).build())
+            .addJavadoc("Resolves a {@link Bank} instance based on the provided BIC, with a single {@code switch} on the institution.\n"
+                        + "<p>\n"
+                        + "The BIC is matched case-insensitively, and the branch code of an 11-character BIC is ignored. A BIC shared by\n"
+                        + "several banks resolves to the first of them, in declaration order.\n"
+                        + " @param bic the 8- or 11-character BIC\n"
+                        + " @return an {@link Optional} containing the matching bank, or empty if none match or the BIC is {@code null} or of\n"
+                        + " another length\n")
+            .beginControlFlow("if (bic == null || (bic.length() != $L && bic.length() != $L))", BIC_INSTITUTION_LENGTH, BIC_BRANCH_LENGTH)
+            .addStatement("return $T.empty()", Optional.class)
+            .endControlFlow()
+            .addStatement("final String institution = bic.substring(0, $L).toUpperCase($T.ROOT)", BIC_INSTITUTION_LENGTH, Locale.class)
+            .addCode("return $T.ofNullable(switch (institution) {\n$>", Optional.class)
+            .addCode(cases.build())
+            .addCode("default -> null;\n$<});\n")
+            .build();
+    }
+
+    private static MethodSpec ofIbanIdMethodSpec(final Map<Actor, List<ActorAccountContext>> actors) {
+        // An IBAN ID shared by several banks resolves to the first bank, in enum declaration order
+        final Map<Integer, Actor> banksByIbanId = new LinkedHashMap<>();
+
+        actors.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .forEachOrdered(entry -> ibanIdsOf(entry.getValue()).forEach(ibanId -> banksByIbanId.putIfAbsent(ibanId, entry.getKey())));
+
+        final Map<Actor, List<Integer>> ibanIdsByBank = banksByIbanId.entrySet().stream()
+            .collect(Collectors.groupingBy(Map.Entry::getValue, LinkedHashMap::new,
+                Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+
+        final CodeBlock.Builder cases = CodeBlock.builder();
+        ibanIdsByBank.forEach((actor, ibanIds) -> cases.add("case $L -> $L;\n",
+            ibanIds.stream().map(String::valueOf).collect(Collectors.joining(", ")), actor.getNormalizedName()));
+
+        return MethodSpec.methodBuilder("ofIbanId")
+            .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+            .returns(ParameterizedTypeName.get(ClassName.get(Optional.class), ClassName.get(TARGET_PACKAGE, "Bank")))
+            .addParameter(TypeName.INT, "ibanId")
+            .addJavadoc("Resolves a {@link Bank} instance based on the provided 3-digit IBAN ID, with a single {@code switch}.\n"
+                        + " @param ibanId the IBAN ID, digits 5 to 7 of a Swedish IBAN\n"
+                        + " @return an {@link Optional} containing the matching bank, or empty if none match\n")
+            .addCode("return $T.ofNullable(switch (ibanId) {\n$>", Optional.class)
+            .addCode(cases.build())
+            .addCode("default -> null;\n$<});\n")
+            .build();
+    }
+
+    /**
+     * Returns the institution part of a BIC, without any branch code.
+     */
+    private static String institutionOf(final String bic) {
+        return bic.length() == BIC_BRANCH_LENGTH ? bic.substring(0, BIC_INSTITUTION_LENGTH) : bic;
+    }
+
+    private static TypeSpec clearingTableHolderTypeSpec() {
+        final FieldSpec clearingTable = FieldSpec.builder(CLEARING_TABLE_TYPE, "CLEARING_TABLE", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+            .addJavadoc("Dense lookup table indexed by the 4-digit clearing number, holding one shared {@link BankAndType} per bank type.\n")
+            .initializer("clearingTable()")
+            .build();
+
+        // Built on first lookup rather than with the enum constants, the core library normally resolves clearing
+        // numbers from the generated binary table resource instead
+        return TypeSpec.classBuilder(CLEARING_TABLE_HOLDER)
+            .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+            .addJavadoc("Holds the clearing number table, built on first use of {@link Bank#bankAndTypeOf(int)}.\n")
+            .addField(clearingTable)
+            .build();
+    }
+
+    private static MethodSpec bankAndTypeOfMethodSpec() {
+        return MethodSpec.methodBuilder("bankAndTypeOf")
+            .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+            .addAnnotation(INTERNAL)
+            .returns(CLEARING_TABLE_TYPE.componentType())
+            .addParameter(TypeName.INT, "clearingNumber")
+            .addJavadoc("Resolves the shared {@link BankAndType} of the provided 4-digit clearing number with a single table lookup.\n"
+                        + " @param clearingNumber the 4-digit clearing number, excluding any sorting digit\n"
+                        + " @return the matching {@link BankAndType}, or {@code null} if none match\n")
+            .addStatement("final $T table = $L.CLEARING_TABLE", CLEARING_TABLE_TYPE, CLEARING_TABLE_HOLDER)
+            .beginControlFlow("if (clearingNumber < 0 || clearingNumber >= table.length)")
+            .addStatement("return null")
+            .endControlFlow()
+            .addStatement("return table[clearingNumber]")
+            .build();
+    }
+
+    private static MethodSpec clearingTableMethodSpec() {
+        return MethodSpec.methodBuilder("clearingTable")
+            .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+            .returns(CLEARING_TABLE_TYPE)
+            .addStatement("final $T table = new $T[$L]", CLEARING_TABLE_TYPE, BANK_AND_TYPE, CLEARING_TABLE_SIZE)
+            .beginControlFlow("for (final Bank bank : values())")
+            .beginControlFlow("for (final $T type : bank.types)", BANK_TYPE)
+            .addStatement("final $T bankAndType = $T.of(bank, type)", BANK_AND_TYPE, BANK_AND_TYPE)
+            .beginControlFlow("for (final $T ranges : type.getCheckNumberRanges())", INT_RANGES)
+            .beginControlFlow("for (final $T range : ranges.getRanges())", INT_RANGE)
+            .addStatement("final int end = Math.min(range.getEnd(), table.length - 1)")
+            .beginControlFlow("for (int i = Math.max(range.getStart(), 0); i <= end; i++)")
+            .addComment("First match wins, in enum declaration order")
+            .beginControlFlow("if (table[i] == null)")
+            .addStatement("table[i] = bankAndType")
+            .endControlFlow()
+            .endControlFlow()
+            .endControlFlow()
+            .endControlFlow()
+            .endControlFlow()
+            .endControlFlow()
+            .addStatement("return table")
             .build();
     }
 
-    record BankEntryKey(Type primaryType, Type secondaryType) {
+    record BankEntryKey(Type primaryType, Type secondaryType, int ibanId, int ibanMethod) {
         public static BankEntryKey ofContext(final ActorAccountContext context) {
-            return new BankEntryKey(context.getAccountType().primary(), context.getAccountType().secondary());
+            return new BankEntryKey(context.getAccountType().primary(), context.getAccountType().secondary(), context.getIbanId(),
+                context.getIbanMethod());
         }
     }
 }
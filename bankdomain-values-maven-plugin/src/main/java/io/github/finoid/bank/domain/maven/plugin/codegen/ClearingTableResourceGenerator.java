@@ -0,0 +1,129 @@
+package io.github.finoid.bank.domain.maven.plugin.codegen;
+
+import io.github.finoid.bank.domain.maven.plugin.Actor;
+import io.github.finoid.bank.domain.maven.plugin.ActorAccountContext;
+import io.github.finoid.bank.domain.maven.plugin.exceptions.BankDomainMavenPluginException;
+import lombok.NoArgsConstructor;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates a compact binary clearing number table next to the generated {@code Bank} enum, so the core library can
+ * resolve clearing numbers without building the table from the enum constants at startup.
+ * <p>
+ * The resource is read by {@code io.github.finoid.bank.domain.ClearingTable}, and has the layout:
+ * <pre>
+ * magic          4 bytes  "BDCT"
+ * version        u8       2
+ * groupCount     u8       number of bank and account type groups
+ * groups         per group: bankOrdinal u8, type u8, subType u8, accountMinLength u8, accountMaxLength u8,
+ *                ibanId u16, ibanMethod u8, rangeCount u8, and per range: start u16, end u16
+ * slots          10 000 x u8, the group of each 4-digit clearing number plus one, 0 if unknown
+ * </pre>
+ * Groups are in {@code Bank} declaration order, the same order the generated enum resolves overlapping ranges in.
+ */
+@Singleton
+@NoArgsConstructor
+@Named
+public class ClearingTableResourceGenerator {
+    /**
+     * The resource path, relative to the resource root, in the package of the generated {@code Bank} enum.
+     */
+    public static final String RESOURCE_PATH = "io/github/finoid/generated/bank/domain/clearing-table.bin";
+
+    private static final byte[] MAGIC = {'B', 'D', 'C', 'T'};
+    private static final int VERSION = 2;
+    private static final int TABLE_SIZE = 10_000;
+    private static final int DEFAULT_ACCOUNT_LENGTH = 11;
+    private static final int MAX_GROUPS = 255;
+
+    /**
+     * Writes the binary clearing number table for the given actors. An existing file with the same content is left
+     * untouched, keeping its timestamp.
+     *
+     * @param actors     a map from {@link Actor} to the corresponding list of {@link ActorAccountContext}
+     * @param outputPath the resource root to write {@link #RESOURCE_PATH} to
+     * @return {@code true} if the file was written, {@code false} if it was already up to date
+     * @throws IOException if writing the file fails
+     */
+    public boolean generate(final Map<Actor, List<ActorAccountContext>> actors, final Path outputPath) throws IOException {
+        return GeneratedFiles.writeIfChanged(outputPath.resolve(RESOURCE_PATH), toBytes(actors));
+    }
+
+    @SuppressWarnings("EnumOrdinal")
+    static byte[] toBytes(final Map<Actor, List<ActorAccountContext>> actors) throws IOException {
+        final List<Map.Entry<Actor, List<ActorAccountContext>>> banks = actors.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .toList();
+
+        final List<Group> groups = new ArrayList<>();
+        for (int ordinal = 0; ordinal < banks.size(); ordinal++) {
+            final Map<BankEnumGenerator.BankEntryKey, List<ActorAccountContext>> byType = new LinkedHashMap<>();
+
+            for (final ActorAccountContext context : banks.get(ordinal).getValue()) {
+                byType.computeIfAbsent(BankEnumGenerator.BankEntryKey.ofContext(context), key -> new ArrayList<>()).add(context);
+            }
+
+            for (final Map.Entry<BankEnumGenerator.BankEntryKey, List<ActorAccountContext>> entry : byType.entrySet()) {
+                groups.add(new Group(ordinal, entry.getKey(), entry.getValue()));
+            }
+        }
+
+        if (groups.size() > MAX_GROUPS) {
+            throw new BankDomainMavenPluginException("Too many bank types for the binary clearing table: " + groups.size());
+        }
+
+        final byte[] slots = new byte[TABLE_SIZE];
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(TABLE_SIZE + 1024);
+
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.write(MAGIC);
+            out.writeByte(VERSION);
+            out.writeByte(groups.size());
+
+            for (int index = 0; index < groups.size(); index++) {
+                final Group group = groups.get(index);
+
+                out.writeByte(group.bankOrdinal());
+                out.writeByte(group.key().primaryType().ordinal() + 1);
+                out.writeByte(group.key().secondaryType().ordinal() + 1);
+                out.writeByte(DEFAULT_ACCOUNT_LENGTH);
+                out.writeByte(DEFAULT_ACCOUNT_LENGTH);
+                out.writeShort(group.key().ibanId());
+                out.writeByte(group.key().ibanMethod());
+                out.writeByte(group.contexts().size());
+
+                for (final ActorAccountContext context : group.contexts()) {
+                    final int start = context.getAccountNumber().getStart();
+                    final int end = context.getAccountNumber().getEnd();
+
+                    out.writeShort(start);
+                    out.writeShort(end);
+
+                    // First match wins, in enum declaration order
+                    for (int i = Math.max(start, 0); i <= Math.min(end, TABLE_SIZE - 1); i++) {
+                        if (slots[i] == 0) {
+                            slots[i] = (byte) (index + 1);
+                        }
+                    }
+                }
+            }
+
+            out.write(slots);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    private record Group(int bankOrdinal, BankEnumGenerator.BankEntryKey key, List<ActorAccountContext> contexts) {
+    }
+}
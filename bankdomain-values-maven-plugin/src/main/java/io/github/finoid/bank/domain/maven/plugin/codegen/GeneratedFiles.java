@@ -0,0 +1,35 @@
+package io.github.finoid.bank.domain.maven.plugin.codegen;
+
+import lombok.experimental.UtilityClass;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+@UtilityClass
+class GeneratedFiles {
+    /**
+     * Writes the content to the file unless the file already holds exactly that content, so that unchanged generated
+     * files keep their timestamps and do not trigger recompilation.
+     *
+     * @param file    the file to write
+     * @param content the content
+     * @return {@code true} if the file was written
+     * @throws IOException if the file cannot be read or written
+     */
+    static boolean writeIfChanged(final Path file, final byte[] content) throws IOException {
+        if (Files.isRegularFile(file) && Files.size(file) == content.length && Arrays.equals(Files.readAllBytes(file), content)) {
+            return false;
+        }
+
+        final Path directory = file.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+
+        Files.write(file, content);
+
+        return true;
+    }
+}
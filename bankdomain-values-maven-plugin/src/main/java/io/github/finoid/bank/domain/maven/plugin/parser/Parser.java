@@ -14,6 +14,9 @@ public interface Parser<T> {
     /**
      * Parses the provided {@link InputStream} line by line using the given {@link LineParserContext},
      * and processes each parsed value using the supplied {@link ValueProcessor}.
+     * <p>
+     * Values are processed in input order on the calling thread, also when the context is
+     * {@link LineParserContext#isParallel() parallel}.
      *
      * @param inputStream    the input source to be parsed (e.g., a CSV file)
      * @param context        the context containing delimiter settings and line parsing logic
@@ -25,6 +28,7 @@ public interface Parser<T> {
      * Parses the provided {@link InputStream} and returns a {@link Stream} of parsed objects.
      * <p>
      * Note: The caller is responsible for closing the stream and ensuring its lifecycle is managed properly.
+     * Closing the stream of a {@link LineParserContext#isParallel() parallel} parse cancels the chunks still being parsed.
      *
      * @param inputStream the input source to be parsed (e.g., a CSV file)
      * @param context     the context containing delimiter settings and line parsing logic
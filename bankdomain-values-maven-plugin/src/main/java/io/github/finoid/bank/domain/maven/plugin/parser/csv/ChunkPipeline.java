@@ -0,0 +1,170 @@
+package io.github.finoid.bank.domain.maven.plugin.parser.csv;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Parses an input in chunks of whole lines on a {@link ForkJoinPool}, returning the parsed values of each chunk in
+ * input order.
+ * <p>
+ * The input is read on the consuming thread into chunks of about {@link LineParserContext#getChunkSize()} bytes, each
+ * cut after a line feed. A line feed byte never occurs inside a multibyte UTF-8 character, so every chunk decodes
+ * exactly like the same lines read by a {@code BufferedReader} over the whole input, including a byte order mark and
+ * {@code \r\n} line endings. A line longer than the chunk size grows its chunk.
+ * <p>
+ * At most two chunks per worker are read ahead of the consumer, which bounds the memory use to a few chunks regardless
+ * of the input size.
+ *
+ * @param <T> the type of the parsed values
+ */
+final class ChunkPipeline<T> implements Iterator<List<T>>, AutoCloseable {
+    private static final byte LINE_FEED = '\n';
+    private static final byte[] NO_BYTES = new byte[0];
+
+    private final InputStream inputStream;
+    private final int chunkSize;
+    private final boolean skipFirstLine;
+    private final Function<Stream<String>, List<T>> linesParser;
+    private final ForkJoinPool pool;
+    private final int window;
+    private final Queue<ForkJoinTask<List<T>>> inFlight = new ArrayDeque<>();
+
+    private byte[] carry = NO_BYTES;
+    private boolean firstChunk = true;
+    private boolean endOfInput;
+
+    /**
+     * Creates a pipeline over the given input.
+     *
+     * @param inputStream the input, read by the consuming thread
+     * @param context     the context with the chunk size and whether to skip the header line
+     * @param linesParser parses the lines of one chunk into their values, called concurrently on the pool
+     * @param pool        the pool to parse the chunks on
+     */
+    ChunkPipeline(final InputStream inputStream, final LineParserContext<?> context,
+                  final Function<Stream<String>, List<T>> linesParser, final ForkJoinPool pool) {
+        this.inputStream = inputStream;
+        this.chunkSize = context.getChunkSize();
+        this.skipFirstLine = context.isSkipFirstLine();
+        this.linesParser = linesParser;
+        this.pool = pool;
+        this.window = Math.max(2, pool.getParallelism() * 2);
+    }
+
+    @Override
+    public boolean hasNext() {
+        fill();
+
+        return !inFlight.isEmpty();
+    }
+
+    /**
+     * Returns the parsed values of the next chunk, waiting for the chunk to be parsed.
+     *
+     * @return the parsed values of the next chunk, in line order
+     * @throws RuntimeException the exception thrown by parsing the chunk
+     */
+    @Override
+    @SuppressWarnings("NullAway")
+    public List<T> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        final ForkJoinTask<List<T>> chunk = inFlight.poll();
+
+        // Keep the pool busy while the consumer handles this chunk
+        fill();
+
+        return chunk.join();
+    }
+
+    /**
+     * Cancels the chunks that are still being parsed. The input is not closed.
+     */
+    @Override
+    public void close() {
+        inFlight.forEach(chunk -> chunk.cancel(false));
+        inFlight.clear();
+        endOfInput = true;
+    }
+
+    private void fill() {
+        try {
+            while (!endOfInput && inFlight.size() < window) {
+                final byte[] chunk = readChunk();
+
+                if (chunk.length == 0) {
+                    endOfInput = true;
+                    return;
+                }
+
+                final boolean skipHeader = firstChunk && skipFirstLine;
+                firstChunk = false;
+
+                inFlight.add(pool.submit(() -> {
+                    final Stream<String> lines = new String(chunk, StandardCharsets.UTF_8).lines();
+
+                    return linesParser.apply(skipHeader ? lines.skip(1) : lines);
+                }));
+            }
+        } catch (final IOException e) {
+            close();
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads the next chunk, ending after the last line feed read, or at the end of the input.
+     *
+     * @return the chunk, empty at the end of the input
+     */
+    private byte[] readChunk() throws IOException {
+        byte[] buffer = Arrays.copyOf(carry, Math.max(chunkSize, carry.length * 2));
+        int length = carry.length;
+        int searchFrom = carry.length; // The carry holds no line feed
+
+        while (true) {
+            length += inputStream.readNBytes(buffer, length, buffer.length - length);
+
+            if (length < buffer.length) {
+                carry = NO_BYTES;
+
+                return Arrays.copyOf(buffer, length);
+            }
+
+            final int lineEnd = lastIndexOf(buffer, LINE_FEED, searchFrom, length);
+
+            if (lineEnd >= 0) {
+                carry = Arrays.copyOfRange(buffer, lineEnd + 1, length);
+
+                return Arrays.copyOf(buffer, lineEnd + 1);
+            }
+
+            searchFrom = length;
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+    }
+
+    private static int lastIndexOf(final byte[] buffer, final byte value, final int from, final int to) {
+        for (int i = to - 1; i >= from; i--) {
+            if (buffer[i] == value) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+}
@@ -3,7 +3,9 @@ package io.github.finoid.bank.domain.maven.plugin.parser.csv;
 import lombok.Value;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.Arrays;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Represents a context container for passing metadata into a {@link Converter}.
@@ -17,6 +19,21 @@ import java.util.Map;
 public class ConverterContext {
     Map<String, String> metadata;
 
+    /**
+     * Creates a context from the {@link ColumnValueConverter#context()} of a column, a {@code $} separated list of
+     * {@code key=value} entries, such as {@code delimiter=-}. Blank keys and values are ignored.
+     *
+     * @param context the converter context of a column
+     * @return the converter context
+     */
+    public static ConverterContext ofColumnContext(final String context) {
+        return ofMetadata(Arrays.stream(context.split("\\$"))
+            .filter(StringUtils::isNoneBlank)
+            .map(entry -> entry.split("=", 2))
+            .filter(parts -> parts.length == 2 && StringUtils.isNoneBlank(parts[0], parts[1]))
+            .collect(Collectors.toMap(parts -> parts[0].trim(), it -> it[1].trim())));
+    }
+
     public String getNoneEmptyOrThrow(final String key) {
         if (!metadata.containsKey(key)) {
             throw new IllegalArgumentException("No metadata for key " + key);
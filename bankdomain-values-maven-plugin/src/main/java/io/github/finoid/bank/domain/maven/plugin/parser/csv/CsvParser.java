@@ -11,8 +11,19 @@ import java.io.BufferedReader;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+/**
+ * Parses CSV input line by line, or in chunks on the common fork-join pool when the context is
+ * {@link LineParserContext#isParallel() parallel}. Both modes produce the values in input order.
+ *
+ * @param <T> the type of object to be parsed from each line
+ */
 @Singleton
 @Named
 public class CsvParser<T> implements Parser<T> {
@@ -27,38 +38,59 @@ public class CsvParser<T> implements Parser<T> {
     @SneakyThrows
     public void parse(final InputStream inputStream, final LineParserContext<T> context,
                       final ValueProcessor<T> valueProcessor) {
+        if (context.isParallel()) {
+            try (final InputStream input = inputStream;
+                 final ChunkPipeline<T> chunks = chunksOf(input, context)) {
+                // Values are processed on the calling thread, in input order
+                chunks.forEachRemaining(values -> values.forEach(valueProcessor::process));
+            }
+
+            return;
+        }
+
         try (final BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
             if (context.isSkipFirstLine()) {
                 reader.readLine(); // skip header
             }
 
-            reader.lines()
-                .filter(line -> filterInvalidLine(context, line))
-                .forEach(line -> {
-                    final T lineType = lineParser.parse(context, line);
-
-                    valueProcessor.process(lineType);
-                });
+            parseLines(reader.lines(), context)
+                .forEach(valueProcessor::process);
         }
     }
 
     @Override
     @SneakyThrows
     public Stream<T> parse(final InputStream inputStream, final LineParserContext<T> context) {
+        if (context.isParallel()) {
+            final ChunkPipeline<T> chunks = chunksOf(inputStream, context);
+
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(chunks, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .flatMap(List::stream)
+                .onClose(chunks::close);
+        }
+
         final BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
         if (context.isSkipFirstLine()) {
             reader.readLine(); // skip header
         }
 
-        return reader.lines()
-            .filter(line -> filterInvalidLine(context, line))
-            .map(line -> lineParser.parse(context, line));
+        return parseLines(reader.lines(), context);
+    }
+
+    private ChunkPipeline<T> chunksOf(final InputStream inputStream, final LineParserContext<T> context) {
+        return new ChunkPipeline<>(inputStream, context, lines -> parseLines(lines, context).toList(), ForkJoinPool.commonPool());
+    }
 
+    private Stream<T> parseLines(final Stream<String> lines, final LineParserContext<T> context) {
+        return lines
+            .map(line -> lineParser.tokenize(context, line))
+            .filter(tokens -> filterInvalidLine(context, tokens))
+            .map(tokens -> lineParser.parse(context, tokens));
     }
 
-    @SuppressWarnings("argument")
-    private static boolean filterInvalidLine(final LineParserContext<?> context, final String line) {
-        if (!context.getLineValidator().isValid(context, line.split(context.getDelimiter()))) {
+    private static boolean filterInvalidLine(final LineParserContext<?> context, final String[] tokens) {
+        // Validators see the tokens of String.split(delimiter), without trailing empty tokens
+        if (!context.getLineValidator().isValid(context, LineTokenizer.withoutTrailingEmpty(tokens))) {
             // TODO (nw) add log message?
             return false;
         }
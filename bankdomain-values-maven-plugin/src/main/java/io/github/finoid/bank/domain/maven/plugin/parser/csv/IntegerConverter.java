@@ -0,0 +1,28 @@
+package io.github.finoid.bank.domain.maven.plugin.parser.csv;
+
+import io.github.finoid.bank.domain.maven.plugin.exceptions.ParseException;
+import org.apache.commons.lang3.StringUtils;
+import org.jspecify.annotations.Nullable;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+/**
+ * Converts a string into an {@link Integer} (e.g., "930").
+ */
+@Singleton
+@Named("integer")
+public class IntegerConverter implements Converter<String, Integer> {
+    @Override
+    public Integer convert(@Nullable String value, final ConverterContext converterContext) {
+        if (StringUtils.isBlank(value)) {
+            throw new ParseException("Integer value is missing or empty");
+        }
+
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (final NumberFormatException e) {
+            throw new ParseException("Invalid number format: '" + value + "'", e);
+        }
+    }
+}
@@ -1,37 +1,30 @@
 package io.github.finoid.bank.domain.maven.plugin.parser.csv;
 
+import io.github.finoid.bank.domain.maven.plugin.Cache;
 import io.github.finoid.bank.domain.maven.plugin.exceptions.ParseException;
-import io.github.finoid.bank.domain.maven.plugin.parser.csv.metadata.ClassMetadata;
 import io.github.finoid.bank.domain.maven.plugin.parser.csv.metadata.ClassMetadataReader;
-import io.github.finoid.bank.domain.maven.plugin.parser.csv.metadata.FieldMetadata;
 import io.github.finoid.bank.domain.maven.plugin.util.Precondition;
-import io.github.finoid.bank.domain.maven.plugin.util.ReflectionUtils;
-import io.github.finoid.bank.domain.maven.plugin.util.StreamUtils;
-import org.apache.commons.lang3.StringUtils;
 import javax.inject.Named;
-import org.jspecify.annotations.Nullable;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import java.lang.reflect.Field;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * Responsible for parsing a single line of structured text (e.g., CSV)
  * into an instance of a domain-specific object {@code T}.
  * <p>
- * Parsing is performed using reflection and annotation metadata via {@link Column},
+ * Parsing is driven by annotation metadata via {@link Column},
  * with optional converters specified for type-safe transformation of field values.
+ * The metadata of each line type is read once into a precompiled {@link RowBinder},
+ * so parsing a line only tokenizes and converts it.
  */
 @Singleton
 @Named
 public class LineParser {
     private final ValueConverter valueConverter;
     private final ClassMetadataReader classMetadataReader;
+    private final Cache<Class<?>, RowBinder<?>> binders = new Cache<>();
+    private final Cache<String, LineTokenizer> tokenizers = new Cache<>();
 
     @Inject
     public LineParser(final ValueConverter valueConverter, final ClassMetadataReader classMetadataReader) {
@@ -48,63 +41,45 @@ public class LineParser {
      * @return a populated instance of type {@code T}
      * @throws ParseException if parsing or field population fails
      */
-    @SuppressWarnings({"argument", "return"})
     public <T> T parse(final LineParserContext<T> context, final String line) {
-        try {
-            final String[] tokens = line.split(context.getDelimiter(), -1);
-
-            final T newInstance = ReflectionUtils.newInstance(context.getLineType());
-
-            final ClassMetadata classMetadata = classMetadataReader.readClass(context.getLineType());
-
-            handleFields(newInstance, classMetadata, tokens);
+        return parse(context, tokenize(context, line));
+    }
 
-            return newInstance;
+    /**
+     * Parses the tokens of a line, as returned by {@link #tokenize(LineParserContext, String)}, into an object of
+     * type {@code T}.
+     *
+     * @param context the line parser context, including the target type
+     * @param tokens  the tokens of the line
+     * @param <T>     the target type to be instantiated and populated
+     * @return a populated instance of type {@code T}
+     * @throws ParseException if parsing or field population fails
+     */
+    public <T> T parse(final LineParserContext<T> context, final String[] tokens) {
+        try {
+            return binderOf(context.getLineType()).bind(tokens);
         } catch (final Exception e) {
             throw new ParseException("Unexpected parse exception. Cause: " + e.getMessage(), e);
         }
     }
 
-    @SuppressWarnings({"method.invocation", "array.access.unsafe.low", "array.access.unsafe.high.constant", "array.access.unsafe.high"})
-    private <T> void handleFields(final T newInstance, final ClassMetadata classMetadata, final String[] tokens) {
-        final List<FieldMetadata> fields = classMetadata.getFieldsAnnotatedWith(Column.class);
-
-        fields.forEach(field -> {
-            final Column column = getColumnAnnotationOfField(field)
-                .orElseThrow();
-
-            final String token = tokens[column.indice()]; // might generate ArrayIndexOutOfBoundsException
-
-            final Class<? extends Converter<String, ?>> converterClazz = column.converter()
-                .type();
-
-            final Map<String, String> converterMetadata = Arrays.stream(column.converter().context()
-                    .split("\\$"))
-                .filter(StringUtils::isNoneBlank)
-                .map(entry -> entry.split("=", 2))
-                .filter(parts -> parts.length == 2 && StringUtils.isNoneBlank(parts[0], parts[1]))
-                .collect(Collectors.toMap(parts -> parts[0].trim(), it -> it[1].trim()));
-
-            final ConverterContext converterContext = ConverterContext.ofMetadata(converterMetadata);
-
-            handleFieldValue(newInstance, field.getField(), converterClazz, converterContext, token);
-        });
-    }
-
-    private <T> void handleFieldValue(final T newInstance, final Field field, final Class<? extends Converter<?, ?>> converterClazz,
-                                      final ConverterContext converterContext, @Nullable final String value) {
-        if (value == null) {
-            return;
-        }
-
-        ReflectionUtils.setValue(newInstance, field,
-            valueConverter.convertValue(converterClazz, converterContext, value));
+    /**
+     * Splits a line on the {@link LineParserContext#getDelimiter() delimiter} of the context, keeping trailing empty
+     * tokens.
+     *
+     * @param context the line parser context
+     * @param line    the line of input text
+     * @return the tokens of the line
+     */
+    @SuppressWarnings("NullAway")
+    public String[] tokenize(final LineParserContext<?> context, final String line) {
+        return tokenizers.getOrDefault(context.getDelimiter(), () -> LineTokenizer.of(context.getDelimiter()))
+            .tokenize(line);
     }
 
-    private static Optional<Column> getColumnAnnotationOfField(final FieldMetadata fieldMetadata) {
-        final List<Column> columnsPoc = fieldMetadata.getAnnotationBy(Column.class);
-
-        return columnsPoc.stream()
-            .reduce(StreamUtils.toOne());
+    @SuppressWarnings({"NullAway", "unchecked"})
+    private <T> RowBinder<T> binderOf(final Class<T> lineType) {
+        return (RowBinder<T>) binders.getOrDefault(lineType,
+            () -> RowBinder.of(lineType, classMetadataReader.readClass(lineType), valueConverter));
     }
 }
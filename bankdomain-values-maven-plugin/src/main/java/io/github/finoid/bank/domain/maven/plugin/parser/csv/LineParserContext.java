@@ -7,6 +7,10 @@ import lombok.Value;
 /**
  * Represents the context configuration for a {@link LineParser} operation.
  * Encapsulates parsing settings like delimiter, type, column expectations, and optional line validation.
+ * <p>
+ * With {@link #isParallel() parallel} set, {@link CsvParser} parses chunks of about {@link #getChunkSize()} bytes
+ * concurrently on the common fork-join pool, and still returns the values in input order. The {@link LineValidator}
+ * and the column converters are then called from several threads.
  *
  * @param <T> the target type to be parsed from the input line
  */
@@ -17,14 +21,18 @@ public class LineParserContext<T> {
     boolean skipFirstLine;
     Class<T> lineType;
     LineValidator lineValidator;
+    boolean parallel;
+    int chunkSize;
 
     LineParserContext(final String delimiter, final int expectedColumnCount, final boolean skipFirstLine, final Class<T> lineType,
-                      final LineValidator lineValidator) {
+                      final LineValidator lineValidator, final boolean parallel, final int chunkSize) {
         this.delimiter = delimiter;
         this.expectedColumnCount = expectedColumnCount;
         this.skipFirstLine = skipFirstLine;
         this.lineType = lineType;
         this.lineValidator = lineValidator;
+        this.parallel = parallel;
+        this.chunkSize = chunkSize;
     }
 
     public static <T> LineParserContextBuilder<T> builder() {
@@ -33,11 +41,15 @@ public class LineParserContext<T> {
 
     @SuppressWarnings("NullAway.Init")
     public static class LineParserContextBuilder<T> {
+        private static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+
         private String delimiter;
         private int expectedColumnCount;
         private boolean skipFirstLine;
         private Class<T> lineType;
         private LineValidator lineValidator = new LineValidator.AlwaysTrue();
+        private boolean parallel;
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
 
         LineParserContextBuilder() {
         }
@@ -67,13 +79,25 @@ public class LineParserContext<T> {
             return this;
         }
 
+        public LineParserContextBuilder<T> parallel(final boolean parallel) {
+            this.parallel = parallel;
+            return this;
+        }
+
+        public LineParserContextBuilder<T> chunkSize(final int chunkSize) {
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
         public LineParserContext<T> build() {
             return new LineParserContext<>(
                 Precondition.nonNull(this.delimiter, "Delimiter must be set"),
                 Precondition.gt(this.expectedColumnCount, 0, "Expected column count must be greater than 0"),
                 this.skipFirstLine,
                 Precondition.nonNull(this.lineType, "LineType must be set"),
-                ObjectUtils.valueOrFallback(this.lineValidator, LineValidator.AlwaysTrue::new)
+                ObjectUtils.valueOrFallback(this.lineValidator, LineValidator.AlwaysTrue::new),
+                this.parallel,
+                Precondition.gt(this.chunkSize, 0, "Chunk size must be greater than 0")
             );
         }
     }
@@ -0,0 +1,78 @@
+package io.github.finoid.bank.domain.maven.plugin.parser.csv;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Splits lines on a {@link LineParserContext#getDelimiter() delimiter}, with the semantics of
+ * {@code String.split(delimiter, -1)}: trailing empty tokens are kept.
+ * <p>
+ * A single-character literal delimiter, such as {@code ;}, is split by scanning for the character. Any other
+ * delimiter is treated as a regular expression and compiled once.
+ */
+final class LineTokenizer {
+    private static final String REGEX_META_CHARACTERS = ".$|()[]{}^?*+\\";
+    private static final String[] NO_TOKENS = new String[0];
+
+    private final char delimiterChar;
+    private final Pattern pattern;
+
+    private LineTokenizer(final char delimiterChar, final Pattern pattern) {
+        this.delimiterChar = delimiterChar;
+        this.pattern = pattern;
+    }
+
+    /**
+     * Creates a tokenizer for the given delimiter.
+     *
+     * @param delimiter the delimiter, a regular expression unless it is a single literal character
+     * @return the tokenizer
+     */
+    static LineTokenizer of(final String delimiter) {
+        final boolean literal = delimiter.length() == 1 && REGEX_META_CHARACTERS.indexOf(delimiter.charAt(0)) < 0;
+
+        return new LineTokenizer(literal ? delimiter.charAt(0) : 0, Pattern.compile(delimiter));
+    }
+
+    /**
+     * Splits the given line into its tokens, keeping trailing empty tokens.
+     *
+     * @param line the line
+     * @return the tokens
+     */
+    String[] tokenize(final String line) {
+        if (delimiterChar == 0) {
+            return pattern.split(line, -1);
+        }
+
+        final List<String> tokens = new ArrayList<>();
+        int start = 0;
+
+        for (int end = line.indexOf(delimiterChar); end >= 0; end = line.indexOf(delimiterChar, start)) {
+            tokens.add(line.substring(start, end));
+            start = end + 1;
+        }
+
+        tokens.add(line.substring(start));
+
+        return tokens.toArray(NO_TOKENS);
+    }
+
+    /**
+     * Returns the tokens without trailing empty tokens, the tokens {@code String.split(delimiter)} returns.
+     *
+     * @param tokens the tokens of a line
+     * @return the given tokens if none are trailing and empty, otherwise a shorter copy
+     */
+    static String[] withoutTrailingEmpty(final String[] tokens) {
+        int length = tokens.length;
+
+        while (length > 0 && tokens[length - 1].isEmpty()) {
+            length--;
+        }
+
+        return length == tokens.length ? tokens : Arrays.copyOf(tokens, length);
+    }
+}
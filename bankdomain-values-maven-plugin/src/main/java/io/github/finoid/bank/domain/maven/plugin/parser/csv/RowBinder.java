@@ -0,0 +1,135 @@
+package io.github.finoid.bank.domain.maven.plugin.parser.csv;
+
+import io.github.finoid.bank.domain.maven.plugin.exceptions.ParseException;
+import io.github.finoid.bank.domain.maven.plugin.exceptions.ReflectionException;
+import io.github.finoid.bank.domain.maven.plugin.parser.csv.metadata.ClassMetadata;
+import io.github.finoid.bank.domain.maven.plugin.parser.csv.metadata.FieldMetadata;
+import io.github.finoid.bank.domain.maven.plugin.util.StreamUtils;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.List;
+
+/**
+ * Binds the tokens of a line to a new instance of a line type, precompiled once per type.
+ * <p>
+ * The {@link Column} annotations, converters and {@link ConverterContext converter contexts} of the line type are
+ * resolved when the binder is created, and the constructor and fields are bound as {@link MethodHandle}s. Binding a
+ * line only converts its tokens and invokes the handles.
+ *
+ * @param <T> the line type
+ */
+final class RowBinder<T> {
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Class<T> lineType;
+    private final MethodHandle constructor;
+    private final ColumnBinding[] columns;
+    private final int minTokenCount;
+
+    private RowBinder(final Class<T> lineType, final MethodHandle constructor, final ColumnBinding[] columns) {
+        this.lineType = lineType;
+        this.constructor = constructor;
+        this.columns = columns;
+
+        int maxIndex = -1;
+        for (final ColumnBinding column : columns) {
+            maxIndex = Math.max(maxIndex, column.index());
+        }
+
+        this.minTokenCount = maxIndex + 1;
+    }
+
+    /**
+     * Creates the binder of the given line type. The type must have a no-args constructor.
+     *
+     * @param lineType       the line type
+     * @param classMetadata  the metadata of the line type
+     * @param valueConverter the converters to resolve the {@link ColumnValueConverter#type() column converters} from
+     * @param <T>            the line type
+     * @return the binder
+     * @throws ReflectionException if the constructor or a column field cannot be accessed
+     */
+    static <T> RowBinder<T> of(final Class<T> lineType, final ClassMetadata classMetadata, final ValueConverter valueConverter) {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+        try {
+            final Constructor<T> constructor = lineType.getDeclaredConstructor();
+            constructor.setAccessible(true);
+
+            final List<FieldMetadata> fields = classMetadata.getFieldsAnnotatedWith(Column.class);
+            final ColumnBinding[] columns = new ColumnBinding[fields.size()];
+
+            for (int i = 0; i < columns.length; i++) {
+                final Field field = fields.get(i).getField();
+                final Column column = fields.get(i).getAnnotationBy(Column.class).stream()
+                    .reduce(StreamUtils.toOne())
+                    .orElseThrow();
+
+                field.setAccessible(true);
+
+                columns[i] = new ColumnBinding(field.getName(), column.indice(),
+                    valueConverter.converterOf(column.converter().type()),
+                    ConverterContext.ofColumnContext(column.converter().context()),
+                    lookup.unreflectSetter(field).asType(SETTER_TYPE));
+            }
+
+            return new RowBinder<>(lineType, lookup.unreflectConstructor(constructor).asType(CONSTRUCTOR_TYPE), columns);
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            throw new ReflectionException(String.format("Unable to bind %s. Cause: %s", lineType, e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Creates a new instance of the line type from the tokens of a line.
+     *
+     * @param tokens the tokens of the line
+     * @return the new instance
+     * @throws ParseException if a column is missing, or a token cannot be converted or set
+     */
+    T bind(final String[] tokens) {
+        if (tokens.length < minTokenCount) {
+            throw new ParseException("Expected at least " + minTokenCount + " columns, but got " + tokens.length);
+        }
+
+        final Object instance = newInstance();
+
+        for (final ColumnBinding column : columns) {
+            @Nullable
+            final Object value;
+            try {
+                value = column.converter().convert(tokens[column.index()], column.context());
+            } catch (final RuntimeException e) {
+                throw new ParseException("Unable to convert column " + column.index() + " to " + column.name() + ". Cause: " + e.getMessage(), e);
+            }
+
+            set(column, instance, value);
+        }
+
+        return lineType.cast(instance);
+    }
+
+    private Object newInstance() {
+        try {
+            return (Object) constructor.invokeExact();
+        } catch (final Throwable e) {
+            throw new ReflectionException(String.format("Unable to instantiate %s. Cause: %s", lineType, e.getMessage()), e);
+        }
+    }
+
+    private void set(final ColumnBinding column, final Object instance, @Nullable final Object value) {
+        try {
+            column.setter().invokeExact(instance, value);
+        } catch (final Throwable e) {
+            throw new ReflectionException(String.format("Unable to set value for %s.%s. Cause: %s", lineType, column.name(), e.getMessage()), e);
+        }
+    }
+
+    private record ColumnBinding(String name, int index, Converter<String, ?> converter, ConverterContext context, MethodHandle setter) {
+    }
+}
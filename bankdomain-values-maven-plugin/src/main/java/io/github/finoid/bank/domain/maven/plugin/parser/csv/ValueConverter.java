@@ -24,14 +24,26 @@ public class ValueConverter {
     @Nullable
     public Object convertValue(final Class<? extends Converter<?, ?>> converterClazz, final ConverterContext converterContext, final String value) {
         try {
-            if (!converters.containsKey(converterClazz)) {
-                throw new RuntimeException("No converter for class " + converterClazz.getName());
-            }
-
-            return converters.get(converterClazz)
+            return converterOf(converterClazz)
                 .convert(value, converterContext);
         } catch (final Exception e) {
             throw new RuntimeException(e); // TODO (nw) contextual converter exception?
         }
     }
+
+    /**
+     * Returns the registered converter of the given class.
+     *
+     * @param converterClazz the converter class
+     * @return the converter
+     * @throws RuntimeException if no converter of the class is registered
+     */
+    @SuppressWarnings("NullAway")
+    public Converter<String, ?> converterOf(final Class<? extends Converter<?, ?>> converterClazz) {
+        if (!converters.containsKey(converterClazz)) {
+            throw new RuntimeException("No converter for class " + converterClazz.getName());
+        }
+
+        return converters.get(converterClazz);
+    }
 }
@@ -0,0 +1,128 @@
+package io.github.finoid.bank.domain.maven.plugin;
+
+import io.github.finoid.bank.domain.maven.plugin.codegen.BankEnumGenerator;
+import io.github.finoid.bank.domain.maven.plugin.codegen.ClearingTableResourceGenerator;
+import io.github.finoid.bank.domain.maven.plugin.parser.csv.AccountTypesConverter;
+import io.github.finoid.bank.domain.maven.plugin.parser.csv.ActorConverter;
+import io.github.finoid.bank.domain.maven.plugin.parser.csv.CsvParser;
+import io.github.finoid.bank.domain.maven.plugin.parser.csv.IntegerConverter;
+import io.github.finoid.bank.domain.maven.plugin.parser.csv.LineParser;
+import io.github.finoid.bank.domain.maven.plugin.parser.csv.NoOpConverter;
+import io.github.finoid.bank.domain.maven.plugin.parser.csv.RangeConverter;
+import io.github.finoid.bank.domain.maven.plugin.parser.csv.ValueConverter;
+import io.github.finoid.bank.domain.maven.plugin.parser.csv.metadata.ClassMetadataReader;
+import org.apache.maven.execution.DefaultMavenExecutionRequest;
+import org.apache.maven.execution.DefaultMavenExecutionResult;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.project.MavenProject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+class CodeGenerationUnitTest {
+    private static final String TAMPERED = "// not generated";
+
+    @TempDir
+    Path directory;
+
+    private Path csv;
+    private Path sourceFile;
+    private Path resourceFile;
+    private Path fingerprintFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        csv = directory.resolve("clearing.csv");
+
+        try (InputStream inputStream = Objects.requireNonNull(
+            CodeGenerationUnitTest.class.getResourceAsStream("/clearingnummertabell-for-nedladdning.csv"))) {
+            Files.write(csv, inputStream.readAllBytes());
+        }
+
+        sourceFile = BankEnumGenerator.sourceFileOf(directory.resolve("target/generated-sources"));
+        resourceFile = directory.resolve("target/generated-resources/bank-domain").resolve(ClearingTableResourceGenerator.RESOURCE_PATH);
+        fingerprintFile = directory.resolve("target/bank-domain-values/code-generation.sha256");
+    }
+
+    @Test
+    void givenFirstBuild_whenExecute_thenSourcesResourceAndFingerprintWritten() {
+        codeGeneration().execute();
+
+        Assertions.assertTrue(Files.isRegularFile(sourceFile));
+        Assertions.assertTrue(Files.isRegularFile(resourceFile));
+        Assertions.assertTrue(Files.isRegularFile(fingerprintFile));
+    }
+
+    @Test
+    void givenUnchangedInputs_whenExecuteAgain_thenGenerationSkipped() throws IOException {
+        codeGeneration().execute();
+        Files.writeString(sourceFile, TAMPERED);
+
+        codeGeneration().execute();
+
+        Assertions.assertEquals(TAMPERED, Files.readString(sourceFile));
+    }
+
+    @Test
+    void givenChangedCsv_whenExecuteAgain_thenRegenerated() throws IOException {
+        codeGeneration().execute();
+        Files.writeString(sourceFile, TAMPERED);
+
+        final List<String> lines = Files.readAllLines(csv);
+        Files.write(csv, lines.subList(0, lines.size() - 2));
+
+        codeGeneration().execute();
+
+        Assertions.assertNotEquals(TAMPERED, Files.readString(sourceFile));
+    }
+
+    @Test
+    void givenFingerprintOfOtherGeneratorCode_whenExecute_thenRegenerated() throws IOException {
+        codeGeneration().execute();
+        Files.writeString(sourceFile, TAMPERED);
+
+        // As recorded by a plugin of the same version built from other generator code
+        GenerationFingerprint.of(Files.readAllBytes(csv), "unknown", "other generator code",
+            directory.resolve("target/generated-sources").toAbsolutePath().toString(),
+            directory.resolve("target/generated-resources/bank-domain").toAbsolutePath().toString()).writeTo(fingerprintFile);
+
+        codeGeneration().execute();
+
+        Assertions.assertNotEquals(TAMPERED, Files.readString(sourceFile));
+    }
+
+    @Test
+    void givenDeletedResource_whenExecuteAgain_thenRegenerated() throws IOException {
+        codeGeneration().execute();
+        Files.delete(resourceFile);
+
+        codeGeneration().execute();
+
+        Assertions.assertTrue(Files.isRegularFile(resourceFile));
+    }
+
+    private CodeGeneration codeGeneration() {
+        final Configuration configuration = new Configuration();
+        configuration.setCsvFilePath(csv.toString());
+
+        final MavenProject project = new MavenProject();
+        project.getBuild().setDirectory(directory.resolve("target").toString());
+
+        final MavenSession session = new MavenSession(null, null, new DefaultMavenExecutionRequest(), new DefaultMavenExecutionResult());
+        session.setCurrentProject(project);
+
+        final LineParser lineParser = new LineParser(new ValueConverter(List.of(new RangeConverter(), new ActorConverter(),
+            new AccountTypesConverter(), new NoOpConverter(), new IntegerConverter())), new ClassMetadataReader());
+
+        return new CodeGeneration(configuration, session, project, new BankEnumGenerator(), new ClearingTableResourceGenerator(),
+            new CsvParser<>(lineParser));
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.finoid.bank.domain.maven.plugin;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+class GenerationFingerprintUnitTest {
+    private static final byte[] CSV = "Clearingnummer;Bank\n3300;Nordea\n".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void givenSameInputs_whenOf_thenSameFingerprint() {
+        Assertions.assertEquals(GenerationFingerprint.of(CSV, "1.0.0", "code", "target/generated-sources"),
+            GenerationFingerprint.of(CSV, "1.0.0", "code", "target/generated-sources"));
+    }
+
+    @Test
+    void givenAnyChangedInput_whenOf_thenDifferentFingerprint() {
+        final GenerationFingerprint fingerprint = GenerationFingerprint.of(CSV, "1.0.0", "code", "target/generated-sources");
+
+        Assertions.assertNotEquals(fingerprint, GenerationFingerprint.of("3300;Nordea\n".getBytes(StandardCharsets.UTF_8), "1.0.0", "code",
+            "target/generated-sources"));
+        Assertions.assertNotEquals(fingerprint, GenerationFingerprint.of(CSV, "1.0.1", "code", "target/generated-sources"));
+        Assertions.assertNotEquals(fingerprint, GenerationFingerprint.of(CSV, "1.0.0", "other code", "target/generated-sources"));
+        Assertions.assertNotEquals(fingerprint, GenerationFingerprint.of(CSV, "1.0.0", "code", "target/other-sources"));
+        Assertions.assertNotEquals(fingerprint, GenerationFingerprint.of(CSV, "1.0.0", "codetarget/generated-sources"));
+    }
+
+    @Test
+    void givenChangedClassFile_whenCodeDigestOf_thenDifferentDigest() throws IOException {
+        final Path classes = Files.createDirectories(directory.resolve("classes/io/github/finoid"));
+        Files.write(classes.resolve("BankEnumGenerator.class"), new byte[] {1, 2, 3});
+        Files.write(classes.resolve("ClearingTableResourceGenerator.class"), new byte[] {4, 5, 6});
+
+        final String before = GenerationFingerprint.codeDigestOf(directory.resolve("classes"));
+
+        Assertions.assertEquals(before, GenerationFingerprint.codeDigestOf(directory.resolve("classes")));
+
+        Files.write(classes.resolve("BankEnumGenerator.class"), new byte[] {1, 2, 4});
+
+        Assertions.assertNotEquals(before, GenerationFingerprint.codeDigestOf(directory.resolve("classes")));
+    }
+
+    @Test
+    void givenChangedJar_whenCodeDigestOf_thenDifferentDigest() throws IOException {
+        final Path jar = Files.write(directory.resolve("plugin.jar"), new byte[] {1, 2, 3});
+        final String before = GenerationFingerprint.codeDigestOf(jar);
+
+        Files.write(jar, new byte[] {1, 2, 3, 4});
+
+        Assertions.assertNotEquals(before, GenerationFingerprint.codeDigestOf(jar));
+    }
+
+    @Test
+    void givenPluginClass_whenCodeDigestOf_thenStableDigestOfItsCodeSource() throws IOException {
+        Assertions.assertEquals(GenerationFingerprint.codeDigestOf(CodeGeneration.class), GenerationFingerprint.codeDigestOf(CodeGeneration.class));
+    }
+
+    @Test
+    void givenWrittenFingerprint_whenIsRecordedIn_thenOnlySameFingerprintRecorded() throws IOException {
+        final Path file = directory.resolve("bank-domain-values/code-generation.sha256");
+        final GenerationFingerprint fingerprint = GenerationFingerprint.of(CSV, "1.0.0", "code");
+
+        Assertions.assertFalse(fingerprint.isRecordedIn(file));
+
+        fingerprint.writeTo(file);
+
+        Assertions.assertTrue(fingerprint.isRecordedIn(file));
+        Assertions.assertFalse(GenerationFingerprint.of(CSV, "1.0.0", "other code").isRecordedIn(file));
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.finoid.bank.domain.maven.plugin.parser.csv;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+
+class ChunkPipelineUnitTest {
+    private static final String INPUT = "Clearingnummer;Bank\r\n"
+        + "3300;Nordea\r\n"
+        + "9960 - 9969;Nordea (Plusgirot)\n"
+        + "6000 - 6999;Handelsbanken, Svenska Handelsbanken AB (publ) med långt namn\n"
+        + "\n"
+        + "9180 - 9189;Danske Bank åäö\r\n"
+        + "9570 - 9579;Sparbanken Syd";
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 5, 13, 64, 1 << 16})
+    void givenAnyChunkSize_whenIterate_thenAllLinesInInputOrder(final int chunkSize) {
+        Assertions.assertEquals(INPUT.lines().toList(), linesOf(INPUT, chunkSize, false));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 5, 13, 64, 1 << 16})
+    void givenSkipFirstLine_whenIterate_thenOnlyHeaderOfFirstChunkSkipped(final int chunkSize) {
+        Assertions.assertEquals(INPUT.lines().skip(1).toList(), linesOf(INPUT, chunkSize, true));
+    }
+
+    @Test
+    void givenChunkBoundaryMidLine_whenIterate_thenEveryChunkEndsAtLineEnd() throws Exception {
+        final List<List<String>> chunks = chunksOf(INPUT, 16, false);
+
+        Assertions.assertTrue(chunks.size() > 1);
+        Assertions.assertEquals(INPUT.lines().toList(), chunks.stream().flatMap(List::stream).toList());
+        Assertions.assertTrue(chunks.stream().flatMap(List::stream).noneMatch(line -> line.endsWith("\r")));
+    }
+
+    @Test
+    void givenMultibyteCharactersAtEveryBoundary_whenIterate_thenDecodedIntact() {
+        final String input = "åäö\nÅÄÖ\n€\n🏦\n";
+
+        Assertions.assertEquals(input.lines().toList(), linesOf(input, 1, false));
+    }
+
+    @Test
+    void givenByteOrderMark_whenIterate_thenKeptLikeBufferedReader() {
+        final String input = "\uFEFF3300;Nordea\n3301;Nordea\n";
+
+        Assertions.assertEquals(List.of("\uFEFF3300;Nordea", "3301;Nordea"), linesOf(input, 4, false));
+    }
+
+    @Test
+    void givenEmptyInput_whenHasNext_thenFalse() {
+        try (ForkJoinPool pool = new ForkJoinPool(2);
+             ChunkPipeline<String> pipeline = pipelineOf("", 16, false, pool)) {
+            Assertions.assertFalse(pipeline.hasNext());
+            Assertions.assertThrows(NoSuchElementException.class, pipeline::next);
+        }
+    }
+
+    @Test
+    void givenClosedPipeline_whenHasNext_thenFalse() {
+        try (ForkJoinPool pool = new ForkJoinPool(2);
+             ChunkPipeline<String> pipeline = pipelineOf(INPUT, 1, false, pool)) {
+            Assertions.assertTrue(pipeline.hasNext());
+
+            pipeline.close();
+
+            Assertions.assertFalse(pipeline.hasNext());
+        }
+    }
+
+    private static List<String> linesOf(final String input, final int chunkSize, final boolean skipFirstLine) {
+        return chunksOf(input, chunkSize, skipFirstLine).stream()
+            .flatMap(List::stream)
+            .toList();
+    }
+
+    private static List<List<String>> chunksOf(final String input, final int chunkSize, final boolean skipFirstLine) {
+        final List<List<String>> chunks = new ArrayList<>();
+
+        try (ForkJoinPool pool = new ForkJoinPool(4);
+             ChunkPipeline<String> pipeline = pipelineOf(input, chunkSize, skipFirstLine, pool)) {
+            pipeline.forEachRemaining(chunks::add);
+        }
+
+        return chunks;
+    }
+
+    private static ChunkPipeline<String> pipelineOf(final String input, final int chunkSize, final boolean skipFirstLine,
+                                                    final ForkJoinPool pool) {
+        final LineParserContext<String> context = LineParserContext.<String>builder()
+            .delimiter(";")
+            .expectedColumnCount(2)
+            .lineType(String.class)
+            .skipFirstLine(skipFirstLine)
+            .chunkSize(chunkSize)
+            .build();
+
+        return new ChunkPipeline<>(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), context,
+            lines -> lines.toList(), pool);
+    }
+}
@@ -0,0 +1,187 @@
+package io.github.finoid.bank.domain.maven.plugin.parser.csv;
+
+import io.github.finoid.bank.domain.maven.plugin.ActorAccountContext;
+import io.github.finoid.bank.domain.maven.plugin.parser.csv.metadata.ClassMetadataReader;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+class CsvParserUnitTest {
+    private static final int[] CHUNK_SIZES = {1, 7, 64, 1 << 10, 1 << 16};
+    private static final int ROW_COUNT = 500;
+
+    private final CsvParser<Row> parser = new CsvParser<>(lineParser());
+
+    static Stream<Arguments> inputVariants() {
+        final List<Arguments> arguments = new ArrayList<>();
+
+        for (final int chunkSize : CHUNK_SIZES) {
+            for (final String lineEnding : List.of("\n", "\r\n")) {
+                for (final boolean byteOrderMark : List.of(false, true)) {
+                    for (final boolean skipFirstLine : List.of(false, true)) {
+                        arguments.add(Arguments.of(chunkSize, lineEnding, byteOrderMark, skipFirstLine));
+                    }
+                }
+            }
+        }
+
+        return arguments.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("inputVariants")
+    void givenInputVariant_whenParseInParallel_thenSameRowsAsSequential(final int chunkSize, final String lineEnding,
+                                                                        final boolean byteOrderMark, final boolean skipFirstLine) {
+        final byte[] input = inputOf(lineEnding, byteOrderMark);
+
+        final List<Row> sequential = parse(input, contextOf(false, chunkSize, skipFirstLine));
+        final List<Row> parallel = parse(input, contextOf(true, chunkSize, skipFirstLine));
+
+        Assertions.assertEquals(sequential, parallel);
+    }
+
+    @ParameterizedTest
+    @MethodSource("inputVariants")
+    void givenInputVariant_whenParseInParallel_thenRowsInInputOrderWithoutHeader(final int chunkSize, final String lineEnding,
+                                                                                final boolean byteOrderMark, final boolean skipFirstLine) {
+        final List<Row> rows = parse(inputOf(lineEnding, byteOrderMark), contextOf(true, chunkSize, skipFirstLine));
+
+        final List<Row> expected = IntStream.range(0, ROW_COUNT)
+            .mapToObj(CsvParserUnitTest::rowOf)
+            .toList();
+
+        Assertions.assertEquals(expected, skipFirstLine ? rows : rows.subList(1, rows.size()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("inputVariants")
+    void givenInputVariant_whenParseInParallelWithValueProcessor_thenSameRowsAsSequential(final int chunkSize, final String lineEnding,
+                                                                                         final boolean byteOrderMark,
+                                                                                         final boolean skipFirstLine) {
+        final byte[] input = inputOf(lineEnding, byteOrderMark);
+        final List<Row> sequential = new ArrayList<>();
+        final List<Row> parallel = new ArrayList<>();
+
+        parser.parse(new ByteArrayInputStream(input), contextOf(false, chunkSize, skipFirstLine), sequential::add);
+        parser.parse(new ByteArrayInputStream(input), contextOf(true, chunkSize, skipFirstLine), parallel::add);
+
+        Assertions.assertEquals(sequential, parallel);
+    }
+
+    @Test
+    void givenClearingCsv_whenParseInParallel_thenSameValuesAsSequential() throws IOException {
+        final byte[] csv;
+        try (InputStream inputStream = Objects.requireNonNull(
+            CsvParserUnitTest.class.getResourceAsStream("/clearingnummertabell-for-nedladdning.csv"))) {
+            csv = inputStream.readAllBytes();
+        }
+
+        final CsvParser<ActorAccountContext> clearingParser = new CsvParser<>(lineParser());
+
+        for (final int chunkSize : CHUNK_SIZES) {
+            try (Stream<ActorAccountContext> sequential = clearingParser.parse(new ByteArrayInputStream(csv), clearingContextOf(false, chunkSize));
+                 Stream<ActorAccountContext> parallel = clearingParser.parse(new ByteArrayInputStream(csv), clearingContextOf(true, chunkSize))) {
+                Assertions.assertEquals(sequential.toList(), parallel.toList(), "chunk size " + chunkSize);
+            }
+        }
+    }
+
+    private List<Row> parse(final byte[] input, final LineParserContext<Row> context) {
+        try (Stream<Row> rows = parser.parse(new ByteArrayInputStream(input), context)) {
+            return rows.toList();
+        }
+    }
+
+    private static byte[] inputOf(final String lineEnding, final boolean byteOrderMark) {
+        final StringBuilder input = new StringBuilder(byteOrderMark ? "\uFEFF" : "")
+            .append("Index;Name").append(lineEnding);
+
+        for (int i = 0; i < ROW_COUNT; i++) {
+            final Row row = rowOf(i);
+            input.append(row.index).append(';').append(row.name).append(lineEnding);
+
+            if (i % 97 == 0) {
+                input.append(lineEnding); // Blank lines are rejected by the validator
+            }
+        }
+
+        return input.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Row rowOf(final int index) {
+        // Names of varying length with multibyte characters, so that chunks are cut at every kind of position
+        return new Row(Integer.toString(index), "Bank åäö " + "€".repeat(index % 13));
+    }
+
+    private static LineParserContext<Row> contextOf(final boolean parallel, final int chunkSize, final boolean skipFirstLine) {
+        return LineParserContext.<Row>builder()
+            .delimiter(";")
+            .expectedColumnCount(2)
+            .lineType(Row.class)
+            .skipFirstLine(skipFirstLine)
+            .lineValidator((context, tokens) -> tokens.length == context.getExpectedColumnCount())
+            .parallel(parallel)
+            .chunkSize(chunkSize)
+            .build();
+    }
+
+    private static LineParserContext<ActorAccountContext> clearingContextOf(final boolean parallel, final int chunkSize) {
+        return LineParserContext.<ActorAccountContext>builder()
+            .delimiter(";")
+            .expectedColumnCount(6)
+            .lineType(ActorAccountContext.class)
+            .skipFirstLine(true)
+            .lineValidator(new BankAccountLineValidator())
+            .parallel(parallel)
+            .chunkSize(chunkSize)
+            .build();
+    }
+
+    private static LineParser lineParser() {
+        return new LineParser(new ValueConverter(List.of(new RangeConverter(), new ActorConverter(), new AccountTypesConverter(),
+            new NoOpConverter(), new IntegerConverter())), new ClassMetadataReader());
+    }
+
+    private static final class Row {
+        @Column(indice = 0)
+        private String index;
+
+        @Column(indice = 1)
+        private String name;
+
+        private Row() {
+        }
+
+        private Row(final String index, final String name) {
+            this.index = index;
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof Row row && index.equals(row.index) && name.equals(row.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(index, name);
+        }
+
+        @Override
+        public String toString() {
+            return index + ";" + name;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.finoid.bank.domain.maven.plugin.parser.csv;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class LineTokenizerUnitTest {
+    @ParameterizedTest
+    @CsvSource(delimiter = '#', quoteCharacter = '\'', value = {
+        ";#3300 - 3300;Nordea;NDEASESS;300;1:1;1",
+        ";#;;;;;",
+        ";#3300;Nordea;",
+        ";#;3300",
+        ";#3300",
+        ";#''",
+        ";#\"3300;3399\";Nordea",
+        "|#3300|Nordea|",
+        ", *#3300,  Nordea,",
+        "\\s+#3300 Nordea  "
+    })
+    void givenDelimiter_whenTokenize_thenSameTokensAsSplitKeepingTrailingEmpty(final String delimiter, final String line) {
+        Assertions.assertArrayEquals(line.split(delimiter, -1), LineTokenizer.of(delimiter).tokenize(line));
+    }
+
+    @Test
+    void givenEmptyTrailingColumns_whenTokenize_thenEmptyTokensKept() {
+        Assertions.assertArrayEquals(new String[] {"9960 - 9969", "Nordea", "", "", "", ""},
+            LineTokenizer.of(";").tokenize("9960 - 9969;Nordea;;;;"));
+    }
+
+    @Test
+    void givenQuotedFieldWithDelimiter_whenTokenize_thenQuotesKeptAndFieldSplit() {
+        Assertions.assertArrayEquals(new String[] {"\"Nordea", " Plusgirot\"", "NDEASESS"},
+            LineTokenizer.of(";").tokenize("\"Nordea; Plusgirot\";NDEASESS"));
+    }
+
+    @Test
+    void givenRegexMetaCharacterDelimiter_whenTokenize_thenTreatedAsRegex() {
+        Assertions.assertArrayEquals(new String[] {"", "", "", ""}, LineTokenizer.of(".").tokenize("abc"));
+        Assertions.assertArrayEquals(new String[] {"3300", "Nordea"}, LineTokenizer.of("\\|").tokenize("3300|Nordea"));
+    }
+
+    @Test
+    void givenTrailingEmptyTokens_whenWithoutTrailingEmpty_thenSameTokensAsSplit() {
+        final String line = "3300;Nordea;;;";
+
+        Assertions.assertArrayEquals(line.split(";"), LineTokenizer.withoutTrailingEmpty(LineTokenizer.of(";").tokenize(line)));
+    }
+
+    @Test
+    void givenOnlyEmptyTokens_whenWithoutTrailingEmpty_thenNoTokens() {
+        Assertions.assertEquals(0, LineTokenizer.withoutTrailingEmpty(LineTokenizer.of(";").tokenize(";;;;;")).length);
+    }
+
+    @Test
+    void givenNoTrailingEmptyTokens_whenWithoutTrailingEmpty_thenSameArray() {
+        final String[] tokens = {"", "3300", "Nordea"};
+
+        Assertions.assertSame(tokens, LineTokenizer.withoutTrailingEmpty(tokens));
+    }
+}
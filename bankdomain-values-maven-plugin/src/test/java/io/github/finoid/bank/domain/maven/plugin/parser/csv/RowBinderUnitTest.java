@@ -0,0 +1,88 @@
+package io.github.finoid.bank.domain.maven.plugin.parser.csv;
+
+import io.github.finoid.bank.domain.maven.plugin.exceptions.ParseException;
+import io.github.finoid.bank.domain.maven.plugin.exceptions.ReflectionException;
+import io.github.finoid.bank.domain.maven.plugin.parser.csv.metadata.ClassMetadataReader;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class RowBinderUnitTest {
+    private static final ValueConverter VALUE_CONVERTER = new ValueConverter(List.of(new NoOpConverter(), new IntegerConverter()));
+
+    @Test
+    void givenTokens_whenBind_thenColumnsConvertedAndSetByIndex() {
+        final Line line = binderOf(Line.class).bind(new String[] {"Nordea", " 300 ", "NDEASESS"});
+
+        Assertions.assertEquals("Nordea", line.name);
+        Assertions.assertEquals(300, line.ibanId);
+        Assertions.assertEquals("NDEASESS", line.bic);
+    }
+
+    @Test
+    void givenEmptyTrailingColumn_whenBind_thenEmptyValueBound() {
+        final Line line = binderOf(Line.class).bind(LineTokenizer.of(";").tokenize("Nordea;300;"));
+
+        Assertions.assertEquals("", line.bic);
+    }
+
+    @Test
+    void givenTrailingEmptyTokensRemoved_whenBind_thenMissingColumnRejected() {
+        final String[] tokens = LineTokenizer.withoutTrailingEmpty(LineTokenizer.of(";").tokenize("Nordea;300;"));
+
+        final ParseException exception = Assertions.assertThrows(ParseException.class, () -> binderOf(Line.class).bind(tokens));
+
+        Assertions.assertEquals("Expected at least 3 columns, but got 2", exception.getMessage());
+    }
+
+    @Test
+    void givenExtraTokens_whenBind_thenIgnored() {
+        final Line line = binderOf(Line.class).bind(new String[] {"Nordea", "300", "NDEASESS", "1:1", "1"});
+
+        Assertions.assertEquals("NDEASESS", line.bic);
+    }
+
+    @Test
+    void givenUnconvertibleToken_whenBind_thenParseExceptionNamesColumn() {
+        final ParseException exception = Assertions.assertThrows(ParseException.class,
+            () -> binderOf(Line.class).bind(new String[] {"Nordea", "NDEASESS", "300"}));
+
+        Assertions.assertTrue(exception.getMessage().startsWith("Unable to convert column 1 to ibanId."), exception.getMessage());
+    }
+
+    @Test
+    void givenSameTokens_whenBindTwice_thenNewInstances() {
+        final RowBinder<Line> binder = binderOf(Line.class);
+        final String[] tokens = {"Nordea", "300", "NDEASESS"};
+
+        Assertions.assertNotSame(binder.bind(tokens), binder.bind(tokens));
+    }
+
+    @Test
+    void givenUnregisteredConverter_whenOf_thenReflectionException() {
+        Assertions.assertThrows(ReflectionException.class, () -> binderOf(RangeLine.class));
+    }
+
+    private static <T> RowBinder<T> binderOf(final Class<T> lineType) {
+        return RowBinder.of(lineType, new ClassMetadataReader().readClass(lineType), VALUE_CONVERTER);
+    }
+
+    private static final class Line {
+        @Column(indice = 0)
+        private String name;
+
+        @Column(indice = 2)
+        private String bic;
+
+        @Column(indice = 1, converter = @ColumnValueConverter(type = IntegerConverter.class))
+        private int ibanId;
+
+        private String ignored;
+    }
+
+    private static final class RangeLine {
+        @Column(indice = 0, converter = @ColumnValueConverter(type = RangeConverter.class, context = "delimiter=-"))
+        private Object range;
+    }
+}